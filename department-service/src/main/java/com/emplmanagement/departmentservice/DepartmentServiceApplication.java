@@ -1,13 +1,24 @@
 package com.emplmanagement.departmentservice;
 
+import com.emplmanagement.spring.accesslog.AccessLogConfig;
+import com.emplmanagement.spring.debuglog.DebugLogConfig;
+import com.emplmanagement.spring.observation.ObservationConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import({AccessLogConfig.class, DebugLogConfig.class, ObservationConfig.class})
 public class DepartmentServiceApplication {
 
+    // Startup steps kept for /actuator/startup; Spring records roughly one per bean
+    private static final int STARTUP_STEPS = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(DepartmentServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(DepartmentServiceApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 
 }
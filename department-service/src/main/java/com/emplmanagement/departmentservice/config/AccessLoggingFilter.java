@@ -1,37 +1,46 @@
 package com.emplmanagement.departmentservice.config;
 
+import com.emplmanagement.common.accesslog.AccessLogPipeline;
+import com.emplmanagement.common.id.RequestIds;
+import io.micrometer.common.KeyValue;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.UUID;
 
 @Component
+@Order(1)
+@Profile("!reactive")
 public class AccessLoggingFilter extends OncePerRequestFilter {
 
-    private static final Logger log = LoggerFactory.getLogger(AccessLoggingFilter.class);
     private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    static final String CORRELATION_ID_TAG = "correlation.id";
+
+    private final AccessLogPipeline accessLog;
+
+    public AccessLoggingFilter(AccessLogPipeline accessLog) {
+        this.accessLog = accessLog;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String correlationId = request.getHeader(CORRELATION_ID_HEADER);
-        if (correlationId == null || correlationId.isBlank()) {
-            correlationId = UUID.randomUUID().toString();
-        }
+        String correlationId = RequestIds.resolve(request.getHeader(CORRELATION_ID_HEADER));
         MDC.put("correlationId", correlationId);
         response.setHeader(CORRELATION_ID_HEADER, correlationId);
+        // On the request's span (not its metrics), so the trace of a logged correlation id can be looked up
+        ServerHttpObservationFilter.findObservationContext(request)
+                .ifPresent(context -> context.addHighCardinalityKeyValue(KeyValue.of(CORRELATION_ID_TAG, correlationId)));
 
         String username = "anonymous";
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -40,25 +49,19 @@ public class AccessLoggingFilter extends OncePerRequestFilter {
         }
         MDC.put("username", username);
 
-        Instant start = Instant.now();
-        String method = request.getMethod();
-        String path = request.getRequestURI();
-        String query = request.getQueryString();
-        String clientIp = request.getRemoteAddr();
+        long start = System.currentTimeMillis();
+        String error = null;
 
         try {
             filterChain.doFilter(request, response);
-            long duration = Duration.between(start, Instant.now()).toMillis();
-            int status = response.getStatus();
-            log.info("ACCESS department method={} path={}{} status={} durationMs={} clientIp={}",
-                    method, path, (query != null ? ("?" + query) : ""), status, duration, clientIp);
-        } catch (Exception ex) {
-            long duration = Duration.between(start, Instant.now()).toMillis();
-            int status = response.getStatus();
-            log.error("ERROR department method={} path={} status={} durationMs={} error={}",
-                    method, path, status, duration, ex.toString());
+        } catch (ServletException | IOException | RuntimeException ex) {
+            error = ex.toString();
             throw ex;
         } finally {
+            long duration = System.currentTimeMillis() - start;
+            accessLog.record(request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                    response.getStatus(), duration, username, request.getRemoteAddr(),
+                    request.getHeader("User-Agent"), correlationId, error);
             MDC.remove("username");
             MDC.remove("correlationId");
         }
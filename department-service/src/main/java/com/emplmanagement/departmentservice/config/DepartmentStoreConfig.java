@@ -0,0 +1,18 @@
+package com.emplmanagement.departmentservice.config;
+
+import com.emplmanagement.departmentservice.store.DepartmentStoreProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * In-memory department store ({@code department-store.*}): department reads are served from an
+ * immutable snapshot, replaced after each committed write and reloaded on a schedule.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableScheduling
+@EnableConfigurationProperties(DepartmentStoreProperties.class)
+public class DepartmentStoreConfig {
+}
@@ -0,0 +1,63 @@
+package com.emplmanagement.departmentservice.config;
+
+import com.emplmanagement.common.accesslog.AccessLogPipeline;
+import com.emplmanagement.common.id.RequestIds;
+import io.micrometer.common.KeyValue;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.security.Principal;
+
+/**
+ * {@link AccessLoggingFilter} for the {@code reactive} profile. The request moves between threads,
+ * so the correlation id is not put in the MDC; it is still echoed and in the access record.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveAccessLoggingFilter implements WebFilter {
+
+    private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
+    private final AccessLogPipeline accessLog;
+
+    public ReactiveAccessLoggingFilter(AccessLogPipeline accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String correlationId = RequestIds.resolve(exchange.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER));
+        exchange.getResponse().getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+        ServerRequestObservationContext.findCurrent(exchange.getAttributes()).ifPresent(context ->
+                context.addHighCardinalityKeyValue(KeyValue.of(AccessLoggingFilter.CORRELATION_ID_TAG, correlationId)));
+
+        long start = System.currentTimeMillis();
+        return exchange.getPrincipal()
+                .map(Principal::getName)
+                .defaultIfEmpty("anonymous")
+                .flatMap(username -> chain.filter(exchange)
+                        .doOnSuccess(done -> record(exchange, username, correlationId, start, null))
+                        .doOnError(ex -> record(exchange, username, correlationId, start, ex.toString())));
+    }
+
+    private void record(ServerWebExchange exchange, String username, String correlationId, long start, String error) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        HttpStatusCode status = response.getStatusCode();
+        InetSocketAddress remote = request.getRemoteAddress();
+        accessLog.record(request.getMethod().name(), request.getPath().value(), request.getURI().getRawQuery(),
+                error != null ? 500 : status != null ? status.value() : 200,
+                System.currentTimeMillis() - start, username,
+                remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : null,
+                request.getHeaders().getFirst("User-Agent"), correlationId, error);
+    }
+}
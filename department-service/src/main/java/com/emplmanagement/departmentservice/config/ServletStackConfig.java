@@ -0,0 +1,17 @@
+package com.emplmanagement.departmentservice.config;
+
+import com.emplmanagement.spring.debuglog.DebugLogFilterConfig;
+import com.emplmanagement.spring.querystats.QueryStatsConfig;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Shared servlet filters: per-request DEBUG logging and SQL statistics. Under the {@code reactive}
+ * profile neither applies; R2DBC is not counted.
+ */
+@Configuration
+@Profile("!reactive")
+@Import({DebugLogFilterConfig.class, QueryStatsConfig.class})
+public class ServletStackConfig {
+}
@@ -2,37 +2,82 @@ package com.emplmanagement.departmentservice.controller;
 
 import com.emplmanagement.departmentservice.dtos.CreateDepartmentRequest;
 import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+import com.emplmanagement.departmentservice.dtos.DepartmentSnapshotDto;
 import com.emplmanagement.departmentservice.service.DepartmentService;
+import com.emplmanagement.departmentservice.store.DepartmentSnapshot;
+import io.micrometer.observation.annotation.Observed;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/departments")
+@Profile("!reactive")
 @RequiredArgsConstructor
+// Every public method is a timer and a span: department.controller{class,method}
+@Observed(name = "department.controller")
 public class DepartmentController {
 
+    // Authenticated data: browsers may keep it but revalidate, shared caches past the gateway must not store it
+    private static final CacheControl PRIVATE_CACHE = CacheControl.noCache().cachePrivate();
+    // Same body for every caller with the same roles: the gateway alone may share it for 30s. Targeted
+    // field (RFC 9213) that the gateway reads and strips, so it never reaches clients or proxies
+    private static final String GATEWAY_CACHE_CONTROL = "Gateway-Cache-Control";
+    private static final String GATEWAY_MAX_AGE = "max-age=30";
+
+    private static final int MAX_BATCH_IDS = 500;
+
     private final DepartmentService service;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public Page<DepartmentDto> getAll(@Parameter(hidden = true) Pageable pageable) {
-        return service.findAll(pageable);
+    public ResponseEntity<Page<DepartmentDto>> getAll(@Parameter(hidden = true) Pageable pageable) {
+        return shareable().body(service.findAll(pageable));
+    }
+
+    // Lets callers resolve many departments in one call instead of one per id. Not marked shareable:
+    // the gateway only invalidates a department and its collection on writes, not arbitrary id sets
+    @GetMapping("/batch")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<List<DepartmentDto>> getByIds(@RequestParam Set<Long> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH_IDS + " ids per batch");
+        }
+        return ResponseEntity.ok(service.findAllById(ids));
+    }
+
+    // The whole set in one call, for clients that keep their own copy. The version is the ETag: sending it
+    // back as If-None-Match answers 304 while nothing changed. Revalidated on every use rather than shared
+    // by the gateway, whose write invalidation does not cover this path
+    @GetMapping("/snapshot")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<DepartmentSnapshotDto> getSnapshot() {
+        DepartmentSnapshot snapshot = service.snapshot();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.version())
+                .body(new DepartmentSnapshotDto(snapshot.version(), snapshot.departments()));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public DepartmentDto getById(@PathVariable Long id) {
-        return service.findById(id);
+    public ResponseEntity<DepartmentDto> getById(@PathVariable Long id) {
+        return shareable().body(service.findById(id));
     }
 
     @PostMapping
@@ -58,4 +103,8 @@ public class DepartmentController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity.BodyBuilder shareable() {
+        return ResponseEntity.ok().cacheControl(PRIVATE_CACHE).header(GATEWAY_CACHE_CONTROL, GATEWAY_MAX_AGE);
+    }
+}
@@ -0,0 +1,112 @@
+package com.emplmanagement.departmentservice.controller;
+
+import com.emplmanagement.departmentservice.dtos.CreateDepartmentRequest;
+import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+import com.emplmanagement.departmentservice.dtos.DepartmentSnapshotDto;
+import com.emplmanagement.departmentservice.service.ReactiveDepartmentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link DepartmentController} on WebFlux, for the {@code reactive} profile: same paths, bodies,
+ * cache headers and roles, with nothing blocking a thread while the database answers.
+ */
+@RestController
+@RequestMapping("/departments")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveDepartmentController {
+
+    // Authenticated data: browsers may keep it but revalidate, shared caches past the gateway must not store it
+    private static final CacheControl PRIVATE_CACHE = CacheControl.noCache().cachePrivate();
+    // Same body for every caller with the same roles: the gateway alone may share it for 30s. Targeted
+    // field (RFC 9213) that the gateway reads and strips, so it never reaches clients or proxies
+    private static final String GATEWAY_CACHE_CONTROL = "Gateway-Cache-Control";
+    private static final String GATEWAY_MAX_AGE = "max-age=30";
+
+    private static final int MAX_BATCH_IDS = 500;
+
+    private final ReactiveDepartmentService service;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public Mono<ResponseEntity<Page<DepartmentDto>>> getAll(Pageable pageable) {
+        return service.findAll(pageable)
+                .map(page -> shareable().body(page));
+    }
+
+    @GetMapping("/batch")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public Mono<ResponseEntity<List<DepartmentDto>>> getByIds(@RequestParam Set<Long> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH_IDS + " ids per batch"));
+        }
+        return service.findAllById(ids)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    // Same contract as DepartmentController#getSnapshot: the version is the ETag, revalidated on every use
+    @GetMapping("/snapshot")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public Mono<ResponseEntity<DepartmentSnapshotDto>> getSnapshot() {
+        return service.snapshot()
+                .map(snapshot -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache())
+                        .eTag(snapshot.version())
+                        .body(new DepartmentSnapshotDto(snapshot.version(), snapshot.departments())));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public Mono<ResponseEntity<DepartmentDto>> getById(@PathVariable Long id) {
+        return service.findById(id)
+                .map(dto -> shareable().body(dto));
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<DepartmentDto>> create(@Valid @RequestBody CreateDepartmentRequest request,
+                                                      ServerWebExchange exchange) {
+        return service.create(request).map(dto -> {
+            URI location = UriComponentsBuilder.fromUri(exchange.getRequest().getURI())
+                    .path("/{id}").buildAndExpand(dto.getId()).toUri();
+            return ResponseEntity.created(location).body(dto);
+        });
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<DepartmentDto> update(
+            @PathVariable Long id,
+            @Valid @RequestBody CreateDepartmentRequest request) {
+        return service.update(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return service.delete(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    private static ResponseEntity.BodyBuilder shareable() {
+        return ResponseEntity.ok().cacheControl(PRIVATE_CACHE).header(GATEWAY_CACHE_CONTROL, GATEWAY_MAX_AGE);
+    }
+}
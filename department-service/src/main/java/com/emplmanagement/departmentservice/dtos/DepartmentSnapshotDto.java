@@ -0,0 +1,12 @@
+package com.emplmanagement.departmentservice.dtos;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class DepartmentSnapshotDto {
+    // Same as the ETag; changes whenever any department does
+    String version;
+    List<DepartmentDto> departments;
+}
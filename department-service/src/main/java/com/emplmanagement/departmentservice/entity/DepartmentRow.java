@@ -0,0 +1,13 @@
+package com.emplmanagement.departmentservice.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * The {@code department} table as R2DBC maps it in the {@code reactive} profile; {@link Department}
+ * is the JPA mapping of the same table. A separate type, because Spring Data treats any repository
+ * of a JPA entity as a JPA repository.
+ */
+@Table("department")
+public record DepartmentRow(@Id Long id, String name, String location) {
+}
@@ -0,0 +1,97 @@
+package com.emplmanagement.departmentservice.grpc;
+
+import com.emplmanagement.department.grpc.DepartmentChange;
+import com.emplmanagement.departmentservice.service.DepartmentChangedEvent;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fans committed department changes out to the open {@code WatchDepartments} streams.
+ * <p>
+ * Nothing is buffered per watcher beyond gRPC's own flow-control window: a watcher that is not
+ * ready for the next change is closed with {@code RESOURCE_EXHAUSTED} and is expected to reload
+ * and watch again, instead of holding memory on the server.
+ */
+@Component
+public class DepartmentChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentChangeFeed.class);
+
+    private final Set<Watcher> watchers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Must be called from the handler of the call, so the cancel handler is registered in time.
+     */
+    void subscribe(ServerCallStreamObserver<DepartmentChange> observer) {
+        Watcher watcher = new Watcher(observer);
+        observer.setOnCancelHandler(() -> watchers.remove(watcher));
+        watchers.add(watcher);
+    }
+
+    @TransactionalEventListener
+    public void onChange(DepartmentChangedEvent event) {
+        if (watchers.isEmpty()) {
+            return;
+        }
+        DepartmentChange.Builder change = DepartmentChange.newBuilder()
+                .setType(DepartmentChange.Type.valueOf(event.type().name()))
+                .setId(event.id());
+        if (event.department() != null) {
+            change.setDepartment(DepartmentGrpcService.toMessage(event.department()));
+        }
+        DepartmentChange message = change.build();
+        for (Watcher watcher : watchers) {
+            if (!watcher.send(message)) {
+                watchers.remove(watcher);
+            }
+        }
+    }
+
+    /**
+     * Ends every open stream, so a graceful server shutdown does not wait for them.
+     */
+    void completeAll() {
+        for (Watcher watcher : watchers) {
+            watcher.complete();
+        }
+        watchers.clear();
+    }
+
+    private record Watcher(ServerCallStreamObserver<DepartmentChange> observer) {
+
+        // StreamObserver is not thread-safe, and changes are committed on many request threads
+        synchronized boolean send(DepartmentChange change) {
+            try {
+                if (observer.isCancelled()) {
+                    return false;
+                }
+                if (!observer.isReady()) {
+                    logger.debug("Closing a department watcher that fell behind");
+                    observer.onError(Status.RESOURCE_EXHAUSTED
+                            .withDescription("Watcher fell behind; reload and watch again").asRuntimeException());
+                    return false;
+                }
+                observer.onNext(change);
+                return true;
+            } catch (RuntimeException e) {
+                logger.debug("Dropping department watcher: {}", e.toString());
+                return false;
+            }
+        }
+
+        synchronized void complete() {
+            try {
+                observer.onCompleted();
+            } catch (RuntimeException e) {
+                // already cancelled
+            }
+        }
+    }
+}
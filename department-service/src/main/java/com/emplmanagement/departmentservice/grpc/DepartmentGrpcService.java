@@ -0,0 +1,72 @@
+package com.emplmanagement.departmentservice.grpc;
+
+import com.emplmanagement.department.grpc.Department;
+import com.emplmanagement.department.grpc.DepartmentChange;
+import com.emplmanagement.department.grpc.DepartmentsGrpc;
+import com.emplmanagement.department.grpc.GetDepartmentRequest;
+import com.emplmanagement.department.grpc.GetDepartmentsRequest;
+import com.emplmanagement.department.grpc.GetDepartmentsResponse;
+import com.emplmanagement.department.grpc.WatchDepartmentsRequest;
+import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+import com.emplmanagement.departmentservice.exception.DepartmentNotFoundException;
+import com.emplmanagement.departmentservice.service.DepartmentService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+
+/**
+ * gRPC counterpart of the read side of {@code DepartmentController}, plus a stream of changes.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class DepartmentGrpcService extends DepartmentsGrpc.DepartmentsImplBase {
+
+    // Same cap as GET /departments/batch
+    private static final int MAX_BATCH_IDS = 500;
+
+    private final DepartmentService service;
+    private final DepartmentChangeFeed changeFeed;
+
+    @Override
+    public void getDepartment(GetDepartmentRequest request, StreamObserver<Department> responseObserver) {
+        try {
+            responseObserver.onNext(toMessage(service.findById(request.getId())));
+            responseObserver.onCompleted();
+        } catch (DepartmentNotFoundException e) {
+            responseObserver.onError(Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void getDepartments(GetDepartmentsRequest request, StreamObserver<GetDepartmentsResponse> responseObserver) {
+        var ids = new HashSet<>(request.getIdsList());
+        if (ids.size() > MAX_BATCH_IDS) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("At most " + MAX_BATCH_IDS + " ids per batch").asRuntimeException());
+            return;
+        }
+        GetDepartmentsResponse.Builder response = GetDepartmentsResponse.newBuilder();
+        service.findAllById(ids).forEach(department -> response.addDepartments(toMessage(department)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void watchDepartments(WatchDepartmentsRequest request, StreamObserver<DepartmentChange> responseObserver) {
+        changeFeed.subscribe((ServerCallStreamObserver<DepartmentChange>) responseObserver);
+    }
+
+    static Department toMessage(DepartmentDto department) {
+        return Department.newBuilder()
+                .setId(department.getId())
+                .setName(department.getName())
+                .setLocation(department.getLocation())
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.emplmanagement.departmentservice.grpc;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import com.emplmanagement.common.id.RequestIds;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.slf4j.MDC;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.util.Set;
+
+/**
+ * The gRPC side of {@code SecurityConfig} and {@code AccessLoggingFilter}: the caller's bearer token
+ * must carry {@code ROLE_USER} or {@code ROLE_ADMIN}, and the correlation id and username are in the
+ * MDC while the call's handlers run, with the debug-log flag when {@link DebugLogSampler} picks the call.
+ */
+class GrpcRequestInterceptor implements ServerInterceptor {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Metadata.Key<String> CORRELATION_ID =
+            Metadata.Key.of("x-correlation-id", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Metadata.Key<String> DEBUG_LOG =
+            Metadata.Key.of(DebugLogSampler.HEADER, Metadata.ASCII_STRING_MARSHALLER);
+    private static final Set<String> ALLOWED_ROLES = Set.of("ROLE_USER", "ROLE_ADMIN");
+    private static final String BEARER = "Bearer ";
+
+    private final JwtDecoder jwtDecoder;
+    private final Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter;
+    private final DebugLogSampler debugLogSampler;
+
+    GrpcRequestInterceptor(JwtDecoder jwtDecoder,
+                           Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter,
+                           DebugLogSampler debugLogSampler) {
+        this.jwtDecoder = jwtDecoder;
+        this.authenticationConverter = authenticationConverter;
+        this.debugLogSampler = debugLogSampler;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                       ServerCallHandler<Q, R> next) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            return reject(call, Status.UNAUTHENTICATED.withDescription("Bearer token required"));
+        }
+        AbstractAuthenticationToken authentication;
+        try {
+            authentication = authenticationConverter.convert(jwtDecoder.decode(authorization.substring(BEARER.length())));
+        } catch (JwtException e) {
+            return reject(call, Status.UNAUTHENTICATED.withDescription("Invalid token"));
+        }
+        boolean allowed = authentication != null && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(ALLOWED_ROLES::contains);
+        if (!allowed) {
+            return reject(call, Status.PERMISSION_DENIED.withDescription("USER or ADMIN role required"));
+        }
+
+        String correlationId = RequestIds.resolve(headers.get(CORRELATION_ID));
+        boolean debugLog = debugLogSampler.decide(headers.get(DEBUG_LOG)).debug();
+        return new MdcListener<>(next.startCall(call, headers), correlationId, authentication.getName(), debugLog);
+    }
+
+    private static <Q, R> ServerCall.Listener<Q> reject(ServerCall<Q, R> call, Status status) {
+        call.close(status, new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+
+    /**
+     * Listener callbacks may run on a different executor thread each, so the MDC is set around every one.
+     */
+    private static final class MdcListener<Q> extends ForwardingServerCallListener.SimpleForwardingServerCallListener<Q> {
+
+        private final String correlationId;
+        private final String username;
+        private final boolean debugLog;
+
+        MdcListener(ServerCall.Listener<Q> delegate, String correlationId, String username, boolean debugLog) {
+            super(delegate);
+            this.correlationId = correlationId;
+            this.username = username;
+            this.debugLog = debugLog;
+        }
+
+        @Override
+        public void onMessage(Q message) {
+            run(() -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            run(super::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            run(super::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            run(super::onComplete);
+        }
+
+        @Override
+        public void onReady() {
+            run(super::onReady);
+        }
+
+        private void run(Runnable callback) {
+            MDC.put("correlationId", correlationId);
+            MDC.put("username", username);
+            if (debugLog) {
+                MDC.put(DebugLogSampler.MDC_KEY, DebugLogSampler.MDC_VALUE);
+            }
+            try {
+                callback.run();
+            } finally {
+                MDC.remove(DebugLogSampler.MDC_KEY);
+                MDC.remove("username");
+                MDC.remove("correlationId");
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.emplmanagement.departmentservice.grpc;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import com.emplmanagement.department.grpc.DepartmentsGrpc;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcServerInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server on its own port ({@code grpc.server.port}, advertised to Eureka as the
+ * {@code grpc-port} metadata entry) for as long as the application context runs.
+ */
+@Component
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final Server server;
+    private final DepartmentChangeFeed changeFeed;
+    private final Duration shutdownGrace;
+    private volatile boolean running;
+
+    public GrpcServerLifecycle(DepartmentsGrpc.DepartmentsImplBase departmentsService,
+                               DepartmentChangeFeed changeFeed,
+                               JwtDecoder jwtDecoder,
+                               JwtAuthenticationConverter jwtAuthenticationConverter,
+                               DebugLogSampler debugLogSampler,
+                               ObservationRegistry observationRegistry,
+                               @Value("${grpc.server.port:9040}") int port,
+                               @Value("${grpc.server.shutdown-grace:10s}") Duration shutdownGrace,
+                               @Value("${grpc.server.permit-keep-alive-time:20s}") Duration permitKeepAliveTime) {
+        this.changeFeed = changeFeed;
+        this.shutdownGrace = shutdownGrace;
+        this.server = NettyServerBuilder.forPort(port)
+                // Last listed runs first: calls rejected by the token check are still observed and traced
+                .addService(ServerInterceptors.intercept(departmentsService,
+                        new GrpcRequestInterceptor(jwtDecoder, jwtAuthenticationConverter, debugLogSampler),
+                        new ObservationGrpcServerInterceptor(observationRegistry)))
+                // Clients keep idle connections (and open watches) alive with pings
+                .permitKeepAliveTime(permitKeepAliveTime.toMillis(), TimeUnit.MILLISECONDS)
+                .permitKeepAliveWithoutCalls(true)
+                .build();
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the gRPC server", e);
+        }
+        running = true;
+        logger.info("gRPC server listening on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        changeFeed.completeAll();
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,86 @@
+package com.emplmanagement.departmentservice.grpc;
+
+import com.emplmanagement.department.grpc.Department;
+import com.emplmanagement.department.grpc.DepartmentChange;
+import com.emplmanagement.department.grpc.DepartmentsGrpc;
+import com.emplmanagement.department.grpc.GetDepartmentRequest;
+import com.emplmanagement.department.grpc.GetDepartmentsRequest;
+import com.emplmanagement.department.grpc.GetDepartmentsResponse;
+import com.emplmanagement.department.grpc.WatchDepartmentsRequest;
+import com.emplmanagement.departmentservice.exception.DepartmentNotFoundException;
+import com.emplmanagement.departmentservice.service.ReactiveDepartmentService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+
+import java.util.HashSet;
+
+/**
+ * {@link DepartmentGrpcService} for the {@code reactive} profile. Calls return as soon as the
+ * query is sent; the response is written when R2DBC delivers the rows, and a cancelled call
+ * cancels its query.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveDepartmentGrpcService extends DepartmentsGrpc.DepartmentsImplBase {
+
+    // Same cap as GET /departments/batch
+    private static final int MAX_BATCH_IDS = 500;
+
+    private final ReactiveDepartmentService service;
+    private final DepartmentChangeFeed changeFeed;
+
+    @Override
+    public void getDepartment(GetDepartmentRequest request, StreamObserver<Department> responseObserver) {
+        Disposable.Swap query = cancelledWith((ServerCallStreamObserver<Department>) responseObserver);
+        query.update(service.findById(request.getId())
+                .map(DepartmentGrpcService::toMessage)
+                .subscribe(department -> {
+                    responseObserver.onNext(department);
+                    responseObserver.onCompleted();
+                }, error -> responseObserver.onError(toStatus(error))));
+    }
+
+    @Override
+    public void getDepartments(GetDepartmentsRequest request, StreamObserver<GetDepartmentsResponse> responseObserver) {
+        var ids = new HashSet<>(request.getIdsList());
+        if (ids.size() > MAX_BATCH_IDS) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("At most " + MAX_BATCH_IDS + " ids per batch").asRuntimeException());
+            return;
+        }
+        Disposable.Swap query = cancelledWith((ServerCallStreamObserver<GetDepartmentsResponse>) responseObserver);
+        query.update(service.findAllById(ids)
+                .map(DepartmentGrpcService::toMessage)
+                .collectList()
+                .subscribe(departments -> {
+                    responseObserver.onNext(GetDepartmentsResponse.newBuilder().addAllDepartments(departments).build());
+                    responseObserver.onCompleted();
+                }, error -> responseObserver.onError(toStatus(error))));
+    }
+
+    @Override
+    public void watchDepartments(WatchDepartmentsRequest request, StreamObserver<DepartmentChange> responseObserver) {
+        changeFeed.subscribe((ServerCallStreamObserver<DepartmentChange>) responseObserver);
+    }
+
+    // The handler is set before subscribing, so a cancellation can never miss the query
+    private static Disposable.Swap cancelledWith(ServerCallStreamObserver<?> observer) {
+        Disposable.Swap query = Disposables.swap();
+        observer.setOnCancelHandler(query::dispose);
+        return query;
+    }
+
+    private static RuntimeException toStatus(Throwable error) {
+        if (error instanceof DepartmentNotFoundException) {
+            return Status.NOT_FOUND.withDescription(error.getMessage()).asRuntimeException();
+        }
+        return Status.INTERNAL.withDescription("Department lookup failed").withCause(error).asRuntimeException();
+    }
+}
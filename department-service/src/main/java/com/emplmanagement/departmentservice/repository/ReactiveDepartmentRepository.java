@@ -0,0 +1,11 @@
+package com.emplmanagement.departmentservice.repository;
+
+import com.emplmanagement.departmentservice.entity.DepartmentRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveDepartmentRepository extends R2dbcRepository<DepartmentRow, Long> {
+
+    Flux<DepartmentRow> findAllBy(Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package com.emplmanagement.departmentservice.service;
+
+import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+
+/**
+ * Published by {@link DepartmentService} inside the writing transaction; listeners that need the
+ * change to be visible use {@code @TransactionalEventListener}.
+ *
+ * @param department the state after the change, {@code null} for {@link Type#DELETED}
+ */
+public record DepartmentChangedEvent(Type type, Long id, DepartmentDto department) {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    static DepartmentChangedEvent created(DepartmentDto department) {
+        return new DepartmentChangedEvent(Type.CREATED, department.getId(), department);
+    }
+
+    static DepartmentChangedEvent updated(DepartmentDto department) {
+        return new DepartmentChangedEvent(Type.UPDATED, department.getId(), department);
+    }
+
+    static DepartmentChangedEvent deleted(Long id) {
+        return new DepartmentChangedEvent(Type.DELETED, id, null);
+    }
+}
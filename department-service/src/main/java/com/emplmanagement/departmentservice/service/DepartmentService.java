@@ -5,30 +5,91 @@ import com.emplmanagement.departmentservice.dtos.DepartmentDto;
 import com.emplmanagement.departmentservice.entity.Department;
 import com.emplmanagement.departmentservice.exception.DepartmentNotFoundException;
 import com.emplmanagement.departmentservice.repository.DepartmentRepository;
+import com.emplmanagement.departmentservice.store.DepartmentSnapshot;
+import com.emplmanagement.departmentservice.store.DepartmentStore;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
+// Every public method is a timer and a span: department.service{class,method}
+@Observed(name = "department.service")
 public class DepartmentService {
 
     private final DepartmentRepository repository;
+    private final ApplicationEventPublisher events;
+    private final DepartmentStore store;
+
+    // Reads have no transaction: served from the store they need no connection, and the
+    // repository opens its own on a fallback
 
-    @Transactional(readOnly = true)
     public Page<DepartmentDto> findAll(Pageable pageable) {
+        // Other sorts are left to the database, whose collation decides the order of names
+        if (store.isEnabled() && sortedByIdOnly(pageable.getSort())) {
+            return page(store.snapshot().departments(), pageable);
+        }
         return repository.findAll(pageable)
                 .map(this::toDto);
     }
 
-    @Transactional(readOnly = true)
     public DepartmentDto findById(Long id) {
+        if (store.isEnabled()) {
+            DepartmentDto department = store.find(id);
+            if (department != null) {
+                return department;
+            }
+        }
+        // Not in the snapshot: possibly created through another replica since its last reload
         return toDto(repository.findById(id)
                 .orElseThrow(() -> new DepartmentNotFoundException(id)));
     }
 
+    /**
+     * Departments with the given ids, in no particular order; unknown ids are skipped.
+     */
+    public List<DepartmentDto> findAllById(Collection<Long> ids) {
+        if (!store.isEnabled()) {
+            return repository.findAllById(ids).stream()
+                    .map(this::toDto)
+                    .toList();
+        }
+        List<DepartmentDto> found = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            DepartmentDto department = store.find(id);
+            if (department != null) {
+                found.add(department);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            repository.findAllById(missing).forEach(department -> found.add(toDto(department)));
+        }
+        return found;
+    }
+
+    /**
+     * Every department, with a version that changes whenever one of them does.
+     */
+    public DepartmentSnapshot snapshot() {
+        return store.snapshot();
+    }
+
     @Transactional
     public DepartmentDto create(CreateDepartmentRequest request) {
         Department department = Department.builder()
@@ -36,7 +97,9 @@ public class DepartmentService {
                 .location(request.getLocation())
                 .build();
         Department saved = repository.save(department);
-        return toDto(saved);
+        DepartmentDto dto = toDto(saved);
+        events.publishEvent(DepartmentChangedEvent.created(dto));
+        return dto;
     }
 
     @Transactional
@@ -45,7 +108,9 @@ public class DepartmentService {
                 .orElseThrow(() -> new DepartmentNotFoundException(id));
         department.setName(request.getName());
         department.setLocation(request.getLocation());
-        return toDto(repository.save(department));
+        DepartmentDto dto = toDto(repository.save(department));
+        events.publishEvent(DepartmentChangedEvent.updated(dto));
+        return dto;
     }
 
     @Transactional
@@ -54,6 +119,30 @@ public class DepartmentService {
             throw new DepartmentNotFoundException(id);
         }
         repository.deleteById(id);
+        events.publishEvent(DepartmentChangedEvent.deleted(id));
+    }
+
+    private static boolean sortedByIdOnly(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && orders.get(0).getProperty().equals("id");
+    }
+
+    private static Page<DepartmentDto> page(List<DepartmentDto> byId, Pageable pageable) {
+        List<DepartmentDto> departments = byId;
+        Sort.Order order = pageable.getSort().getOrderFor("id");
+        if (order != null && order.isDescending()) {
+            departments = new ArrayList<>(byId);
+            Collections.reverse(departments);
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(departments, pageable, departments.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), departments.size());
+        int to = Math.min(from + pageable.getPageSize(), departments.size());
+        return new PageImpl<>(departments.subList(from, to), pageable, departments.size());
     }
 
     private DepartmentDto toDto(Department d) {
@@ -0,0 +1,104 @@
+package com.emplmanagement.departmentservice.service;
+
+import com.emplmanagement.departmentservice.dtos.CreateDepartmentRequest;
+import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+import com.emplmanagement.departmentservice.entity.DepartmentRow;
+import com.emplmanagement.departmentservice.exception.DepartmentNotFoundException;
+import com.emplmanagement.departmentservice.repository.ReactiveDepartmentRepository;
+import com.emplmanagement.departmentservice.store.DepartmentSnapshot;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * {@link DepartmentService} for the {@code reactive} profile, over R2DBC. Change events are
+ * published in the reactive transaction, so transactional listeners still see them after commit.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveDepartmentService {
+
+    private final ReactiveDepartmentRepository repository;
+    private final TransactionalEventPublisher events;
+
+    public ReactiveDepartmentService(ReactiveDepartmentRepository repository, ApplicationEventPublisher events) {
+        this.repository = repository;
+        this.events = new TransactionalEventPublisher(events);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<Page<DepartmentDto>> findAll(Pageable pageable) {
+        return repository.findAllBy(pageable)
+                .map(this::toDto)
+                .collectList()
+                .zipWith(repository.count())
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<DepartmentDto> findById(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new DepartmentNotFoundException(id)))
+                .map(this::toDto);
+    }
+
+    /**
+     * Departments with the given ids, in no particular order; unknown ids are skipped.
+     */
+    @Transactional(readOnly = true)
+    public Flux<DepartmentDto> findAllById(Collection<Long> ids) {
+        return repository.findAllById(ids)
+                .map(this::toDto);
+    }
+
+    /**
+     * All departments, read in one query. Not held in memory under this profile: the version is
+     * computed from the content, so it matches the one the servlet profile's store reports.
+     */
+    @Transactional(readOnly = true)
+    public Mono<DepartmentSnapshot> snapshot() {
+        return repository.findAll()
+                .map(this::toDto)
+                .collectList()
+                .map(DepartmentSnapshot::of);
+    }
+
+    @Transactional
+    public Mono<DepartmentDto> create(CreateDepartmentRequest request) {
+        return repository.save(new DepartmentRow(null, request.getName(), request.getLocation()))
+                .map(this::toDto)
+                .flatMap(dto -> events.publishEvent(DepartmentChangedEvent.created(dto)).thenReturn(dto));
+    }
+
+    @Transactional
+    public Mono<DepartmentDto> update(Long id, CreateDepartmentRequest request) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new DepartmentNotFoundException(id)))
+                .flatMap(department -> repository.save(
+                        new DepartmentRow(department.id(), request.getName(), request.getLocation())))
+                .map(this::toDto)
+                .flatMap(dto -> events.publishEvent(DepartmentChangedEvent.updated(dto)).thenReturn(dto));
+    }
+
+    @Transactional
+    public Mono<Void> delete(Long id) {
+        return repository.existsById(id)
+                .flatMap(exists -> exists
+                        ? repository.deleteById(id)
+                        : Mono.error(new DepartmentNotFoundException(id)))
+                .then(events.publishEvent(DepartmentChangedEvent.deleted(id)));
+    }
+
+    private DepartmentDto toDto(DepartmentRow d) {
+        return new DepartmentDto(d.id(), d.name(), d.location());
+    }
+}
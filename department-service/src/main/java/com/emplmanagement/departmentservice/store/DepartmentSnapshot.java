@@ -0,0 +1,126 @@
+package com.emplmanagement.departmentservice.store;
+
+import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Immutable set of departments: ids in a sorted {@code long[]}, looked up by binary search, and
+ * the departments in a parallel array. Changes produce a new snapshot.
+ * <p>
+ * The version is a hash of the content, so replicas holding the same departments report the same
+ * version, and a reload that finds nothing new keeps it.
+ */
+public final class DepartmentSnapshot {
+
+    static final DepartmentSnapshot EMPTY = new DepartmentSnapshot(new long[0], new DepartmentDto[0]);
+
+    private final long[] ids;
+    private final DepartmentDto[] departments;
+    private final List<DepartmentDto> list;
+    private final String version;
+
+    private DepartmentSnapshot(long[] ids, DepartmentDto[] departments) {
+        this.ids = ids;
+        this.departments = departments;
+        this.list = List.of(departments);
+        this.version = hash(departments);
+    }
+
+    /**
+     * A snapshot of these departments, in any order.
+     */
+    public static DepartmentSnapshot of(Collection<DepartmentDto> departments) {
+        DepartmentDto[] sorted = departments.toArray(DepartmentDto[]::new);
+        Arrays.sort(sorted, Comparator.comparing(DepartmentDto::getId));
+        long[] ids = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].getId();
+        }
+        return new DepartmentSnapshot(ids, sorted);
+    }
+
+    /**
+     * The department with this id, or {@code null}.
+     */
+    public DepartmentDto get(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? departments[index] : null;
+    }
+
+    /**
+     * All departments, by id.
+     */
+    public List<DepartmentDto> departments() {
+        return list;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * A copy with {@code department} added, or replacing the one with its id.
+     */
+    DepartmentSnapshot with(DepartmentDto department) {
+        int index = Arrays.binarySearch(ids, department.getId());
+        if (index >= 0) {
+            DepartmentDto[] replaced = departments.clone();
+            replaced[index] = department;
+            return new DepartmentSnapshot(ids, replaced);
+        }
+        int at = -index - 1;
+        long[] newIds = new long[ids.length + 1];
+        DepartmentDto[] newDepartments = new DepartmentDto[ids.length + 1];
+        System.arraycopy(ids, 0, newIds, 0, at);
+        System.arraycopy(departments, 0, newDepartments, 0, at);
+        newIds[at] = department.getId();
+        newDepartments[at] = department;
+        System.arraycopy(ids, at, newIds, at + 1, ids.length - at);
+        System.arraycopy(departments, at, newDepartments, at + 1, ids.length - at);
+        return new DepartmentSnapshot(newIds, newDepartments);
+    }
+
+    /**
+     * A copy without the department with this id; this snapshot if there is none.
+     */
+    DepartmentSnapshot without(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        long[] newIds = new long[ids.length - 1];
+        DepartmentDto[] newDepartments = new DepartmentDto[ids.length - 1];
+        System.arraycopy(ids, 0, newIds, 0, index);
+        System.arraycopy(departments, 0, newDepartments, 0, index);
+        System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+        System.arraycopy(departments, index + 1, newDepartments, index, ids.length - index - 1);
+        return new DepartmentSnapshot(newIds, newDepartments);
+    }
+
+    private static String hash(DepartmentDto[] departments) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (DepartmentDto department : departments) {
+            // Unit separators keep "a"+"bc" and "ab"+"c" apart
+            String row = department.getId() + "\u001f" + department.getName() + "\u001f" + department.getLocation() + "\u001e";
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+}
@@ -0,0 +1,148 @@
+package com.emplmanagement.departmentservice.store;
+
+import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+import com.emplmanagement.departmentservice.entity.Department;
+import com.emplmanagement.departmentservice.repository.DepartmentRepository;
+import com.emplmanagement.departmentservice.service.DepartmentChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves department reads from an in-memory {@link DepartmentSnapshot} instead of the database.
+ * <p>
+ * Readers take the current snapshot without locking. After each committed write through this
+ * replica the snapshot is replaced by a copy with the change applied, so this replica reads its own
+ * writes at once. The whole set is reloaded on startup and every {@code department-store.refresh-interval},
+ * which picks up writes made through other replicas and repairs anything missed. Each applied change
+ * bumps a generation, and a reload that overlapped a change reads again rather than installing rows
+ * that may predate it.
+ */
+@Component
+@Profile("!reactive")
+public class DepartmentStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentStore.class);
+
+    private final DepartmentRepository repository;
+    private final DepartmentStoreProperties properties;
+
+    // Writers (reloads and changes) synchronize on this; readers only read the volatile snapshot
+    private final Object writeLock = new Object();
+    private volatile DepartmentSnapshot snapshot;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+
+    public DepartmentStore(DepartmentRepository repository, DepartmentStoreProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+
+        FunctionCounter.builder("department.store.reads", hits, LongAdder::sum)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("department.store.reads", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Ids not in the snapshot, looked up in the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("department.store.reloads", reloads, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("department.store.departments", this, store -> {
+                    DepartmentSnapshot current = store.snapshot;
+                    return current != null ? current.size() : 0;
+                })
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * The current snapshot, loaded on first use. When the store is disabled, a fresh one per call.
+     */
+    public DepartmentSnapshot snapshot() {
+        if (!properties.enabled()) {
+            return load();
+        }
+        DepartmentSnapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * The department from the snapshot, or {@code null} if it is not there; counted as a hit or a miss.
+     */
+    public DepartmentDto find(long id) {
+        DepartmentDto department = snapshot().get(id);
+        (department != null ? hits : misses).increment();
+        return department;
+    }
+
+    @Scheduled(fixedDelayString = "${department-store.refresh-interval:30s}")
+    public void refresh() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.warn("Department snapshot reload failed, keeping the current one: {}", e.toString());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onChange(DepartmentChangedEvent event) {
+        synchronized (writeLock) {
+            generation++;
+            // Not loaded yet: the first load reads the change
+            if (snapshot == null) {
+                return;
+            }
+            snapshot = event.type() == DepartmentChangedEvent.Type.DELETED
+                    ? snapshot.without(event.id())
+                    : snapshot.with(event.department());
+        }
+    }
+
+    private DepartmentSnapshot reload() {
+        while (true) {
+            long readGeneration;
+            synchronized (writeLock) {
+                readGeneration = generation;
+            }
+            DepartmentSnapshot loaded = load();
+            synchronized (writeLock) {
+                if (generation == readGeneration) {
+                    reloads.increment();
+                    // Same content, same version: keep the instance clients already have
+                    if (snapshot == null || !snapshot.version().equals(loaded.version())) {
+                        snapshot = loaded;
+                    }
+                    return snapshot;
+                }
+            }
+            // A change committed while the rows were read; they may predate it
+        }
+    }
+
+    private DepartmentSnapshot load() {
+        return DepartmentSnapshot.of(repository.findAll(Sort.by("id")).stream()
+                .map(DepartmentStore::toDto)
+                .toList());
+    }
+
+    private static DepartmentDto toDto(Department d) {
+        return new DepartmentDto(d.getId(), d.getName(), d.getLocation());
+    }
+}
@@ -0,0 +1,19 @@
+package com.emplmanagement.departmentservice.store;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-memory department store ({@code department-store.*}).
+ *
+ * @param enabled         serve department reads from memory; off, every read queries the database
+ * @param refreshInterval how often the snapshot is reloaded from the database, which is how long
+ *                        writes made through other replicas can take to show up here
+ */
+@ConfigurationProperties(prefix = "department-store")
+public record DepartmentStoreProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration refreshInterval) {
+}
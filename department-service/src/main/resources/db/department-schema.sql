@@ -0,0 +1,7 @@
+-- The table Hibernate creates for the servlet stack (ddl-auto), for the reactive profile, which has no Hibernate
+create table if not exists department (
+    id bigint generated by default as identity,
+    location varchar(255),
+    name varchar(255),
+    primary key (id)
+);
@@ -0,0 +1,78 @@
+package com.emplmanagement.departmentservice.store;
+
+import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DepartmentSnapshotTest {
+
+    private static final DepartmentDto SALES = new DepartmentDto(2L, "Sales", "Berlin");
+    private static final DepartmentDto LEGAL = new DepartmentDto(5L, "Legal", "Paris");
+    private static final DepartmentDto FINANCE = new DepartmentDto(9L, "Finance", "Madrid");
+
+    private final DepartmentSnapshot snapshot = DepartmentSnapshot.of(List.of(FINANCE, SALES, LEGAL));
+
+    @Test
+    void departmentsAreKeptById() {
+        assertEquals(List.of(SALES, LEGAL, FINANCE), snapshot.departments());
+        assertEquals(LEGAL, snapshot.get(5));
+        assertNull(snapshot.get(4));
+        assertNull(DepartmentSnapshot.EMPTY.get(1));
+    }
+
+    @Test
+    void withInsertsInIdOrder() {
+        DepartmentDto first = new DepartmentDto(1L, "HR", "Rome");
+        DepartmentDto middle = new DepartmentDto(7L, "IT", "Oslo");
+        DepartmentDto last = new DepartmentDto(12L, "Ops", "Lyon");
+
+        DepartmentSnapshot grown = snapshot.with(middle).with(last).with(first);
+
+        assertEquals(List.of(first, SALES, LEGAL, middle, FINANCE, last), grown.departments());
+        assertEquals(middle, grown.get(7));
+        // The original is untouched
+        assertEquals(3, snapshot.size());
+        assertNull(snapshot.get(7));
+    }
+
+    @Test
+    void withReplacesTheSameId() {
+        DepartmentDto renamed = new DepartmentDto(5L, "Compliance", "Paris");
+
+        DepartmentSnapshot updated = snapshot.with(renamed);
+
+        assertEquals(List.of(SALES, renamed, FINANCE), updated.departments());
+        assertEquals(LEGAL, snapshot.get(5));
+    }
+
+    @Test
+    void withoutRemovesTheId() {
+        assertEquals(List.of(LEGAL, FINANCE), snapshot.without(2).departments());
+        assertEquals(List.of(SALES, LEGAL), snapshot.without(9).departments());
+        assertEquals(List.of(SALES, FINANCE), snapshot.without(5).departments());
+        assertEquals(3, snapshot.size());
+    }
+
+    @Test
+    void withoutAMissingIdIsTheSameSnapshot() {
+        assertSame(snapshot, snapshot.without(4));
+    }
+
+    @Test
+    void versionFollowsTheContent() {
+        assertEquals(snapshot.version(), DepartmentSnapshot.of(List.of(SALES, LEGAL, FINANCE)).version());
+        assertEquals(snapshot.version(), snapshot.with(new DepartmentDto(5L, "Legal", "Paris")).version());
+        assertEquals(snapshot.version(), snapshot.without(5).with(LEGAL).version());
+        assertNotEquals(snapshot.version(), snapshot.with(new DepartmentDto(5L, "Legal", "Lyon")).version());
+        assertNotEquals(snapshot.version(), snapshot.without(5).version());
+        // Field boundaries count
+        assertNotEquals(DepartmentSnapshot.of(List.of(new DepartmentDto(1L, "ab", "c"))).version(),
+                DepartmentSnapshot.of(List.of(new DepartmentDto(1L, "a", "bc"))).version());
+    }
+}
@@ -0,0 +1,117 @@
+package com.emplmanagement.departmentservice.store;
+
+import com.emplmanagement.departmentservice.dtos.DepartmentDto;
+import com.emplmanagement.departmentservice.entity.Department;
+import com.emplmanagement.departmentservice.repository.DepartmentRepository;
+import com.emplmanagement.departmentservice.service.DepartmentChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DepartmentStoreTest {
+
+    private static final Department SALES = new Department(2L, "Sales", "Berlin");
+    private static final Department LEGAL = new Department(5L, "Legal", "Paris");
+
+    private final DepartmentRepository repository = mock(DepartmentRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DepartmentStore store = store(true);
+
+    @Test
+    void snapshotIsLoadedOnceAndServed() {
+        when(repository.findAll(any(Sort.class))).thenReturn(List.of(SALES, LEGAL));
+
+        assertEquals("Legal", store.find(5).getName());
+        assertNull(store.find(3));
+
+        verify(repository, times(1)).findAll(any(Sort.class));
+        assertEquals(1, meterRegistry.get("department.store.reads").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("department.store.reads").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void committedChangesApplyWithoutAReload() {
+        when(repository.findAll(any(Sort.class))).thenReturn(List.of(SALES, LEGAL));
+        store.snapshot();
+        DepartmentDto created = new DepartmentDto(7L, "IT", "Oslo");
+
+        store.onChange(new DepartmentChangedEvent(DepartmentChangedEvent.Type.CREATED, 7L, created));
+        store.onChange(new DepartmentChangedEvent(DepartmentChangedEvent.Type.DELETED, 2L, null));
+
+        assertEquals(List.of(new DepartmentDto(5L, "Legal", "Paris"), created), store.snapshot().departments());
+        verify(repository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void reloadOverlappingAChangeReadsAgain() {
+        Department renamed = new Department(5L, "Compliance", "Paris");
+        // The first read returns rows from before a change that commits while they are read
+        when(repository.findAll(any(Sort.class)))
+                .thenAnswer(invocation -> {
+                    store.onChange(new DepartmentChangedEvent(DepartmentChangedEvent.Type.UPDATED, 5L,
+                            new DepartmentDto(5L, "Compliance", "Paris")));
+                    return List.of(SALES, LEGAL);
+                })
+                .thenReturn(List.of(SALES, renamed));
+
+        assertEquals("Compliance", store.find(5).getName());
+        verify(repository, times(2)).findAll(any(Sort.class));
+        assertEquals(1, meterRegistry.get("department.store.reloads").functionCounter().count());
+    }
+
+    @Test
+    void reloadWithTheSameContentKeepsTheSnapshot() {
+        when(repository.findAll(any(Sort.class))).thenReturn(List.of(SALES, LEGAL));
+        DepartmentSnapshot first = store.snapshot();
+
+        store.refresh();
+        assertSame(first, store.snapshot());
+
+        when(repository.findAll(any(Sort.class))).thenReturn(List.of(SALES));
+        store.refresh();
+        assertNotSame(first, store.snapshot());
+        assertEquals(1, store.snapshot().size());
+    }
+
+    @Test
+    void failedRefreshKeepsTheCurrentSnapshot() {
+        when(repository.findAll(any(Sort.class))).thenReturn(List.of(SALES, LEGAL));
+        DepartmentSnapshot first = store.snapshot();
+        when(repository.findAll(any(Sort.class))).thenThrow(new DataAccessResourceFailureException("database down"));
+
+        store.refresh();
+
+        assertSame(first, store.snapshot());
+    }
+
+    @Test
+    void disabledStoreReadsTheDatabaseEachTime() {
+        DepartmentStore disabled = store(false);
+        when(repository.findAll(any(Sort.class))).thenReturn(List.of(SALES, LEGAL));
+
+        disabled.snapshot();
+        disabled.snapshot();
+        disabled.refresh();
+
+        verify(repository, times(2)).findAll(any(Sort.class));
+    }
+
+    private DepartmentStore store(boolean enabled) {
+        return new DepartmentStore(repository, new DepartmentStoreProperties(enabled, Duration.ofSeconds(30)),
+                meterRegistry);
+    }
+}
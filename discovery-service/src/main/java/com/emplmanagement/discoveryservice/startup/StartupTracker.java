@@ -0,0 +1,57 @@
+package com.emplmanagement.discoveryservice.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to ready of the registry, as the {@code startup.time.to.ready} gauge (time since the JVM
+ * started, {@code NaN} before). The registry registers nowhere and calls no other service, so it
+ * has none of the other milestones the services track.
+ */
+@Component
+public class StartupTracker implements MeterBinder {
+
+	private static final Logger logger = LoggerFactory.getLogger(StartupTracker.class);
+
+	private volatile Duration springStartup;
+	private volatile Duration timeToReady;
+
+	/**
+	 * Time Spring took from {@code SpringApplication.run} to ready, {@code null} before that.
+	 * Unlike {@link #timeToReady()} it leaves out the JVM's own start.
+	 */
+	public Duration springStartup() {
+		return springStartup;
+	}
+
+	public Duration timeToReady() {
+		return timeToReady;
+	}
+
+	@EventListener
+	public void onReady(ApplicationReadyEvent event) {
+		springStartup = event.getTimeTaken();
+		timeToReady = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+		logger.info("Ready {} ms after JVM start, {} ms of it in Spring",
+				timeToReady.toMillis(), springStartup.toMillis());
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		TimeGauge.builder("startup.time.to.ready", this, TimeUnit.MILLISECONDS,
+						tracker -> tracker.timeToReady == null ? Double.NaN : tracker.timeToReady.toMillis())
+				.description("JVM start until the application is ready")
+				.register(registry);
+	}
+
+}
@@ -1,13 +1,26 @@
 package com.emplmanagement.discoveryservice;
 
+import com.emplmanagement.discoveryservice.startup.StartupTracker;
+import com.emplmanagement.spring.startup.StartupBudgetTests;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
+
 @SpringBootTest
-class DiscoveryServiceApplicationTests {
+class DiscoveryServiceApplicationTests extends StartupBudgetTests {
+
+	@Autowired
+	private StartupTracker startupTracker;
 
 	@Test
 	void contextLoads() {
 	}
 
+	@Override
+	protected Duration springStartup() {
+		return startupTracker.springStartup();
+	}
+
 }
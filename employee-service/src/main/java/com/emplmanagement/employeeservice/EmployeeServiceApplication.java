@@ -1,14 +1,33 @@
 package com.emplmanagement.employeeservice;
 
+import com.emplmanagement.employeeservice.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import com.emplmanagement.spring.accesslog.AccessLogConfig;
+import com.emplmanagement.spring.debuglog.DebugLogConfig;
+import com.emplmanagement.spring.debuglog.DebugLogFilterConfig;
+import com.emplmanagement.spring.observation.ObservationConfig;
+import com.emplmanagement.spring.querystats.QueryStatsConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
+@EnableScheduling
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+@Import({AccessLogConfig.class, DebugLogConfig.class, DebugLogFilterConfig.class, ObservationConfig.class,
+        QueryStatsConfig.class})
 public class EmployeeServiceApplication {
 
+    // Startup steps kept for /actuator/startup; Spring records roughly one per bean
+    private static final int STARTUP_STEPS = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(EmployeeServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(EmployeeServiceApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 }
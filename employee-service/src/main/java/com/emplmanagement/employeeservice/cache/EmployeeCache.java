@@ -0,0 +1,168 @@
+package com.emplmanagement.employeeservice.cache;
+
+import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-replica near-cache of employees for {@code GET /employees/{id}}, holding immutable
+ * {@link EmployeeDto} snapshots rather than managed entities.
+ * <p>
+ * Writes on any replica invalidate it through {@link EmployeeChangeNotifier} and
+ * {@link EmployeeChangeListener}. Every invalidation bumps a generation counter, and a loaded
+ * employee is only stored if no invalidation happened while it was being read, so a slow read can
+ * never re-insert a row that a concurrent write replaced. While the listener is not connected the
+ * cache is bypassed: it could not hear about other replicas' writes.
+ */
+@Component
+public class EmployeeCache {
+
+    private final EmployeeCacheProperties properties;
+    private final long ttlNanos;
+
+    // Guarded by lock
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean listening;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+
+    public EmployeeCache(EmployeeCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ttlNanos = properties.ttl().toNanos();
+
+        FunctionCounter.builder("employee.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("employee.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("employee.cache.requests", bypassed, LongAdder::sum)
+                .tag("result", "bypass").register(meterRegistry);
+        Gauge.builder("employee.cache.entries", this, EmployeeCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("employee.cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("employee.cache.invalidations", invalidations, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("employee.cache.flushes", flushes, LongAdder::sum)
+                .description("Full flushes: when the change listener connects and when it loses its connection")
+                .register(meterRegistry);
+        Gauge.builder("employee.cache.listening", this, cache -> cache.listening ? 1 : 0)
+                .description("1 while the change listener is connected and the cache is in use")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Fresh entry for {@code id}, or {@code null}. Expired entries are dropped on the way.
+     */
+    public EmployeeDto get(Long id) {
+        if (!listening) {
+            bypassed.increment();
+            return null;
+        }
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry != null && now - entry.expiresAt >= 0) {
+                entries.remove(id);
+                entry = null;
+            }
+            (entry != null ? hits : misses).increment();
+            return entry != null ? entry.employee : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores an employee read under {@code readGeneration}; rejected if an invalidation happened
+     * since, or while the listener is not connected.
+     */
+    public void put(EmployeeDto employee, long readGeneration) {
+        if (!listening) {
+            return;
+        }
+        long expiresAt = System.nanoTime() + ttlNanos;
+        lock.lock();
+        try {
+            if (generation.get() != readGeneration) {
+                return;
+            }
+            entries.put(employee.id(), new Entry(employee, expiresAt));
+            Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > properties.maxEntries() && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(Collection<Long> ids) {
+        generation.incrementAndGet();
+        lock.lock();
+        try {
+            for (Long id : ids) {
+                if (entries.remove(id) != null) {
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops everything and starts (or stops) serving entries: called by the listener when it has
+     * just started listening, so nothing written during the gap survives, and when it lost its connection.
+     */
+    void flush(boolean listening) {
+        generation.incrementAndGet();
+        lock.lock();
+        try {
+            entries.clear();
+            this.listening = listening;
+        } finally {
+            lock.unlock();
+        }
+        flushes.increment();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(EmployeeDto employee, long expiresAt) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.emplmanagement.employeeservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the employee near-cache ({@code employee-cache.*}).
+ *
+ * @param enabled        turns the cache and its change listener on or off
+ * @param maxEntries     employees kept per replica; least recently used entries are evicted
+ * @param ttl            upper bound on how long an entry is served, whatever the notifications say
+ * @param channel        Postgres {@code LISTEN/NOTIFY} channel the replicas announce changes on
+ * @param reconnectDelay wait before the listener reconnects after losing its connection
+ */
+@ConfigurationProperties(prefix = "employee-cache")
+public record EmployeeCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("employee_changes") String channel,
+        @DefaultValue("5s") Duration reconnectDelay) {
+}
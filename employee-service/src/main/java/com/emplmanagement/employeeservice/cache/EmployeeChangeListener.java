@@ -0,0 +1,146 @@
+package com.emplmanagement.employeeservice.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the changes announced by {@link EmployeeChangeNotifier} on any replica to this replica's
+ * {@link EmployeeCache}, by {@code LISTEN}ing on the {@code employee-cache.channel} of the employee
+ * database.
+ * <p>
+ * The listener holds its own connection, outside the pool, for as long as the application runs.
+ * Notifications sent while it is not listening are lost, so the cache is bypassed while it is
+ * disconnected and flushed each time it starts listening again.
+ */
+@Component
+public class EmployeeChangeListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeListener.class);
+
+    private static final int POLL_MILLIS = 1000;
+    // A quiet channel and a dead connection look the same to getNotifications; check the connection after this long
+    private static final long VALIDATE_AFTER_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final int VALIDATE_TIMEOUT_SECONDS = 5;
+
+    private final EmployeeCache cache;
+    private final EmployeeCacheProperties properties;
+    private final DataSource dataSource;
+    private volatile boolean running;
+    private Thread thread;
+
+    public EmployeeChangeListener(EmployeeCache cache, EmployeeCacheProperties properties,
+                                  DataSourceProperties dataSourceProperties) {
+        this.cache = cache;
+        this.properties = properties;
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(SimpleDriverDataSource.class).build();
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "employee-cache-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(2L * POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    logger.warn("Employee change listener disconnected, cache bypassed until it reconnects: {}", e.toString());
+                }
+            } finally {
+                cache.flush(false);
+            }
+            if (running) {
+                sleep(properties.reconnectDelay().toMillis());
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN \"" + properties.channel().replace("\"", "\"\"") + "\"");
+        }
+        // Changes made before LISTEN took effect were not heard: start from an empty cache
+        cache.flush(true);
+        logger.info("Employee cache listening for changes on channel {}", properties.channel());
+
+        long lastCheck = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+            long now = System.nanoTime();
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    apply(notification.getParameter());
+                }
+                lastCheck = now;
+            } else if (now - lastCheck > VALIDATE_AFTER_NANOS) {
+                if (!connection.isValid(VALIDATE_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                lastCheck = now;
+            }
+        }
+    }
+
+    private void apply(String payload) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (String id : payload.split(",")) {
+                ids.add(Long.valueOf(id));
+            }
+        } catch (NumberFormatException e) {
+            // Not sent by this service version: cannot tell what changed, so forget everything
+            logger.warn("Unexpected payload on {}, flushing the employee cache: {}", properties.channel(), payload);
+            cache.flush(true);
+            return;
+        }
+        cache.invalidate(ids);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.emplmanagement.employeeservice.cache;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Announces changed employees to every replica's {@link EmployeeCache}, this one included.
+ * <p>
+ * Called inside the writing transaction: the {@code pg_notify} runs on the same connection, so
+ * Postgres delivers it to the other replicas' {@link EmployeeChangeListener} only if the transaction
+ * commits, and right after it does. The local cache is invalidated after commit as well, without
+ * waiting for its own notification, so a replica always reads its own writes.
+ */
+@Component
+public class EmployeeChangeNotifier {
+
+    // Postgres caps a payload at 8000 bytes; ids are split over several notifications
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+    // Digits and sign of a long, plus the comma
+    private static final int MAX_ID_LENGTH = 21;
+
+    private final EmployeeCache cache;
+    private final EmployeeCacheProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeChangeNotifier(EmployeeCache cache, EmployeeCacheProperties properties, JdbcTemplate jdbcTemplate) {
+        this.cache = cache;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void employeeChanged(Long id) {
+        employeesChanged(List.of(id));
+    }
+
+    public void employeesChanged(Collection<Long> ids) {
+        if (!properties.enabled() || ids.isEmpty()) {
+            return;
+        }
+        StringJoiner payload = new StringJoiner(",");
+        for (Long id : ids) {
+            if (payload.length() + MAX_ID_LENGTH > MAX_PAYLOAD_LENGTH) {
+                send(payload.toString());
+                payload = new StringJoiner(",");
+            }
+            payload.add(id.toString());
+        }
+        send(payload.toString());
+
+        List<Long> changed = List.copyOf(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(changed);
+                }
+            });
+        } else {
+            cache.invalidate(changed);
+        }
+    }
+
+    private void send(String payload) {
+        jdbcTemplate.queryForList("select pg_notify(?, ?)", properties.channel(), payload);
+    }
+}
@@ -3,15 +3,24 @@ package com.emplmanagement.employeeservice.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
+import java.util.List;
+
+// Not primary, so the gRPC client (department-client.transport=grpc) can take its place
 @FeignClient(
         name = "DEPARTMENT-SERVICE",
-        fallback = DepartmentClientFallback.class
+        fallback = DepartmentClientFallback.class,
+        primary = false
 )
 public interface DepartmentClient {
 
     @GetMapping("/departments/{id}")
     DepartmentDto getDepartmentById(@PathVariable("id") Long id);
 
+    @GetMapping("/departments/batch")
+    List<DepartmentDto> getDepartmentsByIds(@RequestParam("ids") Collection<Long> ids);
+
     record DepartmentDto(Long id, String name, String location) {}
 }
\ No newline at end of file
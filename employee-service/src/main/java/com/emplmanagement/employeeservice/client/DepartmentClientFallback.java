@@ -1,9 +1,15 @@
 package com.emplmanagement.employeeservice.client;
 
 import com.emplmanagement.employeeservice.exception.DepartmentServiceUnavailableException;
+import org.springframework.context.annotation.Fallback;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
+// Only injected by Feign itself; anywhere else the actual client wins
 @Component
+@Fallback
 public class DepartmentClientFallback implements DepartmentClient {
 
     @Override
@@ -12,4 +18,11 @@ public class DepartmentClientFallback implements DepartmentClient {
                 "Department service is currently unavailable. Please try again later."
         );
     }
+
+    @Override
+    public List<DepartmentDto> getDepartmentsByIds(Collection<Long> ids) {
+        throw new DepartmentServiceUnavailableException(
+                "Department service is currently unavailable. Please try again later."
+        );
+    }
 }
\ No newline at end of file
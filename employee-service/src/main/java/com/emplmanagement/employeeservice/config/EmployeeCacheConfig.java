@@ -0,0 +1,14 @@
+package com.emplmanagement.employeeservice.config;
+
+import com.emplmanagement.employeeservice.cache.EmployeeCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Employee near-cache ({@code employee-cache.*}): a per-replica cache behind {@code GET /employees/{id}},
+ * invalidated across replicas through Postgres {@code LISTEN/NOTIFY} on the employee database.
+ */
+@Configuration
+@EnableConfigurationProperties(EmployeeCacheProperties.class)
+public class EmployeeCacheConfig {
+}
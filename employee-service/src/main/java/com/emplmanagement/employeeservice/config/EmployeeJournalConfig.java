@@ -0,0 +1,14 @@
+package com.emplmanagement.employeeservice.config;
+
+import com.emplmanagement.employeeservice.journal.EmployeeJournalProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Employee change journal: an outbox written by the employee transactions, drained into an
+ * append-only table by {@code EmployeeJournalBatcher} and read through {@code GET /employees/changes}.
+ */
+@Configuration
+@EnableConfigurationProperties(EmployeeJournalProperties.class)
+public class EmployeeJournalConfig {
+}
@@ -1,14 +1,22 @@
 package com.emplmanagement.employeeservice.config;
 
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import com.emplmanagement.employeeservice.logging.CorrelationIdFilter;
+import com.emplmanagement.spring.debuglog.DebugLogFilter;
 import feign.RequestInterceptor;
+import org.slf4j.MDC;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
 @Configuration
 public class FeignConfig {
 
+    // Smile (binary JSON) is smaller and cheaper to parse than JSON; JSON stays acceptable for older instances
+    private static final String ACCEPT_SMILE_OR_JSON = "application/x-jackson-smile, application/json;q=0.9";
+
     @Bean
     public RequestInterceptor requestInterceptor() {
         return requestTemplate -> {
@@ -19,4 +27,30 @@ public class FeignConfig {
             }
         };
     }
+
+    /**
+     * Carries the request's correlation id, and its debug-log token when it logs at DEBUG, to department-service.
+     */
+    @Bean
+    public RequestInterceptor correlationInterceptor() {
+        return requestTemplate -> {
+            String correlationId = MDC.get("correlationId");
+            if (correlationId != null) {
+                requestTemplate.header(CorrelationIdFilter.CORRELATION_ID_HEADER, correlationId);
+            }
+            String debugLogToken = DebugLogFilter.forwardedToken();
+            if (debugLogToken != null) {
+                requestTemplate.header(DebugLogSampler.HEADER, debugLogToken);
+            }
+        };
+    }
+
+    @Bean
+    public RequestInterceptor acceptBinaryInterceptor() {
+        return requestTemplate -> {
+            if (!requestTemplate.headers().containsKey(HttpHeaders.ACCEPT)) {
+                requestTemplate.header(HttpHeaders.ACCEPT, ACCEPT_SMILE_OR_JSON);
+            }
+        };
+    }
 }
\ No newline at end of file
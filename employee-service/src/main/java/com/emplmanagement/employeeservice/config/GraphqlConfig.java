@@ -0,0 +1,44 @@
+package com.emplmanagement.employeeservice.config;
+
+import com.emplmanagement.employeeservice.graphql.EmployeeGraphqlController;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits checked before a GraphQL query runs, so one request cannot ask for an unbounded amount
+ * of database work. Every selected field costs 1, and the fields under {@code employees.content}
+ * count once per requested row.
+ */
+@Configuration
+public class GraphqlConfig {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${graphql.max-depth:5}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${graphql.max-complexity:1000}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity, (env, childComplexity) -> {
+            FieldComplexityEnvironment parent = env.getParentEnvironment();
+            if ("content".equals(env.getField().getName()) && parent != null
+                    && "employees".equals(parent.getField().getName())) {
+                return 1 + rows(parent.getArguments().get("size")) * childComplexity;
+            }
+            return 1 + childComplexity;
+        });
+    }
+
+    private static int rows(Object size) {
+        int rows = size instanceof Number n ? n.intValue() : DEFAULT_PAGE_SIZE;
+        return Math.min(Math.max(rows, 1), EmployeeGraphqlController.MAX_PAGE_SIZE);
+    }
+}
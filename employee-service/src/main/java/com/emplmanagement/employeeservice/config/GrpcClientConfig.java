@@ -0,0 +1,78 @@
+package com.emplmanagement.employeeservice.config;
+
+import com.emplmanagement.department.grpc.DepartmentsGrpc;
+import com.emplmanagement.employeeservice.grpc.DiscoveryNameResolverProvider;
+import com.emplmanagement.employeeservice.grpc.GrpcClientInterceptor;
+import com.emplmanagement.employeeservice.grpc.GrpcDepartmentClient;
+import com.emplmanagement.employeeservice.grpc.GrpcRequestContextFilter;
+import com.emplmanagement.employeeservice.startup.StartupGrpcInterceptor;
+import com.emplmanagement.spring.startup.StartupTracker;
+import io.grpc.ManagedChannel;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcClientInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Switches {@code DepartmentClient} to gRPC when {@code department-client.transport=grpc}.
+ * <p>
+ * One channel is shared by all calls: it keeps an HTTP/2 connection to every department-service
+ * instance that advertises a gRPC port, multiplexes concurrent calls over them and spreads calls
+ * round robin.
+ */
+@Configuration
+@ConditionalOnProperty(name = "department-client.transport", havingValue = "grpc")
+public class GrpcClientConfig {
+
+    @Bean
+    public DiscoveryNameResolverProvider discoveryNameResolverProvider(DiscoveryClient discoveryClient) {
+        return new DiscoveryNameResolverProvider(discoveryClient);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ManagedChannel departmentChannel(DiscoveryNameResolverProvider discoveryNameResolverProvider,
+                                            StartupTracker startupTracker,
+                                            ObservationRegistry observationRegistry,
+                                            @Value("${department-client.grpc.target:discovery://department-service}") String target,
+                                            @Value("${department-client.grpc.keep-alive-time:30s}") Duration keepAliveTime) {
+        return NettyChannelBuilder.forTarget(target)
+                .usePlaintext()
+                .defaultLoadBalancingPolicy("round_robin")
+                .keepAliveTime(keepAliveTime.toMillis(), TimeUnit.MILLISECONDS)
+                // Last added runs first; the observation is innermost and sends the trace context with the call
+                .intercept(new ObservationGrpcClientInterceptor(observationRegistry),
+                        new GrpcClientInterceptor(), new StartupGrpcInterceptor(startupTracker))
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public GrpcDepartmentClient grpcDepartmentClient(ManagedChannel departmentChannel,
+                                                     @Value("${department-client.grpc.timeout:5s}") Duration timeout) {
+        return new GrpcDepartmentClient(DepartmentsGrpc.newBlockingStub(departmentChannel), timeout);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService grpcDeadlineScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grpc-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public GrpcRequestContextFilter grpcRequestContextFilter(ScheduledExecutorService grpcDeadlineScheduler) {
+        return new GrpcRequestContextFilter(grpcDeadlineScheduler);
+    }
+}
@@ -0,0 +1,47 @@
+package com.emplmanagement.employeeservice.config;
+
+import com.emplmanagement.employeeservice.startup.StartupFeignCapability;
+import com.emplmanagement.spring.startup.FirstConnectionTimingDataSource;
+import com.emplmanagement.spring.startup.StartupTracker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import javax.sql.DataSource;
+
+/**
+ * Startup instrumentation. The steps land in the {@code BufferingApplicationStartup} set up in
+ * {@code main} and are listed by {@code /actuator/startup}; the milestones are also gauges.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public StartupTracker startupTracker(ApplicationStartup applicationStartup, DiscoveryClient discoveryClient,
+                                        ObjectProvider<Registration> registration) {
+        return new StartupTracker(applicationStartup, discoveryClient, registration);
+    }
+
+    @Bean
+    public StartupFeignCapability startupFeignCapability(StartupTracker startupTracker) {
+        return new StartupFeignCapability(startupTracker);
+    }
+
+    // Static: post-processors are created before the other beans of this class
+    @Bean
+    public static BeanPostProcessor firstConnectionTimingPostProcessor(ApplicationStartup applicationStartup) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof FirstConnectionTimingDataSource)) {
+                    return new FirstConnectionTimingDataSource(dataSource, applicationStartup);
+                }
+                return bean;
+            }
+        };
+    }
+}
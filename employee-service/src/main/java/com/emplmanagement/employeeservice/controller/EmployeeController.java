@@ -2,44 +2,91 @@ package com.emplmanagement.employeeservice.controller;
 
 
 import com.emplmanagement.employeeservice.dtos.CreateEmployeeRequest;
+import com.emplmanagement.employeeservice.dtos.EmployeeChangesDto;
 import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import com.emplmanagement.employeeservice.dtos.EmployeeReassignmentDto;
 import com.emplmanagement.employeeservice.dtos.EmployeeWithDepartmentDto;
+import com.emplmanagement.employeeservice.dtos.ReassignEmployeesRequest;
+import com.emplmanagement.employeeservice.journal.EmployeeJournal;
+import com.emplmanagement.employeeservice.search.EmployeeFilter;
 import com.emplmanagement.employeeservice.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.annotation.Observed;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.List;
 
 
 @RestController
 @RequestMapping("/employees")
 @RequiredArgsConstructor
+// Every public method is a timer and a span: employee.controller{class,method}
+@Observed(name = "employee.controller")
 public class EmployeeController {
 
+    // Authenticated data: browsers may keep it but revalidate, shared caches past the gateway must not store it
+    private static final CacheControl PRIVATE_CACHE = CacheControl.noCache().cachePrivate();
+    // Same body for every caller with the same roles: the gateway alone may share it for 10s. Targeted
+    // field (RFC 9213) that the gateway reads and strips, so it never reaches clients or proxies
+    private static final String GATEWAY_CACHE_CONTROL = "Gateway-Cache-Control";
+    private static final String GATEWAY_MAX_AGE = "max-age=10";
+
+    private static final String NDJSON = "application/x-ndjson";
+
     private final EmployeeService service;
+    private final EmployeeJournal journal;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public Page<EmployeeDto> search(
+    public ResponseEntity<Page<EmployeeDto>> search(
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) String position,
+            // Repeated or comma-separated: departmentId=1,2 matches either department
+            @RequestParam(required = false) List<Long> departmentId,
+            @RequestParam(required = false) Long minId,
+            @RequestParam(required = false) Long maxId,
+            // page, size (capped at employee-search.max-page-size) and sort (id, name or departmentId only)
             @Parameter(hidden = true) Pageable pageable
     ) {
-        return service.findAll(name, departmentId, pageable);
+        EmployeeFilter filter = new EmployeeFilter(name, position, departmentId, minId, maxId);
+        return shareable().body(service.findAll(filter, pageable));
+    }
+
+    // Incremental feed: pass the previous response's next as since; changes appear within employee-journal.batch-interval
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public EmployeeChangesDto changes(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return journal.changes(since, limit);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public EmployeeWithDepartmentDto getById(@PathVariable Long id) {
-        return service.findById(id);
+    public ResponseEntity<EmployeeWithDepartmentDto> getById(
+            @PathVariable Long id,
+            // false skips the department-service call; the gateway's composed view fetches it in parallel
+            @RequestParam(defaultValue = "true") boolean includeDepartment
+    ) {
+        return shareable().body(service.findById(id, includeDepartment));
     }
 
     @PostMapping
@@ -60,10 +107,46 @@ public class EmployeeController {
         return service.update(id, request);
     }
 
+    // One set-based move instead of a PUT per employee, e.g. when departments merge
+    @PostMapping(value = "/reassign", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public EmployeeReassignmentDto reassign(@Valid @RequestBody ReassignEmployeesRequest request) {
+        return service.reassign(request, progress -> {
+        });
+    }
+
+    // Same move, answered as NDJSON: one line per committed chunk, then the result with done=true.
+    // A stream that ends without it failed part way; sending the request again moves the rest
+    @PostMapping(value = "/reassign", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void reassignWithProgress(@Valid @RequestBody ReassignEmployeesRequest request,
+                                     HttpServletResponse response) {
+        EmployeeReassignmentDto result = service.reassign(request, progress -> writeLine(response, progress));
+        writeLine(response, result);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // The content type is set with the first line: an error raised before it (unknown department) is
+    // still answered as JSON by the exception handler
+    private void writeLine(HttpServletResponse response, EmployeeReassignmentDto line) {
+        try {
+            response.setContentType(NDJSON);
+            OutputStream out = response.getOutputStream();
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ResponseEntity.BodyBuilder shareable() {
+        return ResponseEntity.ok().cacheControl(PRIVATE_CACHE).header(GATEWAY_CACHE_CONTROL, GATEWAY_MAX_AGE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.emplmanagement.employeeservice.dtos;
+
+import com.emplmanagement.employeeservice.entity.EmployeeChangeType;
+
+import java.time.Instant;
+
+public record EmployeeChangeDto(
+        Long sequence,
+        Long employeeId,
+        EmployeeChangeType type,
+        String name,
+        String position,
+        Long departmentId,
+        Instant changedAt
+) {}
@@ -0,0 +1,9 @@
+package com.emplmanagement.employeeservice.dtos;
+
+import java.util.List;
+
+// next: the since of the following request; equal to the request's since when nothing is new
+public record EmployeeChangesDto(
+        List<EmployeeChangeDto> changes,
+        long next
+) {}
@@ -0,0 +1,10 @@
+package com.emplmanagement.employeeservice.dtos;
+
+// total: employees expected to move, counted up front; updated may end lower (already there, deleted meanwhile)
+public record EmployeeReassignmentDto(
+        Long toDepartmentId,
+        long total,
+        long updated,
+        int chunks,
+        boolean done
+) {}
@@ -0,0 +1,26 @@
+package com.emplmanagement.employeeservice.dtos;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Objects;
+
+// Moves either every employee of fromDepartmentId or the listed employeeIds to toDepartmentId
+public record ReassignEmployeesRequest(
+        Long fromDepartmentId,
+        @Size(max = 100_000) List<Long> employeeIds,
+        @NotNull Long toDepartmentId
+) {
+
+    @AssertTrue(message = "Give either fromDepartmentId or employeeIds")
+    public boolean isOneSource() {
+        return (fromDepartmentId == null) != (employeeIds == null);
+    }
+
+    @AssertTrue(message = "fromDepartmentId and toDepartmentId must differ")
+    public boolean isMove() {
+        return !Objects.equals(fromDepartmentId, toDepartmentId);
+    }
+}
@@ -11,7 +11,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "employee")
+// Indexes back the sortable properties of EmployeeSearch; each ends with the id, its tiebreaker
+@Table(name = "employee", indexes = {
+        @Index(name = "idx_employee_name", columnList = "name, id"),
+        @Index(name = "idx_employee_department", columnList = "department_id, id")
+})
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,40 @@
+package com.emplmanagement.employeeservice.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Append-only journal of employee changes, the source of {@code GET /employees/changes}. The id is
+ * the feed's cursor: rows are only ever appended, by one batch at a time, in id order.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "employee_change", indexes = {
+        @Index(name = "idx_employee_change_employee", columnList = "employee_id, id")
+})
+public class EmployeeChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EmployeeChangeType type;
+
+    private String name;
+
+    private String position;
+
+    private Long departmentId;
+
+    // Commit-time order is the id; this is when the writing transaction started
+    @Column(nullable = false)
+    private Instant changedAt;
+}
@@ -0,0 +1,39 @@
+package com.emplmanagement.employeeservice.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Changes written by the employee transactions, waiting for EmployeeJournalBatcher to move them
+ * into {@link EmployeeChange}. Rows are inserted and drained with JDBC; the mapping is here so the
+ * table is created like the others.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "employee_change_outbox")
+public class EmployeeChangeOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EmployeeChangeType type;
+
+    // State after the change; the last state for a deletion
+    private String name;
+
+    private String position;
+
+    private Long departmentId;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+}
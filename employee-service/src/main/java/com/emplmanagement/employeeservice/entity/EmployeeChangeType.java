@@ -0,0 +1,5 @@
+package com.emplmanagement.employeeservice.entity;
+
+public enum EmployeeChangeType {
+    CREATED, UPDATED, DELETED
+}
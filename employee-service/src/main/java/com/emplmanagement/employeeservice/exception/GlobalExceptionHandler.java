@@ -27,6 +27,12 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("SERVICE_UNAVAILABLE", ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidSearchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSearch(InvalidSearchException ex) {
+        return ResponseEntity.badRequest()
+                .body(new ErrorResponse("INVALID_SEARCH", ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         List<String> errors = ex.getBindingResult().getFieldErrors().stream()
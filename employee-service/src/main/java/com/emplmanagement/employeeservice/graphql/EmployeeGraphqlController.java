@@ -0,0 +1,76 @@
+package com.emplmanagement.employeeservice.graphql;
+
+import com.emplmanagement.employeeservice.client.DepartmentClient;
+import com.emplmanagement.employeeservice.client.DepartmentClient.DepartmentDto;
+import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import com.emplmanagement.employeeservice.search.EmployeeFilter;
+import com.emplmanagement.employeeservice.service.EmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL queries over employees ({@code /graphql}, schema in {@code graphql/schema.graphqls}).
+ * <p>
+ * {@code Employee.department} is a batch mapping: Spring GraphQL gives each request a
+ * DataLoader that collects every employee whose department was selected, and this controller
+ * resolves their distinct department ids with a single department-service call. A page of 100
+ * employees therefore costs one department lookup, not 100.
+ */
+@Controller
+@RequiredArgsConstructor
+public class EmployeeGraphqlController {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final EmployeeService service;
+    private final DepartmentClient departmentClient;
+
+    @QueryMapping
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public EmployeeDto employee(@Argument Long id) {
+        return service.findEmployee(id).orElse(null);
+    }
+
+    @QueryMapping
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public Page<EmployeeDto> employees(@Argument String name, @Argument Long departmentId,
+                                       @Argument int page, @Argument int size) {
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return service.findAll(EmployeeFilter.of(name, departmentId), pageable);
+    }
+
+    @BatchMapping(typeName = "Employee", maxBatchSize = 500)
+    public Map<EmployeeDto, DepartmentDto> department(List<EmployeeDto> employees) {
+        Set<Long> ids = employees.stream()
+                .map(EmployeeDto::departmentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, DepartmentDto> byId = departmentClient.getDepartmentsByIds(ids).stream()
+                .collect(Collectors.toMap(DepartmentDto::id, Function.identity()));
+        Map<EmployeeDto, DepartmentDto> departments = new HashMap<>();
+        for (EmployeeDto employee : employees) {
+            DepartmentDto department = byId.get(employee.departmentId());
+            if (department != null) {
+                departments.put(employee, department);
+            }
+        }
+        return departments;
+    }
+}
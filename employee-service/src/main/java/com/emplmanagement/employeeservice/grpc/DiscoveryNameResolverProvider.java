@@ -0,0 +1,129 @@
+package com.emplmanagement.employeeservice.grpc;
+
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.NameResolverRegistry;
+import io.grpc.Status;
+import io.grpc.StatusOr;
+import io.grpc.SynchronizationContext;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves {@code discovery://<service-id>} targets to the instances the {@link DiscoveryClient} knows,
+ * at the port each one advertises in its {@value #GRPC_PORT} metadata entry. Instances without it
+ * (older ones, HTTP only) are left out.
+ * <p>
+ * Resolvers are refreshed whenever the discovery client refreshes its registry cache, and by gRPC
+ * itself when connections fail. Registered in the default {@link NameResolverRegistry} until closed.
+ */
+public class DiscoveryNameResolverProvider extends NameResolverProvider implements AutoCloseable {
+
+    public static final String SCHEME = "discovery";
+    public static final String GRPC_PORT = "grpc-port";
+
+    private final DiscoveryClient discoveryClient;
+    private final Set<DiscoveryNameResolver> resolvers = ConcurrentHashMap.newKeySet();
+
+    public DiscoveryNameResolverProvider(DiscoveryClient discoveryClient) {
+        this.discoveryClient = discoveryClient;
+        NameResolverRegistry.getDefaultRegistry().register(this);
+    }
+
+    @Override
+    public void close() {
+        NameResolverRegistry.getDefaultRegistry().deregister(this);
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme()) || targetUri.getAuthority() == null) {
+            return null;
+        }
+        return new DiscoveryNameResolver(targetUri.getAuthority(), args.getSynchronizationContext());
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    protected int priority() {
+        return 5;
+    }
+
+    @EventListener(HeartbeatEvent.class)
+    public void refreshAll() {
+        resolvers.forEach(NameResolver::refresh);
+    }
+
+    private final class DiscoveryNameResolver extends NameResolver {
+
+        private final String serviceId;
+        private final SynchronizationContext syncContext;
+        private Listener2 listener;
+
+        DiscoveryNameResolver(String serviceId, SynchronizationContext syncContext) {
+            this.serviceId = serviceId;
+            this.syncContext = syncContext;
+        }
+
+        @Override
+        public String getServiceAuthority() {
+            return serviceId;
+        }
+
+        @Override
+        public void start(Listener2 listener) {
+            this.listener = listener;
+            resolvers.add(this);
+            resolve();
+        }
+
+        @Override
+        public void refresh() {
+            syncContext.execute(this::resolve);
+        }
+
+        @Override
+        public void shutdown() {
+            resolvers.remove(this);
+        }
+
+        private void resolve() {
+            if (listener == null) {
+                return;
+            }
+            List<EquivalentAddressGroup> addresses = new ArrayList<>();
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                String port = instance.getMetadata().get(GRPC_PORT);
+                if (port != null && !port.isBlank()) {
+                    addresses.add(new EquivalentAddressGroup(
+                            new InetSocketAddress(instance.getHost(), Integer.parseInt(port.trim()))));
+                }
+            }
+            // An empty result is reported as an error, so calls fail fast with UNAVAILABLE until the next refresh
+            StatusOr<List<EquivalentAddressGroup>> result = addresses.isEmpty()
+                    ? StatusOr.fromStatus(Status.UNAVAILABLE.withDescription(
+                            "No " + serviceId + " instance advertises a " + GRPC_PORT))
+                    : StatusOr.fromValue(addresses);
+            listener.onResult(ResolutionResult.newBuilder().setAddressesOrError(result).build());
+        }
+    }
+}
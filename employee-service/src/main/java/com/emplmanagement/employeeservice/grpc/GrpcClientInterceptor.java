@@ -0,0 +1,57 @@
+package com.emplmanagement.employeeservice.grpc;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import com.emplmanagement.employeeservice.logging.CorrelationIdFilter;
+import com.emplmanagement.spring.debuglog.DebugLogFilter;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * The gRPC counterpart of {@code FeignConfig}'s interceptor: forwards the caller's bearer token, plus
+ * the correlation id so department-service logs the call under it, and the debug-log token of a
+ * request that logs at DEBUG.
+ */
+public class GrpcClientInterceptor implements ClientInterceptor {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Metadata.Key<String> CORRELATION_ID =
+            Metadata.Key.of(CorrelationIdFilter.CORRELATION_ID_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+    private static final Metadata.Key<String> DEBUG_LOG =
+            Metadata.Key.of(DebugLogSampler.HEADER, Metadata.ASCII_STRING_MARSHALLER);
+
+    @Override
+    public <Q, R> ClientCall<Q, R> interceptCall(MethodDescriptor<Q, R> method, CallOptions callOptions, Channel next) {
+        // Read on the calling thread, where the security context and MDC are set
+        String authorization = null;
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken jwtToken) {
+            authorization = "Bearer " + jwtToken.getToken().getTokenValue();
+        }
+        String correlationId = MDC.get("correlationId");
+        String debugLogToken = DebugLogFilter.forwardedToken();
+        String bearer = authorization;
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<R> responseListener, Metadata headers) {
+                if (bearer != null) {
+                    headers.put(AUTHORIZATION, bearer);
+                }
+                if (correlationId != null) {
+                    headers.put(CORRELATION_ID, correlationId);
+                }
+                if (debugLogToken != null) {
+                    headers.put(DEBUG_LOG, debugLogToken);
+                }
+                super.start(responseListener, headers);
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.emplmanagement.employeeservice.grpc;
+
+import com.emplmanagement.department.grpc.Department;
+import com.emplmanagement.department.grpc.DepartmentsGrpc;
+import com.emplmanagement.department.grpc.GetDepartmentRequest;
+import com.emplmanagement.department.grpc.GetDepartmentsRequest;
+import com.emplmanagement.employeeservice.client.DepartmentClient;
+import com.emplmanagement.employeeservice.exception.DepartmentNotFoundException;
+import com.emplmanagement.employeeservice.exception.DepartmentServiceUnavailableException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DepartmentClient} over department-service's gRPC API, used when
+ * {@code department-client.transport=grpc}.
+ * <p>
+ * Every call gets {@code department-client.grpc.timeout} as its deadline. When the incoming HTTP
+ * request has a shorter one (see {@link GrpcRequestContextFilter}), that one wins, and calls still
+ * running when the request ends are cancelled.
+ */
+public class GrpcDepartmentClient implements DepartmentClient {
+
+    private final DepartmentsGrpc.DepartmentsBlockingStub stub;
+    private final Duration timeout;
+
+    public GrpcDepartmentClient(DepartmentsGrpc.DepartmentsBlockingStub stub, Duration timeout) {
+        this.stub = stub;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public DepartmentDto getDepartmentById(Long id) {
+        if (id == null) {
+            throw new DepartmentNotFoundException(null);
+        }
+        try {
+            return toDto(stub().getDepartment(GetDepartmentRequest.newBuilder().setId(id).build()));
+        } catch (StatusRuntimeException e) {
+            if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+                throw new DepartmentNotFoundException(id);
+            }
+            throw unavailable(e);
+        }
+    }
+
+    @Override
+    public List<DepartmentDto> getDepartmentsByIds(Collection<Long> ids) {
+        try {
+            return stub().getDepartments(GetDepartmentsRequest.newBuilder().addAllIds(ids).build())
+                    .getDepartmentsList().stream()
+                    .map(GrpcDepartmentClient::toDto)
+                    .toList();
+        } catch (StatusRuntimeException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private DepartmentsGrpc.DepartmentsBlockingStub stub() {
+        return stub.withDeadlineAfter(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static DepartmentServiceUnavailableException unavailable(StatusRuntimeException e) {
+        return new DepartmentServiceUnavailableException(
+                "Department service call failed: " + e.getStatus().getCode(), e);
+    }
+
+    private static DepartmentDto toDto(Department department) {
+        return new DepartmentDto(department.getId(), department.getName(), department.getLocation());
+    }
+}
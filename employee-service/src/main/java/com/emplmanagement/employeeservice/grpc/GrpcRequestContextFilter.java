@@ -0,0 +1,65 @@
+package com.emplmanagement.employeeservice.grpc;
+
+import io.grpc.Context;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ties the gRPC calls made while serving a request to that request.
+ * <p>
+ * A caller with a time budget sends it as {@code X-Request-Timeout} (milliseconds; the gateway does for
+ * composed-view legs). It becomes the deadline of a gRPC {@link Context} attached for the request, so
+ * every call made under it is bounded by what is left of the caller's budget rather than only by the
+ * client's own timeout. The context is cancelled when the request ends, which cancels any call still
+ * in flight instead of letting department-service finish work nobody will read.
+ * <p>
+ * Only registered for {@code department-client.transport=grpc}: Feign calls do not see the gRPC
+ * context, so with Feign the header is ignored.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class GrpcRequestContextFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final ScheduledExecutorService deadlineScheduler;
+
+    public GrpcRequestContextFilter(ScheduledExecutorService deadlineScheduler) {
+        this.deadlineScheduler = deadlineScheduler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long budgetMillis = budgetMillis(request.getHeader(REQUEST_TIMEOUT_HEADER));
+        Context.CancellableContext context = budgetMillis > 0
+                ? Context.current().withDeadlineAfter(budgetMillis, TimeUnit.MILLISECONDS, deadlineScheduler)
+                : Context.current().withCancellation();
+        Context previous = context.attach();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            context.detach(previous);
+            context.cancel(null);
+        }
+    }
+
+    private static long budgetMillis(String header) {
+        if (header == null || header.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
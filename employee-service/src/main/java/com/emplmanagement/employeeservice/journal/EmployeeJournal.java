@@ -0,0 +1,87 @@
+package com.emplmanagement.employeeservice.journal;
+
+import com.emplmanagement.employeeservice.dtos.EmployeeChangeDto;
+import com.emplmanagement.employeeservice.dtos.EmployeeChangesDto;
+import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import com.emplmanagement.employeeservice.entity.EmployeeChange;
+import com.emplmanagement.employeeservice.entity.EmployeeChangeType;
+import com.emplmanagement.employeeservice.repository.EmployeeChangeRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * History of employee changes, for consumers that would otherwise re-read the whole table to
+ * find what changed.
+ * <p>
+ * Writers {@link #record} their changes in the outbox, inside their own transaction, so a change
+ * is journaled if and only if it commits; that costs them one small insert. {@link EmployeeJournalBatcher}
+ * moves the outbox into the append-only {@code employee_change} table in large batches, and
+ * {@link #changes} pages through that table by sequence number.
+ */
+@Component
+public class EmployeeJournal {
+
+    // now() is the start of the writing transaction
+    private static final String INSERT_OUTBOX = """
+            insert into employee_change_outbox (employee_id, type, name, position, department_id, changed_at)
+            values (?, ?, ?, ?, ?, now())""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeChangeRepository changes;
+    private final EmployeeJournalProperties properties;
+
+    public EmployeeJournal(JdbcTemplate jdbcTemplate, EmployeeChangeRepository changes,
+                           EmployeeJournalProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changes = changes;
+        this.properties = properties;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(EmployeeChangeType type, EmployeeDto employee) {
+        record(type, List.of(employee));
+    }
+
+    /**
+     * Adds the employees' new state (their last state for {@link EmployeeChangeType#DELETED}) to the
+     * outbox, in one JDBC batch. Must run in the transaction that made the change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(EmployeeChangeType type, Collection<EmployeeDto> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, employees, employees.size(), (statement, employee) -> {
+            statement.setLong(1, employee.id());
+            statement.setString(2, type.name());
+            statement.setString(3, employee.name());
+            statement.setString(4, employee.position());
+            statement.setObject(5, employee.departmentId());
+        });
+    }
+
+    /**
+     * Changes journaled after sequence number {@code since}, oldest first, at most {@code limit}
+     * (capped at {@code employee-journal.max-page-size}).
+     */
+    @Transactional(readOnly = true)
+    public EmployeeChangesDto changes(long since, int limit) {
+        int size = Math.max(1, Math.min(limit, properties.maxPageSize()));
+        List<EmployeeChangeDto> page = changes.findByIdGreaterThanOrderByIdAsc(since, Limit.of(size)).stream()
+                .map(EmployeeJournal::toDto)
+                .toList();
+        long next = page.isEmpty() ? since : page.get(page.size() - 1).sequence();
+        return new EmployeeChangesDto(page, next);
+    }
+
+    private static EmployeeChangeDto toDto(EmployeeChange change) {
+        return new EmployeeChangeDto(change.getId(), change.getEmployeeId(), change.getType(), change.getName(),
+                change.getPosition(), change.getDepartmentId(), change.getChangedAt());
+    }
+}
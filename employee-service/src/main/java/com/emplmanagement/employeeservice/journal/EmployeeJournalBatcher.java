@@ -0,0 +1,75 @@
+package com.emplmanagement.employeeservice.journal;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves the employee change outbox into the {@code employee_change} journal, off the request path.
+ * <p>
+ * Each batch is one statement that deletes up to {@code employee-journal.batch-size} outbox rows
+ * and appends them, in outbox order, to the journal. Batches from all replicas are serialized by
+ * a transaction-scoped advisory lock: a batch's sequence numbers are only drawn after the previous
+ * batch committed, so a reader never sees a sequence number before a smaller one appears, and
+ * {@code since} never skips a change. A replica that finds the lock taken just waits for its next run.
+ */
+@Component
+public class EmployeeJournalBatcher {
+
+    // Any constant shared by the replicas: "empljrnl"
+    private static final long LOCK_KEY = 0x656d706c6a726e6cL;
+
+    private static final String MOVE_BATCH = """
+            with moved as (
+                delete from employee_change_outbox
+                where id in (select id from employee_change_outbox order by id limit ?)
+                returning id, employee_id, type, name, position, department_id, changed_at)
+            insert into employee_change (employee_id, type, name, position, department_id, changed_at)
+            select employee_id, type, name, position, department_id, changed_at from moved order by id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final LongAdder moved = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public EmployeeJournalBatcher(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  EmployeeJournalProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = properties.batchSize();
+
+        FunctionCounter.builder("employee.journal.rows", moved, LongAdder::sum)
+                .description("Changes moved from the outbox into the journal")
+                .register(meterRegistry);
+        FunctionCounter.builder("employee.journal.batches", batches, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${employee-journal.batch-interval:1s}")
+    public void drain() {
+        Integer count;
+        do {
+            count = transactionTemplate.execute(status -> moveBatch());
+        } while (count != null && count == batchSize);
+    }
+
+    private int moveBatch() {
+        Boolean locked = jdbcTemplate.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return 0;
+        }
+        int count = jdbcTemplate.update(MOVE_BATCH, batchSize);
+        if (count > 0) {
+            moved.add(count);
+            batches.increment();
+        }
+        return count;
+    }
+}
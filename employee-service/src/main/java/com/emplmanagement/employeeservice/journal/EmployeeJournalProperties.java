@@ -0,0 +1,20 @@
+package com.emplmanagement.employeeservice.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the employee change journal ({@code employee-journal.*}).
+ *
+ * @param batchSize     outbox rows moved into the journal per statement
+ * @param batchInterval pause between two runs of the batcher once the outbox is drained
+ * @param maxPageSize   larger {@code limit}s of {@code GET /employees/changes} are cut to this
+ */
+@ConfigurationProperties(prefix = "employee-journal")
+public record EmployeeJournalProperties(
+        @DefaultValue("5000") int batchSize,
+        @DefaultValue("1s") Duration batchInterval,
+        @DefaultValue("1000") int maxPageSize) {
+}
@@ -0,0 +1,51 @@
+package com.emplmanagement.employeeservice.loadbalancer;
+
+import com.emplmanagement.common.loadbalancer.PeakEwma;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts Feign requests in flight per instance and feeds their latency to the peak-EWMA load
+ * balancer. The blocking Feign client always reports completion, including on exceptions.
+ */
+@Component
+public class PeakEwmaLifecycle implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final PeakEwmaRegistry registry;
+
+    public PeakEwmaLifecycle(PeakEwmaRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse != null && lbResponse.hasServer()) {
+            request.getContext().setRequestStartTime(System.nanoTime());
+            registry.endpoint(lbResponse.getServer()).start();
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completion) {
+        Response<ServiceInstance> lbResponse = completion.getLoadBalancerResponse();
+        if (completion.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        PeakEwma endpoint = registry.endpoint(lbResponse.getServer());
+        long start = completion.getLoadBalancerRequest().getContext().getRequestStartTime();
+        ResponseData response = completion.getClientResponse();
+        boolean failure = completion.status() == CompletionContext.Status.FAILED
+                || (response != null && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError());
+        endpoint.end(start > 0 ? System.nanoTime() - start : 0, failure);
+    }
+}
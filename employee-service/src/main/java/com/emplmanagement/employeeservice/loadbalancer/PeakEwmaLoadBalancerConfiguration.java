@@ -0,0 +1,25 @@
+package com.emplmanagement.employeeservice.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-client load balancer configuration, registered for every client through
+ * {@link org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients}. Deliberately not
+ * a {@code @Configuration} so component scanning does not pull it into the main context.
+ */
+public class PeakEwmaLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(
+            Environment environment,
+            ObjectProvider<ServiceInstanceListSupplier> suppliers,
+            PeakEwmaRegistry registry) {
+        return new PeakEwmaLoadBalancer(suppliers, registry.balancer(LoadBalancerClientFactory.getName(environment)));
+    }
+}
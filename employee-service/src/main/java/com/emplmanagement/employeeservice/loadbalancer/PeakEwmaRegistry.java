@@ -0,0 +1,88 @@
+package com.emplmanagement.employeeservice.loadbalancer;
+
+import com.emplmanagement.common.loadbalancer.PeakEwma;
+import com.emplmanagement.common.loadbalancer.PeakEwmaBalancer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * One {@link PeakEwmaBalancer} per Feign target service, shared by the load balancer (which
+ * reads the load) and {@link PeakEwmaLifecycle} (which records outstanding requests and
+ * latency). Per-instance scores are exported as {@code loadbalancer.instance.*} gauges once a
+ * meter registry binds them.
+ */
+@Component
+public class PeakEwmaRegistry implements MeterBinder {
+
+    private static final Duration IDLE_EVICTION = Duration.ofMinutes(5);
+
+    private final Map<String, PeakEwmaBalancer> balancers = new ConcurrentHashMap<>();
+    private final Duration decay;
+    private final Duration penalty;
+    private volatile MultiGauge latency;
+    private volatile MultiGauge outstanding;
+    private volatile MultiGauge load;
+
+    public PeakEwmaRegistry(@Value("${load-balancer.peak-ewma.decay:10s}") Duration decay,
+                            @Value("${load-balancer.peak-ewma.penalty:1s}") Duration penalty) {
+        this.decay = decay;
+        this.penalty = penalty;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.latency = MultiGauge.builder("loadbalancer.instance.latency")
+                .description("Peak-EWMA response time").baseUnit("milliseconds").register(meterRegistry);
+        this.outstanding = MultiGauge.builder("loadbalancer.instance.outstanding")
+                .description("Requests in flight").register(meterRegistry);
+        this.load = MultiGauge.builder("loadbalancer.instance.load")
+                .description("Latency times outstanding requests; the lower, the more likely to be picked")
+                .baseUnit("milliseconds").register(meterRegistry);
+    }
+
+    public static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    public PeakEwmaBalancer balancer(String serviceId) {
+        String service = serviceId.toLowerCase(Locale.ROOT);
+        return balancers.computeIfAbsent(service, s -> new PeakEwmaBalancer(s, decay, penalty));
+    }
+
+    public PeakEwma endpoint(ServiceInstance instance) {
+        return balancer(instance.getServiceId()).endpoint(key(instance));
+    }
+
+    @Scheduled(fixedDelay = 10000)
+    public void publishMetrics() {
+        balancers.values().forEach(balancer -> balancer.evictIdle(IDLE_EVICTION));
+        if (load == null) {
+            return;
+        }
+        latency.register(rows(endpoint -> endpoint.cost() / 1_000_000.0), true);
+        outstanding.register(rows(PeakEwma::pending), true);
+        load.register(rows(endpoint -> endpoint.load() / 1_000_000.0), true);
+    }
+
+    private List<MultiGauge.Row<?>> rows(ToDoubleFunction<PeakEwma> value) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        balancers.values().forEach(balancer -> balancer.endpoints().forEach(endpoint ->
+                rows.add(MultiGauge.Row.of(Tags.of("service", balancer.serviceId(), "instance", endpoint.key()),
+                        endpoint, value))));
+        return rows;
+    }
+}
@@ -1,11 +1,12 @@
 package com.emplmanagement.employeeservice.logging;
 
+import com.emplmanagement.common.accesslog.AccessLogPipeline;
+import com.emplmanagement.common.id.RequestIds;
+import io.micrometer.common.KeyValue;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
@@ -13,49 +14,51 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 
 import java.io.IOException;
 import java.util.Optional;
-import java.util.UUID;
 
 @Component
 @Order(1)
 public class CorrelationIdFilter extends OncePerRequestFilter {
 
     public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
-    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    public static final String CORRELATION_ID_TAG = "correlation.id";
+
+    private final AccessLogPipeline accessLog;
+
+    public CorrelationIdFilter(AccessLogPipeline accessLog) {
+        this.accessLog = accessLog;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         long start = System.currentTimeMillis();
 
-        String corrId = Optional.ofNullable(request.getHeader(CORRELATION_ID_HEADER))
-                .orElse(UUID.randomUUID().toString());
+        String corrId = RequestIds.resolve(request.getHeader(CORRELATION_ID_HEADER));
         response.setHeader(CORRELATION_ID_HEADER, corrId);
+        // On the request's span (not its metrics), so the trace of a logged correlation id can be looked up
+        ServerHttpObservationFilter.findObservationContext(request)
+                .ifPresent(context -> context.addHighCardinalityKeyValue(KeyValue.of(CORRELATION_ID_TAG, corrId)));
 
         String user = extractUsername().orElse("anonymous");
         MDC.put("correlationId", corrId);
-        MDC.put("user", user);
+        MDC.put("username", user);
+        String error = null;
         try {
             filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException ex) {
+            error = ex.toString();
+            throw ex;
         } finally {
             long duration = System.currentTimeMillis() - start;
-            int status = response.getStatus();
-            String method = request.getMethod();
-            String path = request.getRequestURI();
             String ip = Optional.ofNullable(request.getHeader("X-Forwarded-For")).orElse(request.getRemoteAddr());
-            String ua = Optional.ofNullable(request.getHeader("User-Agent")).orElse("");
-
-            if (status >= 500) {
-                ACCESS_LOG.error("method={} path={} status={} duration_ms={} user={} ip={} ua=\"{}\" corrId={}",
-                        method, path, status, duration, user, ip, ua, corrId);
-            } else {
-                ACCESS_LOG.info("method={} path={} status={} duration_ms={} user={} ip={} ua=\"{}\" corrId={}",
-                        method, path, status, duration, user, ip, ua, corrId);
-            }
+            accessLog.record(request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                    response.getStatus(), duration, user, ip, request.getHeader("User-Agent"), corrId, error);
             MDC.remove("correlationId");
-            MDC.remove("user");
+            MDC.remove("username");
         }
     }
 
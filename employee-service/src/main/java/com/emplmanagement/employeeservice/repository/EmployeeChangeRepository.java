@@ -0,0 +1,13 @@
+package com.emplmanagement.employeeservice.repository;
+
+import com.emplmanagement.employeeservice.entity.EmployeeChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+// Read side of the journal only; rows are appended by EmployeeJournalBatcher
+public interface EmployeeChangeRepository extends Repository<EmployeeChange, Long> {
+
+    List<EmployeeChange> findByIdGreaterThanOrderByIdAsc(Long since, Limit limit);
+}
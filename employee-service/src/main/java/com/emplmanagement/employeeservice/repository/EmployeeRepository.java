@@ -1,12 +1,9 @@
 package com.emplmanagement.employeeservice.repository;
 
 import com.emplmanagement.employeeservice.entity.Employee;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-    Page<Employee> findByNameContainingIgnoreCase(String name, Pageable pageable);
-    Page<Employee> findByDepartmentId(Long departmentId, Pageable pageable);
-    Page<Employee> findByNameContainingIgnoreCaseAndDepartmentId(String name, Long departmentId, Pageable pageable);
-}
+// Searches go through specifications built by EmployeeSearch
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.emplmanagement.employeeservice.search;
+
+import java.util.List;
+
+/**
+ * Filters of {@code GET /employees}; every field is optional and the set ones are combined with AND.
+ *
+ * @param name          case-insensitive substring of the name
+ * @param position      position, ignoring case
+ * @param departmentIds employees of any of these departments
+ * @param minId         lowest id, inclusive
+ * @param maxId         highest id, inclusive
+ */
+public record EmployeeFilter(String name, String position, List<Long> departmentIds, Long minId, Long maxId) {
+
+    public static EmployeeFilter of(String name, Long departmentId) {
+        return new EmployeeFilter(name, null, departmentId == null ? null : List.of(departmentId), null, null);
+    }
+}
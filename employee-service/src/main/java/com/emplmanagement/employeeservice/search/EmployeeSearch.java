@@ -0,0 +1,114 @@
+package com.emplmanagement.employeeservice.search;
+
+import com.emplmanagement.employeeservice.entity.Employee;
+import com.emplmanagement.employeeservice.exception.InvalidSearchException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns the filters and paging of an employee search into one specification query.
+ * <p>
+ * Each filter adds its own predicate, so a new filter is one more method here instead of one
+ * more repository method per combination. Sorting is limited to one property that leads an index
+ * on {@code employee} (see {@link Employee}), followed by the id in the same direction: the index
+ * ({@code property, id}) then yields the ordered page without sorting the table, and paging stays
+ * stable when values repeat. Other properties and further keys are rejected or dropped
+ * ({@code employee-search.unindexed-sort}). The page size is capped at {@code employee-search.max-page-size}.
+ */
+@Component
+public class EmployeeSearch {
+
+    public enum UnindexedSortPolicy { REJECT, IGNORE }
+
+    // Leading columns of the primary key and of idx_employee_name / idx_employee_department
+    public static final Set<String> SORTABLE = Set.of("id", "name", "departmentId");
+
+    public static final int MAX_DEPARTMENT_IDS = 500;
+
+    private final int maxPageSize;
+    private final UnindexedSortPolicy unindexedSort;
+
+    public EmployeeSearch(@Value("${employee-search.max-page-size:100}") int maxPageSize,
+                          @Value("${employee-search.unindexed-sort:reject}") UnindexedSortPolicy unindexedSort) {
+        this.maxPageSize = maxPageSize;
+        this.unindexedSort = unindexedSort;
+    }
+
+    public Specification<Employee> specification(EmployeeFilter filter) {
+        List<Specification<Employee>> predicates = new ArrayList<>();
+        if (StringUtils.hasText(filter.name())) {
+            String pattern = "%" + escapeLike(filter.name().toLowerCase()) + "%";
+            predicates.add((root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, '\\'));
+        }
+        if (StringUtils.hasText(filter.position())) {
+            String position = filter.position().toLowerCase();
+            predicates.add((root, query, cb) -> cb.equal(cb.lower(root.get("position")), position));
+        }
+        List<Long> departmentIds = filter.departmentIds();
+        if (departmentIds != null && !departmentIds.isEmpty()) {
+            if (departmentIds.size() > MAX_DEPARTMENT_IDS) {
+                throw new InvalidSearchException("At most " + MAX_DEPARTMENT_IDS + " departmentId values per search");
+            }
+            predicates.add((root, query, cb) -> root.get("departmentId").in(departmentIds));
+        }
+        if (filter.minId() != null) {
+            predicates.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("id"), filter.minId()));
+        }
+        if (filter.maxId() != null) {
+            predicates.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("id"), filter.maxId()));
+        }
+        return Specification.allOf(predicates);
+    }
+
+    /**
+     * The requested page with its size capped and its sort reduced to one indexed property, ending with the id.
+     */
+    public Pageable pageable(Pageable requested) {
+        if (requested.isUnpaged()) {
+            return PageRequest.of(0, maxPageSize, sort(requested.getSort()));
+        }
+        return PageRequest.of(requested.getPageNumber(), Math.min(requested.getPageSize(), maxPageSize),
+                sort(requested.getSort()));
+    }
+
+    private Sort sort(Sort requested) {
+        Sort.Order key = null;
+        for (Sort.Order order : requested) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                reject("Cannot sort by '" + order.getProperty() + "', sortable properties: " + SORTABLE);
+            } else if (key == null) {
+                key = order;
+            } else if (!"id".equals(order.getProperty())) {
+                // No index leads with two of these columns, so a second key means sorting the matches
+                reject("Cannot sort by '" + key.getProperty() + "' and '" + order.getProperty()
+                        + "', sort by one of " + SORTABLE);
+            }
+        }
+        if (key == null) {
+            return Sort.by(Sort.Direction.ASC, "id");
+        }
+        // Direction only: ignore-case would order by lower(name), which no index covers
+        Sort sort = Sort.by(key.getDirection(), key.getProperty());
+        // The id follows in the key's direction, so one forward or backward index scan yields the page
+        return "id".equals(key.getProperty()) ? sort : sort.and(Sort.by(key.getDirection(), "id"));
+    }
+
+    private void reject(String message) {
+        if (unindexedSort == UnindexedSortPolicy.REJECT) {
+            throw new InvalidSearchException(message);
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,150 @@
+package com.emplmanagement.employeeservice.service;
+
+import com.emplmanagement.employeeservice.cache.EmployeeChangeNotifier;
+import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import com.emplmanagement.employeeservice.dtos.EmployeeReassignmentDto;
+import com.emplmanagement.employeeservice.dtos.ReassignEmployeesRequest;
+import com.emplmanagement.employeeservice.entity.EmployeeChangeType;
+import com.emplmanagement.employeeservice.journal.EmployeeJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Moves employees to another department with set-based {@code UPDATE}s of up to
+ * {@code employee-reassign.chunk-size} rows, instead of a lookup, a department check and a row
+ * update per employee.
+ * <p>
+ * Each chunk is its own transaction, which also announces the moved employees to the caches and
+ * the change journal, so a large move neither holds its locks until the end nor starts over after
+ * a failure: running the same request again moves what is left. Chunks go in id order, so two
+ * overlapping moves lock rows in the same order.
+ */
+@Component
+public class EmployeeReassignment {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeReassignment.class);
+
+    private static final String MOVE_DEPARTMENT_CHUNK = """
+            update employee set department_id = ?
+            where department_id = ?
+              and id in (select id from employee where department_id = ? order by id limit ?)
+            returning id, name, position, department_id""";
+
+    private static final String MOVE_IDS_CHUNK = """
+            update employee set department_id = ?
+            where id = any(?) and department_id <> ?
+            returning id, name, position, department_id""";
+
+    private static final RowMapper<EmployeeDto> MOVED = (rs, row) -> new EmployeeDto(
+            rs.getLong("id"), rs.getString("name"), rs.getString("position"), rs.getLong("department_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeChangeNotifier changeNotifier;
+    private final EmployeeJournal journal;
+    private final int chunkSize;
+
+    public EmployeeReassignment(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                EmployeeChangeNotifier changeNotifier, EmployeeJournal journal,
+                                @Value("${employee-reassign.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.changeNotifier = changeNotifier;
+        this.journal = journal;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Runs the move, reporting to {@code progress} after each committed chunk. The target department
+     * must have been checked by the caller.
+     */
+    EmployeeReassignmentDto run(ReassignEmployeesRequest request, Consumer<EmployeeReassignmentDto> progress) {
+        Long target = request.toDepartmentId();
+        Progress state;
+        if (request.fromDepartmentId() != null) {
+            Long source = request.fromDepartmentId();
+            Long total = jdbcTemplate.queryForObject(
+                    "select count(*) from employee where department_id = ?", Long.class, source);
+            state = new Progress(target, total != null ? total : 0, progress);
+            // Moved rows leave the source department, so each chunk takes the next ones
+            int moved;
+            do {
+                moved = state.add(moveChunk(() -> jdbcTemplate.query(MOVE_DEPARTMENT_CHUNK, MOVED,
+                        target, source, source, chunkSize)));
+            } while (moved == chunkSize);
+        } else {
+            long[] ids = request.employeeIds().stream()
+                    .filter(Objects::nonNull)
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .distinct()
+                    .toArray();
+            state = new Progress(target, ids.length, progress);
+            for (int from = 0; from < ids.length; from += chunkSize) {
+                Long[] chunk = Arrays.stream(ids, from, Math.min(from + chunkSize, ids.length))
+                        .boxed().toArray(Long[]::new);
+                state.add(moveChunk(() -> jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(MOVE_IDS_CHUNK);
+                    statement.setLong(1, target);
+                    statement.setArray(2, connection.createArrayOf("bigint", chunk));
+                    statement.setLong(3, target);
+                    return statement;
+                }, MOVED)));
+            }
+        }
+        logger.info("Reassigned {} employees to department {} in {} chunks", state.updated, target, state.chunks);
+        return state.result(true);
+    }
+
+    private List<EmployeeDto> moveChunk(Supplier<List<EmployeeDto>> update) {
+        return transactionTemplate.execute(status -> {
+            List<EmployeeDto> moved = update.get();
+            if (!moved.isEmpty()) {
+                changeNotifier.employeesChanged(moved.stream().map(EmployeeDto::id).toList());
+                journal.record(EmployeeChangeType.UPDATED, moved);
+            }
+            return moved;
+        });
+    }
+
+    private static final class Progress {
+
+        private final Long target;
+        private final long total;
+        private final Consumer<EmployeeReassignmentDto> listener;
+        private long updated;
+        private int chunks;
+
+        Progress(Long target, long total, Consumer<EmployeeReassignmentDto> listener) {
+            this.target = target;
+            this.total = total;
+            this.listener = listener;
+        }
+
+        int add(List<EmployeeDto> moved) {
+            if (!moved.isEmpty()) {
+                updated += moved.size();
+                chunks++;
+                listener.accept(result(false));
+            }
+            return moved.size();
+        }
+
+        EmployeeReassignmentDto result(boolean done) {
+            return new EmployeeReassignmentDto(target, total, updated, chunks, done);
+        }
+    }
+}
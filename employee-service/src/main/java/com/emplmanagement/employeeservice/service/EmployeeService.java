@@ -1,51 +1,74 @@
 package com.emplmanagement.employeeservice.service;
 
+import com.emplmanagement.employeeservice.cache.EmployeeCache;
+import com.emplmanagement.employeeservice.cache.EmployeeChangeNotifier;
 import com.emplmanagement.employeeservice.client.DepartmentClient;
 import com.emplmanagement.employeeservice.dtos.CreateEmployeeRequest;
 import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import com.emplmanagement.employeeservice.dtos.EmployeeReassignmentDto;
 import com.emplmanagement.employeeservice.dtos.EmployeeWithDepartmentDto;
+import com.emplmanagement.employeeservice.dtos.ReassignEmployeesRequest;
 import com.emplmanagement.employeeservice.entity.Employee;
+import com.emplmanagement.employeeservice.entity.EmployeeChangeType;
 import com.emplmanagement.employeeservice.exception.DepartmentNotFoundException;
 import com.emplmanagement.employeeservice.exception.DepartmentServiceUnavailableException;
+import com.emplmanagement.employeeservice.journal.EmployeeJournal;
 import com.emplmanagement.employeeservice.repository.EmployeeRepository;
+import com.emplmanagement.employeeservice.search.EmployeeFilter;
+import com.emplmanagement.employeeservice.search.EmployeeSearch;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.function.Consumer;
+
 @Service
 @RequiredArgsConstructor
+// Every public method is a timer and a span: employee.service{class,method}
+@Observed(name = "employee.service")
 public class EmployeeService {
 
     private final EmployeeRepository repository;
     private final DepartmentClient departmentClient;
+    private final EmployeeSearch search;
+    private final EmployeeCache cache;
+    private final EmployeeChangeNotifier changeNotifier;
+    private final EmployeeJournal journal;
+    private final EmployeeReassignment reassignment;
 
     @Transactional(readOnly = true)
-    public Page<EmployeeDto> findAll(String name, Long departmentId, Pageable pageable) {
-        Page<Employee> page;
-        if (name != null && departmentId != null) {
-            page = repository.findByNameContainingIgnoreCaseAndDepartmentId(name, departmentId, pageable);
-        } else if (name != null) {
-            page = repository.findByNameContainingIgnoreCase(name, pageable);
-        } else if (departmentId != null) {
-            page = repository.findByDepartmentId(departmentId, pageable);
-        } else {
-            page = repository.findAll(pageable);
-        }
-        return page.map(this::toDto);
+    public Page<EmployeeDto> findAll(EmployeeFilter filter, Pageable pageable) {
+        return repository.findAll(search.specification(filter), search.pageable(pageable)).map(this::toDto);
     }
 
-    @Transactional(readOnly = true)
-    public EmployeeWithDepartmentDto findById(Long id) {
-        Employee emp = repository.findById(id)
+    // No transaction here: a cache hit needs no connection, a miss reads in the repository's own
+    public EmployeeWithDepartmentDto findById(Long id, boolean includeDepartment) {
+        EmployeeDto emp = findEmployee(id)
                 .orElseThrow(() -> new DepartmentNotFoundException(id));
-        var dept = departmentClient.getDepartmentById(emp.getDepartmentId());
+        var dept = includeDepartment ? departmentClient.getDepartmentById(emp.departmentId()) : null;
         return new EmployeeWithDepartmentDto(
-                emp.getId(), emp.getName(), emp.getPosition(), emp.getDepartmentId(), dept
+                emp.id(), emp.name(), emp.position(), emp.departmentId(), dept
         );
     }
 
+    public Optional<EmployeeDto> findEmployee(Long id) {
+        if (!cache.isEnabled()) {
+            return repository.findById(id).map(this::toDto);
+        }
+        EmployeeDto cached = cache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = cache.generation();
+        Optional<EmployeeDto> loaded = repository.findById(id).map(this::toDto);
+        loaded.ifPresent(dto -> cache.put(dto, generation));
+        return loaded;
+    }
+
     @Transactional
     public EmployeeDto create(CreateEmployeeRequest request) {
         validateDepartment(request.departmentId());
@@ -54,7 +77,9 @@ public class EmployeeService {
                 .position(request.position())
                 .departmentId(request.departmentId())
                 .build();
-        return toDto(repository.save(emp));
+        EmployeeDto created = toDto(repository.save(emp));
+        journal.record(EmployeeChangeType.CREATED, created);
+        return created;
     }
 
     @Transactional
@@ -65,12 +90,27 @@ public class EmployeeService {
         emp.setName(request.name());
         emp.setPosition(request.position());
         emp.setDepartmentId(request.departmentId());
-        return toDto(repository.save(emp));
+        EmployeeDto updated = toDto(repository.save(emp));
+        changeNotifier.employeeChanged(id);
+        journal.record(EmployeeChangeType.UPDATED, updated);
+        return updated;
     }
 
     @Transactional
     public void delete(Long id) {
-        repository.deleteById(id);
+        // Same lookup deleteById makes, kept to journal the last state; deleting a missing id is a no-op
+        repository.findById(id).ifPresent(emp -> {
+            repository.delete(emp);
+            changeNotifier.employeeChanged(id);
+            journal.record(EmployeeChangeType.DELETED, toDto(emp));
+        });
+    }
+
+    // No transaction here: each chunk commits on its own, see EmployeeReassignment
+    public EmployeeReassignmentDto reassign(ReassignEmployeesRequest request,
+                                            Consumer<EmployeeReassignmentDto> progress) {
+        validateDepartment(request.toDepartmentId());
+        return reassignment.run(request, progress);
     }
 
     private void validateDepartment(Long departmentId) {
@@ -78,6 +118,8 @@ public class EmployeeService {
             departmentClient.getDepartmentById(departmentId);
         } catch (feign.FeignException.NotFound e) {
             throw new DepartmentNotFoundException(departmentId);
+        } catch (DepartmentNotFoundException e) {
+            throw e;
         } catch (Exception e) {
             throw new DepartmentServiceUnavailableException(
                     "Failed to validate department existence", e
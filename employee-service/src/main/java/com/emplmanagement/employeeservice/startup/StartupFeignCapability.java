@@ -0,0 +1,39 @@
+package com.emplmanagement.employeeservice.startup;
+
+import com.emplmanagement.spring.startup.StartupTracker;
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Reports Feign calls to the {@link StartupTracker} until one is answered. Any status below 500
+ * is an answer; connection errors and 5xx are not.
+ */
+public class StartupFeignCapability implements Capability {
+
+    private final StartupTracker tracker;
+
+    public StartupFeignCapability(StartupTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            StartupTracker.DownstreamCall call = tracker.downstreamCall("feign");
+            if (call == null) {
+                return client.execute(request, options);
+            }
+            try {
+                Response response = client.execute(request, options);
+                call.end(response.status() < 500);
+                return response;
+            } catch (IOException | RuntimeException e) {
+                call.end(false);
+                throw e;
+            }
+        };
+    }
+}
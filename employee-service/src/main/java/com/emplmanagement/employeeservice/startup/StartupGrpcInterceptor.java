@@ -0,0 +1,51 @@
+package com.emplmanagement.employeeservice.startup;
+
+import com.emplmanagement.spring.startup.StartupTracker;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.Set;
+
+/**
+ * Reports gRPC calls to the {@link StartupTracker} until one is answered. A call is answered
+ * unless it ends with one of the statuses that mean the server was not reached or did not respond.
+ */
+public class StartupGrpcInterceptor implements ClientInterceptor {
+
+    private static final Set<Status.Code> UNANSWERED = Set.of(Status.Code.UNAVAILABLE, Status.Code.DEADLINE_EXCEEDED,
+            Status.Code.CANCELLED, Status.Code.UNKNOWN, Status.Code.INTERNAL);
+
+    private final StartupTracker tracker;
+
+    public StartupGrpcInterceptor(StartupTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        StartupTracker.DownstreamCall call = tracker.downstreamCall("grpc");
+        if (call == null) {
+            return next.newCall(method, callOptions);
+        }
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        call.end(!UNANSWERED.contains(status.getCode()));
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+        };
+    }
+}
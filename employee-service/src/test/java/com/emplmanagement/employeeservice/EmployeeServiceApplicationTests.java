@@ -1,13 +1,28 @@
 package com.emplmanagement.employeeservice;
 
+import com.emplmanagement.spring.startup.StartupBudgetTests;
+import com.emplmanagement.spring.startup.StartupTracker;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
 
 @SpringBootTest
-class EmployeeServiceApplicationTests {
+@TestPropertySource(locations = StartupBudgetTests.WITHOUT_DATABASE, properties = "employee-cache.enabled=false")
+class EmployeeServiceApplicationTests extends StartupBudgetTests {
+
+    @Autowired
+    private StartupTracker startupTracker;
 
     @Test
     void contextLoads() {
     }
 
+    @Override
+    protected Duration springStartup() {
+        return startupTracker.springStartup();
+    }
+
 }
@@ -0,0 +1,109 @@
+package com.emplmanagement.employeeservice.cache;
+
+import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EmployeeCacheTest {
+
+    private static final EmployeeDto ALICE = new EmployeeDto(1L, "Alice", "Engineer", 10L);
+    private static final EmployeeDto BOB = new EmployeeDto(2L, "Bob", "Analyst", 10L);
+    private static final EmployeeDto CAROL = new EmployeeDto(3L, "Carol", "Manager", 20L);
+
+    private final EmployeeCache cache = cache(10, Duration.ofMinutes(10));
+
+    @Test
+    void storedEmployeeIsServed() {
+        cache.flush(true);
+        cache.put(ALICE, cache.generation());
+
+        assertEquals(ALICE, cache.get(1L));
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void readRacingAWriteIsNotStored() {
+        cache.flush(true);
+        long readGeneration = cache.generation();
+        // Another request writes the employee while the first one is still reading the old row
+        cache.invalidate(List.of(1L));
+
+        cache.put(ALICE, readGeneration);
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void writeDropsTheEmployeeOnly() {
+        cache.flush(true);
+        cache.put(ALICE, cache.generation());
+        cache.put(BOB, cache.generation());
+
+        cache.invalidate(List.of(1L));
+
+        assertNull(cache.get(1L));
+        assertEquals(BOB, cache.get(2L));
+    }
+
+    @Test
+    void cacheIsBypassedUntilTheListenerConnects() {
+        cache.put(ALICE, cache.generation());
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void lostListenerFlushesAndBypasses() {
+        cache.flush(true);
+        long readGeneration = cache.generation();
+        cache.put(ALICE, readGeneration);
+
+        cache.flush(false);
+        cache.put(BOB, cache.generation());
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+
+        // Reconnecting starts empty, and reads begun before it are not stored
+        cache.flush(true);
+        cache.put(ALICE, readGeneration);
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void leastRecentlyUsedEmployeeIsEvicted() {
+        EmployeeCache small = cache(2, Duration.ofMinutes(10));
+        small.flush(true);
+        small.put(ALICE, small.generation());
+        small.put(BOB, small.generation());
+        small.get(1L);
+
+        small.put(CAROL, small.generation());
+
+        assertEquals(ALICE, small.get(1L));
+        assertNull(small.get(2L));
+        assertEquals(CAROL, small.get(3L));
+    }
+
+    @Test
+    void expiredEmployeeIsDropped() {
+        EmployeeCache expiring = cache(10, Duration.ZERO);
+        expiring.flush(true);
+        expiring.put(ALICE, expiring.generation());
+
+        assertNull(expiring.get(1L));
+        assertEquals(0, expiring.size());
+    }
+
+    private static EmployeeCache cache(int maxEntries, Duration ttl) {
+        return new EmployeeCache(new EmployeeCacheProperties(true, maxEntries, ttl, "employee_changes",
+                Duration.ofSeconds(5)), new SimpleMeterRegistry());
+    }
+}
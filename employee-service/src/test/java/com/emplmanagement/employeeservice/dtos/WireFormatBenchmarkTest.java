@@ -0,0 +1,78 @@
+package com.emplmanagement.employeeservice.dtos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Size and encode/decode throughput of a {@code Page<EmployeeDto>} as JSON and as Smile.
+ * Not part of the regular build: {@code ./mvnw test -Dtest=WireFormatBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WireFormatBenchmarkTest {
+
+    private static final long RUN_NANOS = 2_000_000_000L;
+
+    private record PageBody(List<EmployeeDto> content, long totalElements, int totalPages, int number, int size) {
+    }
+
+    @Test
+    void comparePageEncodings() throws Exception {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+        System.out.printf("%-6s %6s %10s %14s %14s%n", "format", "rows", "bytes", "encode ops/s", "decode ops/s");
+        for (int rows : new int[]{100, 1_000}) {
+            Page<EmployeeDto> page = page(rows);
+            for (ObjectMapper mapper : List.of(json, smile)) {
+                byte[] encoded = mapper.writeValueAsBytes(page);
+                assertEquals(rows, mapper.readValue(encoded, PageBody.class).content().size());
+                double encodes = throughput(() -> mapper.writeValueAsBytes(page));
+                double decodes = throughput(() -> mapper.readValue(encoded, PageBody.class));
+                System.out.printf("%-6s %6d %10d %14.0f %14.0f%n",
+                        mapper.getFactory().getFormatName(),
+                        rows, encoded.length, encodes, decodes);
+            }
+        }
+    }
+
+    private static Page<EmployeeDto> page(int rows) {
+        String[] positions = {"Software Engineer", "Product Manager", "Data Analyst", "HR Specialist"};
+        List<EmployeeDto> content = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            content.add(new EmployeeDto(i, "Employee " + i, positions[(int) (i % positions.length)], i % 25 + 1));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, rows), 25_000);
+    }
+
+    private static double throughput(Operation operation) throws Exception {
+        // Warm-up pass, then a measured pass of the same length
+        for (int pass = 0; pass < 2; pass++) {
+            long ops = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                operation.run();
+                ops++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < RUN_NANOS);
+            if (pass == 1) {
+                return ops * 1e9 / elapsed;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,156 @@
+package com.emplmanagement.employeeservice.graphql;
+
+import com.emplmanagement.employeeservice.client.DepartmentClient;
+import com.emplmanagement.employeeservice.client.DepartmentClient.DepartmentDto;
+import com.emplmanagement.employeeservice.config.GraphqlConfig;
+import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import com.emplmanagement.employeeservice.search.EmployeeFilter;
+import com.emplmanagement.employeeservice.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.data.method.annotation.support.AnnotatedControllerConfigurer;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
+import org.springframework.graphql.execution.DefaultExecutionGraphQlService;
+import org.springframework.graphql.execution.GraphQlSource;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs queries through the schema, the controller and the limits of {@link GraphqlConfig}, as
+ * {@code /graphql} does, with mocked services. Method security is not applied here.
+ */
+class EmployeeGraphqlControllerTest {
+
+    private static final String PAGE_QUERY = """
+            query($size: Int) {
+              employees(size: $size) {
+                totalElements
+                content { id name position departmentId department { id name location } alias: name other: position }
+              }
+            }
+            """;
+
+    private final EmployeeService service = mock(EmployeeService.class);
+    private final DepartmentClient departmentClient = mock(DepartmentClient.class);
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private final DefaultExecutionGraphQlService graphQl = graphQl();
+
+    @AfterEach
+    void close() {
+        context.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pageOfEmployeesLooksUpItsDepartmentsOnce() {
+        when(service.findAll(any(EmployeeFilter.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                new EmployeeDto(1L, "Alice", "Engineer", 7L),
+                new EmployeeDto(2L, "Bob", "Engineer", 3L),
+                new EmployeeDto(3L, "Carol", "Manager", 7L),
+                new EmployeeDto(4L, "Dan", "Intern", null)), PageRequest.of(0, 20), 4));
+        when(departmentClient.getDepartmentsByIds(any())).thenReturn(List.of(
+                new DepartmentDto(7L, "IT", "Oslo"), new DepartmentDto(3L, "Sales", "Berlin")));
+
+        ExecutionGraphQlResponse response = execute(PAGE_QUERY, Map.of("size", 20));
+
+        assertTrue(response.getErrors().isEmpty(), () -> response.getErrors().toString());
+        assertEquals("IT", response.field("employees.content[0].department.name").getValue());
+        assertEquals("Sales", response.field("employees.content[1].department.name").getValue());
+        assertEquals("IT", response.field("employees.content[2].department.name").getValue());
+        assertNull(response.field("employees.content[3].department").getValue());
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(departmentClient, times(1)).getDepartmentsByIds(ids.capture());
+        assertEquals(2, ids.getValue().size());
+        assertEquals(Set.of(3L, 7L), Set.copyOf(ids.getValue()));
+    }
+
+    @Test
+    void departmentsAreNotLookedUpWhenNotSelected() {
+        when(service.findAll(any(EmployeeFilter.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                new EmployeeDto(1L, "Alice", "Engineer", 7L)), PageRequest.of(0, 20), 1));
+
+        ExecutionGraphQlResponse response = execute("{ employees { content { name } } }", Map.of());
+
+        assertTrue(response.getErrors().isEmpty(), () -> response.getErrors().toString());
+        verify(departmentClient, never()).getDepartmentsByIds(any());
+    }
+
+    @Test
+    void overComplexQueryIsRejectedBeforeItRuns() {
+        // Ten fields per row: 100 rows cost over 1000
+        ExecutionGraphQlResponse response = execute(PAGE_QUERY, Map.of("size", 100));
+
+        assertEquals(1, response.getErrors().size());
+        assertTrue(response.getErrors().get(0).getMessage().contains("maximum query complexity exceeded"),
+                response.getErrors().get(0).getMessage());
+        verify(service, never()).findAll(any(), any());
+        verify(departmentClient, never()).getDepartmentsByIds(any());
+    }
+
+    @Test
+    void requestedSizeAboveTheCapCountsAsTheCap() {
+        when(service.findAll(any(EmployeeFilter.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        ExecutionGraphQlResponse response = execute(
+                "{ employees(size: 5000) { content { id name position departmentId department { id name location } } } }",
+                Map.of());
+
+        // 100 rows of 8 fields: within the limit, and the service is asked for 100
+        assertTrue(response.getErrors().isEmpty(), () -> response.getErrors().toString());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(service).findAll(any(EmployeeFilter.class), pageable.capture());
+        assertEquals(EmployeeGraphqlController.MAX_PAGE_SIZE, pageable.getValue().getPageSize());
+    }
+
+    private ExecutionGraphQlResponse execute(String query, Map<String, Object> variables) {
+        return graphQl.execute(new DefaultExecutionGraphQlRequest(query, null, variables, Map.of(), "1", Locale.ROOT))
+                .block();
+    }
+
+    private DefaultExecutionGraphQlService graphQl() {
+        BatchLoaderRegistry batchLoaders = new DefaultBatchLoaderRegistry();
+        context.registerBean(EmployeeGraphqlController.class, () -> new EmployeeGraphqlController(service, departmentClient));
+        context.registerBean(BatchLoaderRegistry.class, () -> batchLoaders);
+        context.refresh();
+
+        AnnotatedControllerConfigurer controllers = new AnnotatedControllerConfigurer();
+        controllers.setApplicationContext(context);
+        controllers.afterPropertiesSet();
+
+        GraphqlConfig limits = new GraphqlConfig();
+        GraphQlSource source = GraphQlSource.schemaResourceBuilder()
+                .schemaResources(new ClassPathResource("graphql/schema.graphqls"))
+                .configureRuntimeWiring(controllers)
+                .instrumentation(List.of(limits.maxQueryDepthInstrumentation(5),
+                        limits.maxQueryComplexityInstrumentation(1000)))
+                .build();
+        DefaultExecutionGraphQlService graphQl = new DefaultExecutionGraphQlService(source);
+        graphQl.addDataLoaderRegistrar(batchLoaders);
+        return graphQl;
+    }
+}
@@ -0,0 +1,169 @@
+package com.emplmanagement.employeeservice.grpc;
+
+import com.emplmanagement.department.grpc.Department;
+import com.emplmanagement.department.grpc.DepartmentsGrpc;
+import com.emplmanagement.department.grpc.GetDepartmentRequest;
+import com.emplmanagement.department.grpc.GetDepartmentsRequest;
+import com.emplmanagement.department.grpc.GetDepartmentsResponse;
+import com.emplmanagement.employeeservice.client.DepartmentClient.DepartmentDto;
+import com.emplmanagement.employeeservice.exception.DepartmentNotFoundException;
+import com.emplmanagement.employeeservice.exception.DepartmentServiceUnavailableException;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link GrpcDepartmentClient} against a department stub served on a loopback port in the
+ * test JVM.
+ */
+class GrpcDepartmentClientTest {
+
+    private static final Duration CLIENT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final AtomicReference<Deadline> serverDeadline = new AtomicReference<>();
+    private final ScheduledExecutorService deadlineScheduler = Executors.newSingleThreadScheduledExecutor();
+    private Server server;
+    private ManagedChannel channel;
+    private GrpcDepartmentClient client;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(new StubDepartments())
+                .build()
+                .start();
+        channel = Grpc.newChannelBuilderForAddress("localhost", server.getPort(), InsecureChannelCredentials.create())
+                .build();
+        client = new GrpcDepartmentClient(DepartmentsGrpc.newBlockingStub(channel), CLIENT_TIMEOUT);
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        deadlineScheduler.shutdownNow();
+    }
+
+    @Test
+    void departmentsAreMapped() {
+        assertEquals(new DepartmentDto(7L, "IT", "Oslo"), client.getDepartmentById(7L));
+        assertEquals(List.of(new DepartmentDto(7L, "IT", "Oslo")), client.getDepartmentsByIds(List.of(7L, 8L)));
+    }
+
+    @Test
+    void notFoundBecomesDepartmentNotFound() {
+        DepartmentNotFoundException e = assertThrows(DepartmentNotFoundException.class,
+                () -> client.getDepartmentById(8L));
+        assertEquals("Department not found with ID: 8", e.getMessage());
+        assertThrows(DepartmentNotFoundException.class, () -> client.getDepartmentById(null));
+    }
+
+    @Test
+    void otherFailuresMeanTheServiceIsUnavailable() {
+        DepartmentServiceUnavailableException e = assertThrows(DepartmentServiceUnavailableException.class,
+                () -> client.getDepartmentById(500L));
+        assertEquals("Department service call failed: INTERNAL", e.getMessage());
+    }
+
+    @Test
+    void clientTimeoutIsTheDeadlineWithoutARequestBudget() {
+        client.getDepartmentById(7L);
+
+        long remaining = serverDeadline.get().timeRemaining(TimeUnit.MILLISECONDS);
+        assertTrue(remaining > CLIENT_TIMEOUT.toMillis() - 1000 && remaining <= CLIENT_TIMEOUT.toMillis(),
+                "remaining " + remaining + "ms");
+    }
+
+    @Test
+    void requestBudgetShortensTheDeadline() throws Exception {
+        withBudget("300", () -> client.getDepartmentById(7L));
+
+        long remaining = serverDeadline.get().timeRemaining(TimeUnit.MILLISECONDS);
+        assertTrue(remaining <= 300, "remaining " + remaining + "ms");
+    }
+
+    @Test
+    void callOverTheBudgetFailsAtTheDeadline() throws Exception {
+        long start = System.nanoTime();
+
+        DepartmentServiceUnavailableException e = assertThrows(DepartmentServiceUnavailableException.class,
+                () -> withBudget("200", () -> client.getDepartmentById(1000L)));
+
+        assertEquals("Department service call failed: DEADLINE_EXCEEDED", e.getMessage());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < CLIENT_TIMEOUT.toMillis());
+    }
+
+    @Test
+    void malformedBudgetIsIgnored() throws Exception {
+        withBudget("soon", () -> client.getDepartmentById(7L));
+
+        assertTrue(serverDeadline.get().timeRemaining(TimeUnit.MILLISECONDS) > 1000);
+        assertNull(Context.current().getDeadline());
+    }
+
+    // Serves one request through GrpcRequestContextFilter, as the servlet container would
+    private void withBudget(String budget, Runnable call) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/1");
+        request.addHeader(GrpcRequestContextFilter.REQUEST_TIMEOUT_HEADER, budget);
+        new GrpcRequestContextFilter(deadlineScheduler)
+                .doFilter(request, new MockHttpServletResponse(), (req, res) -> call.run());
+    }
+
+    /**
+     * Department 7 exists, 8 does not, 500 fails and 1000 never answers.
+     */
+    private class StubDepartments extends DepartmentsGrpc.DepartmentsImplBase {
+
+        private static final Department IT = Department.newBuilder().setId(7).setName("IT").setLocation("Oslo").build();
+
+        @Override
+        public void getDepartment(GetDepartmentRequest request, StreamObserver<Department> responseObserver) {
+            serverDeadline.set(Context.current().getDeadline());
+            switch ((int) request.getId()) {
+                case 7 -> {
+                    responseObserver.onNext(IT);
+                    responseObserver.onCompleted();
+                }
+                case 500 -> responseObserver.onError(Status.INTERNAL.asRuntimeException());
+                case 1000 -> {
+                    // Left open until the client gives up
+                }
+                default -> responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+            }
+        }
+
+        @Override
+        public void getDepartments(GetDepartmentsRequest request, StreamObserver<GetDepartmentsResponse> responseObserver) {
+            GetDepartmentsResponse.Builder response = GetDepartmentsResponse.newBuilder();
+            if (request.getIdsList().contains(7L)) {
+                response.addDepartments(IT);
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.emplmanagement.employeeservice.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeJournalBatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeJournalBatcher batcher = new EmployeeJournalBatcher(jdbcTemplate, transactionManager,
+            new EmployeeJournalProperties(BATCH_SIZE, Duration.ofSeconds(1), 1000), meterRegistry);
+
+    @Test
+    void drainRunsBatchesUntilOneIsShort() {
+        lockIsFree(true);
+        when(jdbcTemplate.update(anyString(), eq(BATCH_SIZE))).thenReturn(2, 2, 1);
+
+        batcher.drain();
+
+        verify(jdbcTemplate, times(3)).update(anyString(), eq(BATCH_SIZE));
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(5, meterRegistry.get("employee.journal.rows").functionCounter().count());
+        assertEquals(3, meterRegistry.get("employee.journal.batches").functionCounter().count());
+    }
+
+    @Test
+    void eachBatchTakesTheLockBeforeDrawingSequenceNumbers() {
+        lockIsFree(true);
+        when(jdbcTemplate.update(anyString(), eq(BATCH_SIZE))).thenReturn(1);
+
+        batcher.drain();
+
+        InOrder order = inOrder(transactionManager, jdbcTemplate);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(jdbcTemplate).queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), anyLong());
+        order.verify(jdbcTemplate).update(anyString(), eq(BATCH_SIZE));
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void batchMovesTheOldestRowsInOutboxOrder() {
+        lockIsFree(true);
+        when(jdbcTemplate.update(anyString(), eq(BATCH_SIZE))).thenReturn(0);
+
+        batcher.drain();
+
+        verify(jdbcTemplate).update(contains("from employee_change_outbox order by id limit ?"), eq(BATCH_SIZE));
+        verify(jdbcTemplate).update(contains("from moved order by id"), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void replicaWithoutTheLockLeavesTheOutboxAlone() {
+        lockIsFree(false);
+
+        batcher.drain();
+
+        verify(jdbcTemplate, never()).update(anyString(), eq(BATCH_SIZE));
+        verify(transactionManager, times(1)).commit(any());
+        assertEquals(0, meterRegistry.get("employee.journal.batches").functionCounter().count());
+    }
+
+    @Test
+    void emptyOutboxCountsNoBatch() {
+        lockIsFree(true);
+        when(jdbcTemplate.update(anyString(), eq(BATCH_SIZE))).thenReturn(0);
+
+        batcher.drain();
+
+        verify(jdbcTemplate, times(1)).update(anyString(), eq(BATCH_SIZE));
+        assertEquals(0, meterRegistry.get("employee.journal.batches").functionCounter().count());
+    }
+
+    private void lockIsFree(boolean free) {
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), anyLong()))
+                .thenReturn(free);
+    }
+}
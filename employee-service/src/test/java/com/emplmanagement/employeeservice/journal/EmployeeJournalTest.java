@@ -0,0 +1,63 @@
+package com.emplmanagement.employeeservice.journal;
+
+import com.emplmanagement.employeeservice.dtos.EmployeeChangeDto;
+import com.emplmanagement.employeeservice.dtos.EmployeeChangesDto;
+import com.emplmanagement.employeeservice.entity.EmployeeChange;
+import com.emplmanagement.employeeservice.entity.EmployeeChangeType;
+import com.emplmanagement.employeeservice.repository.EmployeeChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeJournalTest {
+
+    private final EmployeeChangeRepository changes = mock(EmployeeChangeRepository.class);
+    private final EmployeeJournal journal = new EmployeeJournal(mock(JdbcTemplate.class), changes,
+            new EmployeeJournalProperties(5000, Duration.ofSeconds(1), 100));
+
+    @Test
+    void nextIsTheLastSequenceOfThePage() {
+        when(changes.findByIdGreaterThanOrderByIdAsc(eq(10L), eq(Limit.of(2)))).thenReturn(List.of(change(11), change(12)));
+
+        EmployeeChangesDto page = journal.changes(10, 2);
+
+        assertEquals(List.of(11L, 12L), page.changes().stream().map(EmployeeChangeDto::sequence).toList());
+        assertEquals(12, page.next());
+    }
+
+    @Test
+    void nextStaysPutWhenNothingIsNew() {
+        when(changes.findByIdGreaterThanOrderByIdAsc(eq(12L), eq(Limit.of(2)))).thenReturn(List.of());
+
+        assertEquals(12, journal.changes(12, 2).next());
+    }
+
+    @Test
+    void limitIsCappedAndAtLeastOne() {
+        journal.changes(0, 5000);
+        journal.changes(0, 0);
+
+        verify(changes).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(100));
+        verify(changes).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1));
+    }
+
+    private static EmployeeChange change(long sequence) {
+        EmployeeChange change = new EmployeeChange();
+        change.setId(sequence);
+        change.setEmployeeId(1L);
+        change.setType(EmployeeChangeType.UPDATED);
+        change.setName("Alice");
+        change.setChangedAt(Instant.EPOCH);
+        return change;
+    }
+}
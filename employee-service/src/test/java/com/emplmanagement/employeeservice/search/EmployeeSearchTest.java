@@ -0,0 +1,63 @@
+package com.emplmanagement.employeeservice.search;
+
+import com.emplmanagement.employeeservice.exception.InvalidSearchException;
+import com.emplmanagement.employeeservice.search.EmployeeSearch.UnindexedSortPolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmployeeSearchTest {
+
+    private final EmployeeSearch strict = new EmployeeSearch(100, UnindexedSortPolicy.REJECT);
+    private final EmployeeSearch lenient = new EmployeeSearch(100, UnindexedSortPolicy.IGNORE);
+
+    @Test
+    void pageSizeIsCapped() {
+        assertEquals(100, strict.pageable(PageRequest.of(3, 5000)).getPageSize());
+        assertEquals(3, strict.pageable(PageRequest.of(3, 5000)).getPageNumber());
+        assertEquals(20, strict.pageable(PageRequest.of(0, 20)).getPageSize());
+        assertEquals(100, strict.pageable(Pageable.unpaged()).getPageSize());
+    }
+
+    @Test
+    void idFollowsTheSortKeyInItsDirection() {
+        assertEquals(Sort.by(Sort.Direction.DESC, "name").and(Sort.by(Sort.Direction.DESC, "id")),
+                sorted(strict, Sort.by(Sort.Direction.DESC, "name")));
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), sorted(strict, Sort.unsorted()));
+        assertEquals(Sort.by(Sort.Direction.DESC, "id"), sorted(strict, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Test
+    void explicitIdTiebreakerTakesTheKeyDirection() {
+        Sort requested = Sort.by(Sort.Order.asc("departmentId"), Sort.Order.desc("id"));
+        assertEquals(Sort.by(Sort.Direction.ASC, "departmentId", "id"), sorted(strict, requested));
+    }
+
+    @Test
+    void ignoreCaseIsDropped() {
+        Sort requested = Sort.by(Sort.Order.asc("name").ignoreCase());
+        assertEquals(Sort.by(Sort.Direction.ASC, "name", "id"), sorted(strict, requested));
+    }
+
+    @Test
+    void unindexedPropertiesAreRejectedOrDropped() {
+        Sort requested = Sort.by("position");
+        assertThrows(InvalidSearchException.class, () -> sorted(strict, requested));
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), sorted(lenient, requested));
+    }
+
+    @Test
+    void secondSortKeyIsRejectedOrDropped() {
+        Sort requested = Sort.by(Sort.Order.desc("name"), Sort.Order.asc("departmentId"));
+        assertThrows(InvalidSearchException.class, () -> sorted(strict, requested));
+        assertEquals(Sort.by(Sort.Direction.DESC, "name", "id"), sorted(lenient, requested));
+    }
+
+    private static Sort sorted(EmployeeSearch search, Sort requested) {
+        return search.pageable(PageRequest.of(0, 10, requested)).getSort();
+    }
+}
@@ -0,0 +1,126 @@
+package com.emplmanagement.employeeservice.service;
+
+import com.emplmanagement.employeeservice.cache.EmployeeChangeNotifier;
+import com.emplmanagement.employeeservice.dtos.EmployeeDto;
+import com.emplmanagement.employeeservice.dtos.EmployeeReassignmentDto;
+import com.emplmanagement.employeeservice.dtos.ReassignEmployeesRequest;
+import com.emplmanagement.employeeservice.entity.EmployeeChangeType;
+import com.emplmanagement.employeeservice.journal.EmployeeJournal;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeReassignmentTest {
+
+    private static final long SOURCE = 10L;
+    private static final long TARGET = 20L;
+    private static final int CHUNK_SIZE = 2;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final EmployeeChangeNotifier changeNotifier = mock(EmployeeChangeNotifier.class);
+    private final EmployeeJournal journal = mock(EmployeeJournal.class);
+    private final EmployeeReassignment reassignment = new EmployeeReassignment(jdbcTemplate, transactionManager,
+            changeNotifier, journal, CHUNK_SIZE);
+
+    private final List<EmployeeReassignmentDto> progress = new ArrayList<>();
+
+    @Test
+    void departmentMoveRunsChunksUntilOneIsShort() {
+        sourceHas(5);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(TARGET), eq(SOURCE), eq(SOURCE), eq(CHUNK_SIZE)))
+                .thenReturn(moved(1, 2), moved(3, 4), moved(5));
+
+        EmployeeReassignmentDto result = reassignment.run(new ReassignEmployeesRequest(SOURCE, null, TARGET), progress::add);
+
+        assertEquals(new EmployeeReassignmentDto(TARGET, 5, 5, 3, true), result);
+        assertEquals(List.of(2L, 4L, 5L), progress.stream().map(EmployeeReassignmentDto::updated).toList());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void departmentMoveEndingOnAFullChunkStopsOnTheEmptyOne() {
+        sourceHas(2);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(TARGET), eq(SOURCE), eq(SOURCE), eq(CHUNK_SIZE)))
+                .thenReturn(moved(1, 2), List.of());
+
+        EmployeeReassignmentDto result = reassignment.run(new ReassignEmployeesRequest(SOURCE, null, TARGET), progress::add);
+
+        assertEquals(new EmployeeReassignmentDto(TARGET, 2, 2, 1, true), result);
+        assertEquals(1, progress.size());
+        verify(changeNotifier, times(1)).employeesChanged(any());
+        verify(journal, times(1)).record(eq(EmployeeChangeType.UPDATED), any(List.class));
+    }
+
+    @Test
+    void eachChunkAnnouncesItsEmployees() {
+        sourceHas(3);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(TARGET), eq(SOURCE), eq(SOURCE), eq(CHUNK_SIZE)))
+                .thenReturn(moved(1, 2), moved(3));
+
+        reassignment.run(new ReassignEmployeesRequest(SOURCE, null, TARGET), progress::add);
+
+        verify(changeNotifier).employeesChanged(List.of(1L, 2L));
+        verify(changeNotifier).employeesChanged(List.of(3L));
+        verify(journal).record(EmployeeChangeType.UPDATED, moved(1, 2));
+        verify(journal).record(EmployeeChangeType.UPDATED, moved(3));
+    }
+
+    @Test
+    void listedIdsAreSortedDedupedAndChunked() throws SQLException {
+        ArgumentCaptor<PreparedStatementCreator> statements = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        when(jdbcTemplate.query(statements.capture(), any(RowMapper.class)))
+                .thenReturn(moved(1, 3), moved(5), List.of());
+
+        EmployeeReassignmentDto result = reassignment.run(
+                new ReassignEmployeesRequest(null, Arrays.asList(9L, 1L, null, 3L, 1L, 5L, 12L), TARGET), progress::add);
+
+        assertEquals(List.of(List.of(1L, 3L), List.of(5L, 9L), List.of(12L)), boundIds(statements.getAllValues()));
+        // 9 was already there and 12 is gone: counted, not moved
+        assertEquals(new EmployeeReassignmentDto(TARGET, 5, 3, 2, true), result);
+        assertEquals(2, progress.size());
+        verify(changeNotifier, never()).employeesChanged(List.of());
+    }
+
+    private void sourceHas(long employees) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(SOURCE))).thenReturn(employees);
+    }
+
+    private static List<EmployeeDto> moved(long... ids) {
+        return Arrays.stream(ids).mapToObj(id -> new EmployeeDto(id, "Employee " + id, "Engineer", TARGET)).toList();
+    }
+
+    // The ids each statement binds, by running it against a mocked connection
+    private static List<List<Long>> boundIds(List<PreparedStatementCreator> creators) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        ArgumentCaptor<Object[]> arrays = ArgumentCaptor.forClass(Object[].class);
+        for (PreparedStatementCreator creator : creators) {
+            creator.createPreparedStatement(connection);
+        }
+        verify(connection, times(creators.size())).createArrayOf(eq("bigint"), arrays.capture());
+        return arrays.getAllValues().stream()
+                .map(array -> Arrays.stream(array).map(Long.class::cast).toList())
+                .toList();
+    }
+}
@@ -0,0 +1,262 @@
+package com.emplmanagement.common.accesslog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous access-log pipeline.
+ * <p>
+ * Request threads claim a slot of a preallocated ring with a single CAS, copy the record
+ * fields into it and publish it; they never format, allocate or touch I/O. A single writer
+ * thread drains published slots in order, encodes them as JSON lines and hands whole batches
+ * to the {@link AccessLogSink}. When the ring is full the {@link OverflowPolicy} decides
+ * whether the caller drops the record or waits (bounded) for space; drops are counted.
+ */
+public final class AccessLogPipeline implements AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final String service;
+    private final AccessRecord[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final AccessLogSink sink;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private volatile boolean running;
+    private Thread writer;
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder writeErrorCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+
+    private AccessLogPipeline(Builder builder) {
+        int capacity = Integer.highestOneBit(Math.max(2, builder.capacity) * 2 - 1);
+        this.service = builder.service;
+        this.slots = new AccessRecord[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AccessRecord();
+        }
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1L);
+        }
+        this.mask = capacity - 1;
+        this.batchSize = Math.max(1, Math.min(builder.batchSize, capacity));
+        this.overflowPolicy = builder.overflowPolicy;
+        this.blockTimeoutNanos = builder.blockTimeout.toNanos();
+        this.sink = Objects.requireNonNull(builder.sink, "sink");
+    }
+
+    public static Builder builder(String service) {
+        return new Builder(service);
+    }
+
+    /**
+     * Starts the writer thread. Records published before {@code start()} are buffered in the ring.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "access-log-writer-" + service);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Captures one access record. Never blocks under {@link OverflowPolicy#DROP}.
+     *
+     * @return {@code false} if the record was dropped because the ring was full
+     */
+    public boolean record(String method, String path, String query, int status, long durationMs,
+                          String user, String clientIp, String userAgent, String correlationId, String error) {
+        long seq = claim();
+        if (seq < 0) {
+            droppedCount.increment();
+            return false;
+        }
+        int index = (int) (seq & mask);
+        slots[index].set(System.currentTimeMillis(), method, path, query, status, durationMs,
+                user, clientIp, userAgent, correlationId, error);
+        published.lazySet(index, seq);
+        publishedCount.increment();
+        return true;
+    }
+
+    private long claim() {
+        long deadline = 0L;
+        while (true) {
+            long seq = claimed.get();
+            if (seq - consumed >= slots.length) {
+                if (overflowPolicy == OverflowPolicy.DROP || !running) {
+                    return -1L;
+                }
+                long now = System.nanoTime();
+                if (deadline == 0L) {
+                    deadline = now + blockTimeoutNanos;
+                } else if (now - deadline >= 0) {
+                    return -1L;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(seq, seq + 1)) {
+                return seq;
+            }
+        }
+    }
+
+    private void runWriter() {
+        StringBuilder batch = new StringBuilder(batchSize * 256);
+        while (running || consumed < claimed.get()) {
+            int drained = drain(batch);
+            if (drained < batchSize) {
+                flushSink();
+                if (drained == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        }
+        flushSink();
+    }
+
+    /**
+     * Encodes up to one batch of published records and writes it. Slots are released before
+     * the write so that slow I/O does not keep the ring full.
+     */
+    private int drain(StringBuilder batch) {
+        long seq = consumed;
+        int count = 0;
+        batch.setLength(0);
+        while (count < batchSize) {
+            int index = (int) (seq & mask);
+            if (published.get(index) != seq) {
+                break;
+            }
+            AccessRecord record = slots[index];
+            JsonLineEncoder.encode(service, record, batch);
+            record.clear();
+            seq++;
+            count++;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        consumed = seq;
+
+        byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            sink.write(bytes, bytes.length);
+            writtenCount.add(count);
+            batchCount.increment();
+        } catch (IOException | RuntimeException e) {
+            writeErrorCount.increment();
+        }
+        return count;
+    }
+
+    private void flushSink() {
+        try {
+            sink.flush();
+        } catch (IOException | RuntimeException e) {
+            writeErrorCount.increment();
+        }
+    }
+
+    /**
+     * Stops accepting blocked producers, drains what is already in the ring and closes the sink.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = writer;
+            writer = null;
+        }
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            sink.close();
+        } catch (IOException e) {
+            writeErrorCount.increment();
+        }
+    }
+
+    public int capacity() { return slots.length; }
+    public long pending() { return claimed.get() - consumed; }
+    public long publishedCount() { return publishedCount.sum(); }
+    public long droppedCount() { return droppedCount.sum(); }
+    public long writtenCount() { return writtenCount.sum(); }
+    public long writeErrorCount() { return writeErrorCount.sum(); }
+    public long batchCount() { return batchCount.sum(); }
+    public OverflowPolicy overflowPolicy() { return overflowPolicy; }
+
+    public static final class Builder {
+
+        private final String service;
+        private int capacity = 8192;
+        private int batchSize = 256;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+        private Duration blockTimeout = Duration.ofMillis(10);
+        private AccessLogSink sink;
+
+        private Builder(String service) {
+            this.service = Objects.requireNonNull(service, "service");
+        }
+
+        /** Ring size; rounded up to a power of two. */
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /** Maximum number of records encoded into one sink write. */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+            return this;
+        }
+
+        /** Longest a producer waits for a free slot under {@link OverflowPolicy#BLOCK}. */
+        public Builder blockTimeout(Duration blockTimeout) {
+            this.blockTimeout = Objects.requireNonNull(blockTimeout, "blockTimeout");
+            return this;
+        }
+
+        public Builder sink(AccessLogSink sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        public AccessLogPipeline build() {
+            return new AccessLogPipeline(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.emplmanagement.common.accesslog;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Destination for encoded batches. Only ever called from the pipeline's writer thread.
+ */
+public interface AccessLogSink extends AutoCloseable {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    void write(byte[] bytes, int length) throws IOException;
+
+    void flush() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Writes to the process stdout, bypassing {@code System.out} and its per-call locking.
+     */
+    static AccessLogSink console() {
+        return new OutputStreamSink(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE), false);
+    }
+
+    /**
+     * Appends to the given file, creating it and its parent directories if needed.
+     */
+    static AccessLogSink file(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return new OutputStreamSink(new BufferedOutputStream(out, BUFFER_SIZE), true);
+    }
+
+    final class OutputStreamSink implements AccessLogSink {
+
+        private final OutputStream out;
+        private final boolean closeUnderlying;
+
+        OutputStreamSink(OutputStream out, boolean closeUnderlying) {
+            this.out = out;
+            this.closeUnderlying = closeUnderlying;
+        }
+
+        @Override
+        public void write(byte[] bytes, int length) throws IOException {
+            out.write(bytes, 0, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+            if (closeUnderlying) {
+                out.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.emplmanagement.common.accesslog;
+
+/**
+ * One access-log entry. Instances are preallocated slots of the {@link AccessLogPipeline} ring
+ * and are reused, so they must not be retained outside the sink callback.
+ */
+public final class AccessRecord {
+
+    private long timestamp;
+    private String method;
+    private String path;
+    private String query;
+    private int status;
+    private long durationMs;
+    private String user;
+    private String clientIp;
+    private String userAgent;
+    private String correlationId;
+    private String error;
+
+    AccessRecord() {
+    }
+
+    void set(long timestamp, String method, String path, String query, int status, long durationMs,
+             String user, String clientIp, String userAgent, String correlationId, String error) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.status = status;
+        this.durationMs = durationMs;
+        this.user = user;
+        this.clientIp = clientIp;
+        this.userAgent = userAgent;
+        this.correlationId = correlationId;
+        this.error = error;
+    }
+
+    /**
+     * Drops the references held by the slot so a drained ring does not pin request strings.
+     */
+    void clear() {
+        set(0L, null, null, null, 0, 0L, null, null, null, null, null);
+    }
+
+    public long getTimestamp() { return timestamp; }
+    public String getMethod() { return method; }
+    public String getPath() { return path; }
+    public String getQuery() { return query; }
+    public int getStatus() { return status; }
+    public long getDurationMs() { return durationMs; }
+    public String getUser() { return user; }
+    public String getClientIp() { return clientIp; }
+    public String getUserAgent() { return userAgent; }
+    public String getCorrelationId() { return correlationId; }
+    public String getError() { return error; }
+}
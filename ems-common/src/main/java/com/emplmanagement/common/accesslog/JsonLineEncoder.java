@@ -0,0 +1,60 @@
+package com.emplmanagement.common.accesslog;
+
+import java.time.Instant;
+
+/**
+ * Encodes an {@link AccessRecord} as one compact JSON object followed by a newline.
+ * Null fields are omitted.
+ */
+final class JsonLineEncoder {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonLineEncoder() {
+    }
+
+    static void encode(String service, AccessRecord record, StringBuilder out) {
+        out.append("{\"ts\":\"").append(Instant.ofEpochMilli(record.getTimestamp())).append('"');
+        field(out, "svc", service);
+        field(out, "method", record.getMethod());
+        field(out, "path", record.getPath());
+        field(out, "query", record.getQuery());
+        out.append(",\"status\":").append(record.getStatus());
+        out.append(",\"durationMs\":").append(record.getDurationMs());
+        field(out, "user", record.getUser());
+        field(out, "ip", record.getClientIp());
+        field(out, "ua", record.getUserAgent());
+        field(out, "corrId", record.getCorrelationId());
+        field(out, "error", record.getError());
+        out.append("}\n");
+    }
+
+    private static void field(StringBuilder out, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append(",\"").append(name).append("\":\"");
+        escape(out, value);
+        out.append('"');
+    }
+
+    private static void escape(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.emplmanagement.common.accesslog;
+
+/**
+ * What a request thread does when the access-log ring is full.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Discard the record immediately and count it as dropped. Request latency never depends on log I/O.
+     */
+    DROP,
+
+    /**
+     * Wait up to the configured block timeout for the writer to free a slot, then drop.
+     */
+    BLOCK
+}
@@ -0,0 +1,123 @@
+package com.emplmanagement.common.debuglog;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which requests log at DEBUG while the services run at INFO.
+ * <p>
+ * A request logs at DEBUG when it carries a valid {@value #HEADER} token or, failing that, when it
+ * is picked by the sample rate. The entry filter then puts {@value #MDC_KEY}={@value #MDC_VALUE} in
+ * the MDC, which the logback {@code DynamicThresholdFilter} turns into DEBUG for that thread only,
+ * and forwards the token on downstream calls so the next service logs the same request at DEBUG.
+ * <p>
+ * A token is {@code <expiry epoch seconds>.<HMAC-SHA256 of the expiry, base64url>} under the secret
+ * shared by the services. Without a secret, tokens are neither accepted nor issued, and a sampled
+ * request only logs at DEBUG in the service that sampled it.
+ */
+public final class DebugLogSampler {
+
+    public static final String HEADER = "X-Debug-Log";
+    public static final String MDC_KEY = "debugLog";
+    public static final String MDC_VALUE = "DEBUG";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    // Up to 18 digits of expiry (always fits a long), the dot, 43 characters of signature
+    private static final int MAX_EXPIRY_DIGITS = 18;
+    private static final int MAX_TOKEN_LENGTH = MAX_EXPIRY_DIGITS + 44;
+    private static final Decision OFF = new Decision(false, null);
+
+    private final SecretKeySpec key;
+    private final double sampleRate;
+    private final Duration tokenTtl;
+    private final Clock clock;
+
+    public DebugLogSampler(String secret, double sampleRate, Duration tokenTtl) {
+        this(secret, sampleRate, tokenTtl, Clock.systemUTC());
+    }
+
+    DebugLogSampler(String secret, double sampleRate, Duration tokenTtl, Clock clock) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        }
+        this.key = secret == null || secret.isEmpty()
+                ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.sampleRate = sampleRate;
+        this.tokenTtl = tokenTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether the request with this {@value #HEADER} value (null when absent) logs at DEBUG, and the
+     * token to forward downstream: the caller's own when it was valid, a new one when the request was
+     * sampled here, none when there is no secret to sign one with.
+     */
+    public Decision decide(String header) {
+        if (header != null && isValid(header)) {
+            return new Decision(true, header);
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return new Decision(true, key != null ? newToken() : null);
+        }
+        return OFF;
+    }
+
+    /**
+     * A token that expires after the token TTL.
+     *
+     * @throws IllegalStateException when no secret is configured
+     */
+    public String newToken() {
+        if (key == null) {
+            throw new IllegalStateException("No debug-log secret configured");
+        }
+        String expiry = Long.toString(clock.instant().plus(tokenTtl).getEpochSecond());
+        return expiry + '.' + sign(expiry);
+    }
+
+    public boolean isValid(String token) {
+        if (key == null || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        int dot = token.indexOf('.');
+        if (dot < 1 || dot > MAX_EXPIRY_DIGITS) {
+            return false;
+        }
+        String expiry = token.substring(0, dot);
+        for (int i = 0; i < expiry.length(); i++) {
+            if (expiry.charAt(i) < '0' || expiry.charAt(i) > '9') {
+                return false;
+            }
+        }
+        if (Long.parseLong(expiry) < clock.instant().getEpochSecond()) {
+            return false;
+        }
+        byte[] expected = sign(expiry).getBytes(StandardCharsets.ISO_8859_1);
+        return MessageDigest.isEqual(expected, token.substring(dot + 1).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private String sign(String expiry) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal(expiry.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * @param debug whether the request logs at DEBUG
+     * @param token token to send on downstream calls, null for none
+     */
+    public record Decision(boolean debug, String token) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.emplmanagement.common.id;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Correlation ids for requests: ULIDs generated from per-thread state.
+ * <p>
+ * Each thread draws its random bits from {@link ThreadLocalRandom} instead of the
+ * {@code SecureRandom} shared by {@code UUID.randomUUID()}, so concurrent requests never wait on
+ * each other, and writes them into its own buffer: the returned 26-character string is the only
+ * allocation. Within one millisecond a thread increments the random part of its previous id, so
+ * the ids of a thread are strictly increasing. Correlation ids only need to be unique, not
+ * unguessable; they are not meant for anything security-related.
+ */
+public final class RequestIds {
+
+    // Canonical UUID form, as sent by callers that still generate UUIDs
+    private static final int UUID_LENGTH = 36;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private RequestIds() {
+    }
+
+    public static String next() {
+        return STATE.get().next(System.currentTimeMillis());
+    }
+
+    /**
+     * The caller's id when it is a ULID or a UUID (from callers that still send those),
+     * a new one otherwise, so a missing, oversized or malformed header never reaches the logs.
+     */
+    public static String resolve(String incoming) {
+        return isAccepted(incoming) ? incoming : next();
+    }
+
+    public static boolean isAccepted(CharSequence id) {
+        return Ulid.isValid(id) || isUuid(id);
+    }
+
+    static boolean isUuid(CharSequence id) {
+        if (id == null || id.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = id.charAt(i);
+            boolean valid = i == 8 || i == 13 || i == 18 || i == 23
+                    ? c == '-'
+                    : c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class State {
+
+        private final byte[] chars = new byte[Ulid.LENGTH];
+        private long lastMillis = -1;
+        private long randomHigh;
+        private long randomLow;
+
+        String next(long millis) {
+            if (millis > lastMillis) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                lastMillis = millis;
+                // The top bit of the 80 is kept clear, leaving room to increment without overflow
+                randomHigh = random.nextLong() & 0x7FFF;
+                randomLow = random.nextLong();
+            } else if (++randomLow == 0) {
+                // Same millisecond (or the clock went back): next value of the previous id's random part
+                randomHigh++;
+            }
+            Ulid.encode(lastMillis << 16 | randomHigh, randomLow, chars);
+            return new String(chars, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.emplmanagement.common.id;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * A ULID: 48 bits of Unix milliseconds followed by 80 random bits, written as 26 Crockford
+ * base32 characters. Ids sort by creation time, as strings and as values.
+ *
+ * @param msb timestamp (upper 48 bits) and the first 16 random bits
+ * @param lsb the remaining 64 random bits
+ */
+public record Ulid(long msb, long lsb) implements Comparable<Ulid> {
+
+    public static final int LENGTH = 26;
+
+    static final byte[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+    // Character → 5-bit value, -1 for characters outside the alphabet (lower case is accepted)
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = (byte) i;
+            DECODE[Character.toLowerCase(ALPHABET[i])] = (byte) i;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException when {@code value} is not a ULID
+     */
+    public static Ulid parse(CharSequence value) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("Not a ULID: " + value);
+        }
+        long timestamp = decode(value, 0, 10);
+        long high = decode(value, 10, 18);
+        long low = decode(value, 18, 26);
+        // high and low are 40 bits each: the first 16 bits of high go to msb, the rest with low to lsb
+        return new Ulid(timestamp << 16 | high >>> 24, (high & 0xFFFFFF) << 40 | low);
+    }
+
+    /**
+     * Whether {@code value} is a well-formed ULID. Does not allocate.
+     */
+    public static boolean isValid(CharSequence value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+        // 26 characters hold 130 bits: the first one may only use its lower 3
+        if (value.charAt(0) > '7') {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+            if (c >= 128 || DECODE[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long timestampMillis() {
+        return msb >>> 16;
+    }
+
+    public Instant timestamp() {
+        return Instant.ofEpochMilli(timestampMillis());
+    }
+
+    @Override
+    public int compareTo(Ulid other) {
+        int byMsb = Long.compareUnsigned(msb, other.msb);
+        return byMsb != 0 ? byMsb : Long.compareUnsigned(lsb, other.lsb);
+    }
+
+    @Override
+    public String toString() {
+        byte[] chars = new byte[LENGTH];
+        encode(msb, lsb, chars);
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    static void encode(long msb, long lsb, byte[] into) {
+        encode(msb >>> 16, into, 0, 10);
+        encode((msb & 0xFFFF) << 24 | lsb >>> 40, into, 10, 18);
+        encode(lsb & 0xFF_FFFF_FFFFL, into, 18, 26);
+    }
+
+    private static void encode(long bits, byte[] into, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            into[i] = ALPHABET[(int) (bits & 31)];
+            bits >>>= 5;
+        }
+    }
+
+    private static long decode(CharSequence value, int from, int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            bits = bits << 5 | DECODE[value.charAt(i)];
+        }
+        return bits;
+    }
+}
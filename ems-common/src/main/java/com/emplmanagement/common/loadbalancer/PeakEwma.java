@@ -0,0 +1,128 @@
+package com.emplmanagement.common.loadbalancer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Load estimate of one endpoint: a peak-sensitive exponentially weighted moving average of
+ * response time, multiplied by the number of outstanding requests.
+ * <p>
+ * A slower response than the current average replaces it at once (the "peak"); faster ones
+ * pull it down gradually, with a weight that depends on the time since the previous sample,
+ * and an endpoint that receives no traffic decays towards zero so it is tried again.
+ * All state is updated with CAS; there are no locks.
+ */
+public final class PeakEwma {
+
+    private final String key;
+    private final double decayNanos;
+    private final double penaltyNanos;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicReference<Sample> sample;
+    private volatile long lastUsed;
+
+    /**
+     * An endpoint tracked outside a {@link PeakEwmaBalancer}, e.g. inside the caller's own per-instance state.
+     *
+     * @param decay   time constant of the moving average
+     * @param penalty load charged while requests are in flight but no sample exists yet, and
+     *                minimum latency recorded for a failed request
+     */
+    public PeakEwma(String key, Duration decay, Duration penalty) {
+        this(key, decay.toNanos(), penalty.toNanos(), System.nanoTime());
+    }
+
+    PeakEwma(String key, long decayNanos, long penaltyNanos, long now) {
+        this.key = key;
+        this.decayNanos = decayNanos;
+        this.penaltyNanos = penaltyNanos;
+        this.sample = new AtomicReference<>(new Sample(0.0, now));
+        this.lastUsed = now;
+    }
+
+    /**
+     * A request was sent to this endpoint.
+     */
+    public void start() {
+        pending.incrementAndGet();
+        lastUsed = System.nanoTime();
+    }
+
+    /**
+     * The request completed after {@code rttNanos}. Failures count as at least the penalty, so
+     * an endpoint that fails fast does not look fast.
+     */
+    public void end(long rttNanos, boolean failure) {
+        pending.decrementAndGet();
+        observe(failure ? Math.max(rttNanos, penaltyNanos) : rttNanos, System.nanoTime());
+    }
+
+    /**
+     * The request was abandoned (client went away); it says nothing about the endpoint's latency.
+     */
+    public void cancel() {
+        pending.decrementAndGet();
+    }
+
+    void observe(double rttNanos, long now) {
+        while (true) {
+            Sample current = sample.get();
+            double cost;
+            if (rttNanos > current.cost) {
+                cost = rttNanos;
+            } else {
+                double weight = Math.exp(-Math.max(0, now - current.stamp) / decayNanos);
+                cost = current.cost * weight + rttNanos * (1.0 - weight);
+            }
+            if (sample.compareAndSet(current, new Sample(cost, now))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Latency average in nanoseconds, decayed to the current time.
+     */
+    public double cost() {
+        return cost(System.nanoTime());
+    }
+
+    double cost(long now) {
+        Sample current = sample.get();
+        return current.cost * Math.exp(-Math.max(0, now - current.stamp) / decayNanos);
+    }
+
+    /**
+     * Expected wait for a new request: the latency average times the outstanding requests
+     * including the new one. An endpoint with requests in flight but no latency sample yet is
+     * charged the penalty.
+     */
+    public double load() {
+        return load(System.nanoTime());
+    }
+
+    double load(long now) {
+        double cost = cost(now);
+        int outstanding = Math.max(0, pending.get());
+        if (cost == 0.0 && outstanding > 0) {
+            return penaltyNanos + outstanding;
+        }
+        return cost * (outstanding + 1);
+    }
+
+    public int pending() {
+        return Math.max(0, pending.get());
+    }
+
+    public String key() {
+        return key;
+    }
+
+    long lastUsed() {
+        return lastUsed;
+    }
+
+    private record Sample(double cost, long stamp) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.emplmanagement.common.loadbalancer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Power-of-two-choices selection over {@link PeakEwma} load estimates, for the instances of
+ * one service.
+ * <p>
+ * Two distinct candidates are drawn at random and the one with the lower load wins. This avoids
+ * the herding of always picking the global minimum while still steering traffic away from slow
+ * or busy instances, at constant cost per pick.
+ */
+public final class PeakEwmaBalancer {
+
+    private static final double MIN_WEIGHT = 0.01;
+
+    private final String serviceId;
+    private final long decayNanos;
+    private final long penaltyNanos;
+    private final Map<String, PeakEwma> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param decay   time constant of the moving average
+     * @param penalty load charged to endpoints with requests in flight but no sample yet, and
+     *                minimum latency recorded for a failed request
+     */
+    public PeakEwmaBalancer(String serviceId, Duration decay, Duration penalty) {
+        this.serviceId = serviceId;
+        this.decayNanos = decay.toNanos();
+        this.penaltyNanos = penalty.toNanos();
+    }
+
+    public PeakEwma endpoint(String key) {
+        PeakEwma endpoint = endpoints.get(key);
+        if (endpoint != null) {
+            return endpoint;
+        }
+        return endpoints.computeIfAbsent(key, k -> new PeakEwma(k, decayNanos, penaltyNanos, System.nanoTime()));
+    }
+
+    public <T> T choose(List<T> candidates, Function<T, String> key) {
+        return choose(candidates, key, candidate -> 1.0);
+    }
+
+    /**
+     * Picks one of {@code candidates}, or {@code null} if there are none.
+     *
+     * @param weight per-candidate multiplier in (0, 1]; a candidate's load is divided by it, so
+     *               a half-healthy instance must be twice as fast to be picked
+     */
+    public <T> T choose(List<T> candidates, Function<T, String> key, ToDoubleFunction<T> weight) {
+        return pick(candidates, candidate -> endpoint(key.apply(candidate)), weight);
+    }
+
+    /**
+     * Power-of-two-choices for callers that keep each candidate's {@link PeakEwma} themselves.
+     *
+     * @param endpoint the load estimate of a candidate
+     * @param weight   per-candidate multiplier in (0, 1], as in {@link #choose(List, Function, ToDoubleFunction)}
+     */
+    public static <T> T pick(List<T> candidates, Function<T, PeakEwma> endpoint, ToDoubleFunction<T> weight) {
+        int size = candidates.size();
+        if (size == 0) {
+            return null;
+        }
+        if (size == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        T a = candidates.get(first);
+        T b = candidates.get(second);
+        long now = System.nanoTime();
+        double loadA = endpoint.apply(a).load(now) / Math.max(MIN_WEIGHT, weight.applyAsDouble(a));
+        double loadB = endpoint.apply(b).load(now) / Math.max(MIN_WEIGHT, weight.applyAsDouble(b));
+        return loadA <= loadB ? a : b;
+    }
+
+    /**
+     * Forgets endpoints with nothing in flight that have not been picked for {@code idle}.
+     */
+    public void evictIdle(Duration idle) {
+        long cutoff = System.nanoTime() - idle.toNanos();
+        endpoints.values().removeIf(endpoint -> endpoint.pending() == 0 && endpoint.lastUsed() - cutoff < 0);
+    }
+
+    public Collection<PeakEwma> endpoints() {
+        return endpoints.values();
+    }
+
+    public String serviceId() {
+        return serviceId;
+    }
+}
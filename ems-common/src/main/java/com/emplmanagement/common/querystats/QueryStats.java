@@ -0,0 +1,111 @@
+package com.emplmanagement.common.querystats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Database work of one request: SQL statements executed, rows read or written, and time spent
+ * waiting on the database.
+ * <p>
+ * A request filter {@link #start() starts} the stats on the request thread and {@link #end() ends}
+ * them; JDBC instrumentation on the same thread reports to {@link #current()}, which is
+ * {@code null} outside a request (startup, scheduled jobs), so that work is not counted. Statements
+ * run on other threads are not counted either. Not thread-safe: one instance belongs to one thread.
+ * <p>
+ * Executions are also counted per SQL text, so the same statement run again and again with other
+ * parameters (the N in an N+1) shows up in {@link #maxRepeats()}. At most
+ * {@value #MAX_DISTINCT_STATEMENTS} distinct texts are tracked per request.
+ */
+public final class QueryStats {
+
+    static final int MAX_DISTINCT_STATEMENTS = 64;
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long dbNanos;
+    private long statementStart;
+    private String mostRepeated;
+    private int maxRepeats;
+
+    QueryStats() {
+    }
+
+    /**
+     * New stats for the calling thread, replacing any left over.
+     */
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void statementStarted(long nanoTime) {
+        statementStart = nanoTime;
+    }
+
+    /**
+     * A statement (or a batch, which is one round trip) completed.
+     *
+     * @param rowsUpdated rows inserted, updated or deleted; 0 for queries, whose rows are counted
+     *                    by {@link #rowRead()} as they are fetched
+     */
+    public void statementFinished(String sql, long nanoTime, long rowsUpdated) {
+        statements++;
+        rows += rowsUpdated;
+        dbNanos += nanoTime - statementStart;
+        if (sql == null) {
+            return;
+        }
+        Integer count = executions.get(sql);
+        if (count == null && executions.size() >= MAX_DISTINCT_STATEMENTS) {
+            return;
+        }
+        int repeats = count == null ? 1 : count + 1;
+        executions.put(sql, repeats);
+        if (repeats > maxRepeats) {
+            maxRepeats = repeats;
+            mostRepeated = sql;
+        }
+    }
+
+    public void rowRead() {
+        rows++;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long dbNanos() {
+        return dbNanos;
+    }
+
+    /**
+     * Most executions of one SQL text, 0 when nothing ran.
+     */
+    public int maxRepeats() {
+        return maxRepeats;
+    }
+
+    /**
+     * The SQL text behind {@link #maxRepeats()}, {@code null} when nothing ran.
+     */
+    public String mostRepeated() {
+        return mostRepeated;
+    }
+}
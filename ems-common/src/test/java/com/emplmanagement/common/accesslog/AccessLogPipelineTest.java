@@ -0,0 +1,113 @@
+package com.emplmanagement.common.accesslog;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessLogPipelineTest {
+
+    @Test
+    void writesRecordsAsJsonLines() {
+        InMemorySink sink = new InMemorySink();
+        AccessLogPipeline pipeline = AccessLogPipeline.builder("test-service").capacity(16).sink(sink).build();
+        pipeline.start();
+
+        pipeline.record("GET", "/employees", "page=0", 200, 12, "alice", "10.0.0.1",
+                "curl \"8\"", "corr-1", null);
+        pipeline.close();
+
+        String output = sink.content();
+        assertTrue(output.startsWith("{\"ts\":\""), output);
+        assertTrue(output.contains("\"svc\":\"test-service\",\"method\":\"GET\",\"path\":\"/employees\",\"query\":\"page=0\""), output);
+        assertTrue(output.contains("\"status\":200,\"durationMs\":12,\"user\":\"alice\""), output);
+        assertTrue(output.contains("\"ua\":\"curl \\\"8\\\"\""), output);
+        assertFalse(output.contains("\"error\""), output);
+        assertTrue(output.endsWith("}\n"), output);
+        assertEquals(1, pipeline.writtenCount());
+    }
+
+    @Test
+    void dropsWhenRingIsFull() {
+        InMemorySink sink = new InMemorySink();
+        AccessLogPipeline pipeline = AccessLogPipeline.builder("test-service")
+                .capacity(4)
+                .overflowPolicy(OverflowPolicy.DROP)
+                .sink(sink)
+                .build();
+
+        // Writer not started yet: the ring fills up and further records are dropped
+        for (int i = 0; i < 6; i++) {
+            pipeline.record("GET", "/x", null, 200, 1, null, null, null, null, null);
+        }
+        assertEquals(4, pipeline.publishedCount());
+        assertEquals(2, pipeline.droppedCount());
+
+        pipeline.start();
+        pipeline.close();
+        assertEquals(4, pipeline.writtenCount());
+        assertEquals(4, sink.content().lines().count());
+    }
+
+    @Test
+    void blockingProducerWaitsForWriter() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        InMemorySink sink = new InMemorySink() {
+            @Override
+            public void write(byte[] bytes, int length) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(bytes, length);
+            }
+        };
+        AccessLogPipeline pipeline = AccessLogPipeline.builder("test-service")
+                .capacity(2)
+                .batchSize(2)
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .blockTimeout(java.time.Duration.ofSeconds(5))
+                .sink(sink)
+                .build();
+        pipeline.start();
+
+        for (int i = 0; i < 6; i++) {
+            if (i == 4) {
+                release.countDown();
+            }
+            assertTrue(pipeline.record("GET", "/x", null, 200, 1, null, null, null, null, null));
+        }
+        pipeline.close();
+        assertEquals(0, pipeline.droppedCount());
+        assertEquals(6, pipeline.writtenCount());
+    }
+
+    private static class InMemorySink implements AccessLogSink {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        @Override
+        public synchronized void write(byte[] bytes, int length) {
+            out.write(bytes, 0, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        synchronized String content() {
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
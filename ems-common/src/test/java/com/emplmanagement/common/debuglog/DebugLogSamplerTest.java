@@ -0,0 +1,77 @@
+package com.emplmanagement.common.debuglog;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DebugLogSamplerTest {
+
+    private static final String SECRET = "s3cret";
+    private static final Instant NOW = Instant.parse("2026-10-19T10:00:00Z");
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private static DebugLogSampler sampler(String secret, double sampleRate, Instant now) {
+        return new DebugLogSampler(secret, sampleRate, TTL, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void acceptsAndForwardsAValidToken() {
+        String token = sampler(SECRET, 0, NOW).newToken();
+        DebugLogSampler.Decision decision = sampler(SECRET, 0, NOW.plusSeconds(30)).decide(token);
+
+        assertTrue(decision.debug());
+        assertEquals(token, decision.token());
+    }
+
+    @Test
+    void rejectsExpiredForgedAndMalformedTokens() {
+        DebugLogSampler sampler = sampler(SECRET, 0, NOW);
+        String token = sampler.newToken();
+        String expiry = token.substring(0, token.indexOf('.'));
+
+        assertFalse(sampler(SECRET, 0, NOW.plus(TTL).plusSeconds(1)).isValid(token));
+        assertFalse(sampler("other", 0, NOW).isValid(token));
+        assertFalse(sampler.isValid(Long.parseLong(expiry) + 3600 + token.substring(expiry.length())));
+        assertFalse(sampler.isValid("1"));
+        assertFalse(sampler.isValid(".abc"));
+        assertFalse(sampler.isValid("-1." + token.substring(expiry.length() + 1)));
+        assertFalse(sampler.isValid("9".repeat(19) + token.substring(expiry.length())));
+        assertFalse(sampler.isValid("x".repeat(100)));
+        assertFalse(sampler.decide("true").debug());
+    }
+
+    @Test
+    void ignoresTokensWithoutASecret() {
+        String token = sampler(SECRET, 0, NOW).newToken();
+        DebugLogSampler unsigned = sampler("", 0, NOW);
+
+        assertFalse(unsigned.decide(token).debug());
+        assertThrows(IllegalStateException.class, unsigned::newToken);
+    }
+
+    @Test
+    void sampledRequestsGetATokenToForward() {
+        DebugLogSampler.Decision decision = sampler(SECRET, 1, NOW).decide(null);
+
+        assertTrue(decision.debug());
+        assertTrue(sampler(SECRET, 0, NOW).isValid(decision.token()));
+        assertFalse(sampler(SECRET, 0, NOW).decide(null).debug());
+    }
+
+    @Test
+    void sampledRequestsWithoutASecretStayLocal() {
+        DebugLogSampler.Decision decision = sampler(null, 1, NOW).decide(null);
+
+        assertTrue(decision.debug());
+        assertNull(decision.token());
+    }
+}
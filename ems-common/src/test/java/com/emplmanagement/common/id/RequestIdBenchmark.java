@@ -0,0 +1,77 @@
+package com.emplmanagement.common.id;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of {@link RequestIds} with {@code UUID.randomUUID().toString()}: throughput and
+ * bytes allocated per id, on 1 thread and on 4 threads sharing the generator.
+ * Not part of the regular build:
+ * {@code ./employee-service/mvnw -f ems-common/pom.xml test -Dtest=RequestIdBenchmark -Dbenchmark=true}
+ * ({@code -Dbenchmark.threads=1,8} changes the thread counts).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestIdBenchmark {
+
+    private static final String INCOMING_ULID = "01ARZ3NDEKTSV4RRFFQ69G5FAV";
+    private static final String INCOMING_UUID = "3b241101-e2bb-4255-8caf-4136c566a962";
+
+    @Benchmark
+    public String uuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String ulid() {
+        return RequestIds.next();
+    }
+
+    @Benchmark
+    public boolean validateUlid() {
+        return RequestIds.isAccepted(INCOMING_ULID);
+    }
+
+    @Benchmark
+    public UUID parseUuid() {
+        return UUID.fromString(INCOMING_UUID);
+    }
+
+    @Benchmark
+    public Ulid parseUlid() {
+        return Ulid.parse(INCOMING_ULID);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void compareWithRandomUuid() throws Exception {
+        for (String threads : System.getProperty("benchmark.threads", "1,4").split(",")) {
+            Options options = new OptionsBuilder()
+                    .include(RequestIdBenchmark.class.getName() + "\\.")
+                    .threads(Integer.parseInt(threads.trim()))
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
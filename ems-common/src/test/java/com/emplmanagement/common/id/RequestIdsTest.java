@@ -0,0 +1,77 @@
+package com.emplmanagement.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestIdsTest {
+
+    @Test
+    void idsAreUlidsOfTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        String id = RequestIds.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(Ulid.LENGTH, id.length());
+        assertTrue(Ulid.isValid(id), id);
+        long millis = Ulid.parse(id).timestampMillis();
+        assertTrue(millis >= before && millis <= after, id);
+    }
+
+    @Test
+    void idsOfAThreadAreUniqueAndIncreasing() {
+        Set<String> seen = new HashSet<>();
+        String previous = RequestIds.next();
+        for (int i = 0; i < 100_000; i++) {
+            String id = RequestIds.next();
+            assertTrue(id.compareTo(previous) > 0, previous + " then " + id);
+            assertTrue(Ulid.parse(id).compareTo(Ulid.parse(previous)) > 0, previous + " then " + id);
+            assertTrue(seen.add(id), id);
+            previous = id;
+        }
+    }
+
+    @Test
+    void parseAndToStringRoundTrip() {
+        Ulid ulid = Ulid.parse("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+        assertEquals("01ARZ3NDEKTSV4RRFFQ69G5FAV", ulid.toString());
+        assertEquals(Instant.ofEpochMilli(1469922850259L), ulid.timestamp());
+        assertEquals(ulid, Ulid.parse("01arz3ndektsv4rrffq69g5fav"));
+
+        Ulid max = Ulid.parse("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+        assertEquals(-1L, max.msb());
+        assertEquals(-1L, max.lsb());
+    }
+
+    @Test
+    void rejectsMalformedIds() {
+        assertFalse(Ulid.isValid(null));
+        assertFalse(Ulid.isValid("01ARZ3NDEKTSV4RRFFQ69G5FA"));
+        assertFalse(Ulid.isValid("01ARZ3NDEKTSV4RRFFQ69G5FAVX"));
+        assertFalse(Ulid.isValid("81ARZ3NDEKTSV4RRFFQ69G5FAV"));
+        assertFalse(Ulid.isValid("01ARZ3NDEKTSV4RRFFQ69G5FAU"));
+        assertFalse(Ulid.isValid("01ARZ3NDEKTSV4RRFFQ69G5FAé"));
+        assertThrows(IllegalArgumentException.class, () -> Ulid.parse("not-an-id"));
+    }
+
+    @Test
+    void resolveKeepsWellFormedIdsAndReplacesTheRest() {
+        String uuid = UUID.randomUUID().toString();
+        assertEquals(uuid, RequestIds.resolve(uuid));
+        assertEquals("01ARZ3NDEKTSV4RRFFQ69G5FAV", RequestIds.resolve("01ARZ3NDEKTSV4RRFFQ69G5FAV"));
+
+        for (String incoming : new String[]{null, "", "abc", "x\r\nforged: log line", "z".repeat(4096),
+                uuid.replace('-', '_')}) {
+            String resolved = RequestIds.resolve(incoming);
+            assertTrue(Ulid.isValid(resolved), resolved);
+        }
+    }
+}
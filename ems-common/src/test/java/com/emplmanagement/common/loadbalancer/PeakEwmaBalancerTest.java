@@ -0,0 +1,90 @@
+package com.emplmanagement.common.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PeakEwmaBalancerTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void peakIsTakenImmediatelyAndDecaysGradually() {
+        PeakEwma endpoint = new PeakEwma("a", 10_000 * MS, 1_000 * MS, 0);
+        endpoint.observe(10 * MS, 0);
+        endpoint.observe(100 * MS, 1);
+        assertEquals(100 * MS, endpoint.cost(1), 1.0);
+
+        endpoint.observe(10 * MS, 10_000 * MS);
+        double cost = endpoint.cost(10_000 * MS);
+        assertTrue(cost > 10 * MS && cost < 100 * MS, "cost " + cost);
+    }
+
+    @Test
+    void loadGrowsWithOutstandingRequests() {
+        PeakEwma endpoint = new PeakEwma("a", 10_000 * MS, 1_000 * MS, 0);
+        endpoint.observe(10 * MS, 0);
+        double idle = endpoint.load(0);
+        endpoint.start();
+        endpoint.start();
+        assertEquals(3 * idle, endpoint.load(0), 1.0);
+        endpoint.cancel();
+        endpoint.cancel();
+        assertEquals(0, endpoint.pending());
+    }
+
+    @Test
+    void prefersTheFasterOfTwoEndpoints() {
+        PeakEwmaBalancer balancer = new PeakEwmaBalancer("svc", Duration.ofSeconds(10), Duration.ofSeconds(1));
+        balancer.endpoint("fast").end(5 * MS, false);
+        balancer.endpoint("slow").end(500 * MS, false);
+
+        List<String> candidates = List.of("fast", "slow");
+        for (int i = 0; i < 100; i++) {
+            assertEquals("fast", balancer.choose(candidates, Function.identity()));
+        }
+    }
+
+    @Test
+    void failuresAreChargedThePenalty() {
+        PeakEwmaBalancer balancer = new PeakEwmaBalancer("svc", Duration.ofSeconds(10), Duration.ofSeconds(1));
+        balancer.endpoint("failing").end(MS, true);
+        balancer.endpoint("healthy").end(50 * MS, false);
+
+        assertEquals("healthy", balancer.choose(List.of("failing", "healthy"), Function.identity()));
+    }
+
+    @Test
+    void weightScalesLoad() {
+        PeakEwmaBalancer balancer = new PeakEwmaBalancer("svc", Duration.ofSeconds(10), Duration.ofSeconds(1));
+        balancer.endpoint("a").end(10 * MS, false);
+        balancer.endpoint("b").end(15 * MS, false);
+
+        // "a" is faster but only a quarter healthy
+        String chosen = balancer.choose(List.of("a", "b"), Function.identity(), key -> key.equals("a") ? 0.25 : 1.0);
+        assertEquals("b", chosen);
+    }
+
+    @Test
+    void picksOverEndpointsKeptByTheCaller() {
+        Map<String, PeakEwma> endpoints = Map.of(
+                "fast", new PeakEwma("fast", Duration.ofSeconds(10), Duration.ofSeconds(1)),
+                "slow", new PeakEwma("slow", Duration.ofSeconds(10), Duration.ofSeconds(1)));
+        endpoints.get("fast").end(5 * MS, false);
+        endpoints.get("slow").end(500 * MS, false);
+
+        List<String> candidates = List.of("fast", "slow");
+        for (int i = 0; i < 100; i++) {
+            assertEquals("fast", PeakEwmaBalancer.pick(candidates, endpoints::get, key -> 1.0));
+        }
+        assertNull(PeakEwmaBalancer.pick(List.<String>of(), endpoints::get, key -> 1.0));
+    }
+}
@@ -0,0 +1,75 @@
+package com.emplmanagement.common.querystats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class QueryStatsTest {
+
+    private static final String BY_DEPARTMENT = "select d.id,d.name from department d where d.id=?";
+
+    @AfterEach
+    void end() {
+        QueryStats.end();
+    }
+
+    @Test
+    void countsStatementsRowsAndTime() {
+        QueryStats stats = QueryStats.start();
+        assertSame(stats, QueryStats.current());
+
+        stats.statementStarted(1_000);
+        stats.rowRead();
+        stats.rowRead();
+        stats.statementFinished("select e.id from employee e", 4_000, 0);
+        stats.statementStarted(10_000);
+        stats.statementFinished("update employee set name=? where id=?", 12_500, 1);
+
+        assertEquals(2, stats.statements());
+        assertEquals(3, stats.rows());
+        assertEquals(5_500, stats.dbNanos());
+        assertEquals(1, stats.maxRepeats());
+    }
+
+    @Test
+    void reportsTheMostRepeatedStatement() {
+        QueryStats stats = QueryStats.start();
+        stats.statementFinished("select e.id from employee e", 0, 0);
+        for (int i = 0; i < 20; i++) {
+            stats.statementFinished(BY_DEPARTMENT, 0, 0);
+        }
+
+        assertEquals(21, stats.statements());
+        assertEquals(20, stats.maxRepeats());
+        assertEquals(BY_DEPARTMENT, stats.mostRepeated());
+    }
+
+    @Test
+    void tracksABoundedNumberOfDistinctStatements() {
+        QueryStats stats = QueryStats.start();
+        for (int i = 0; i < QueryStats.MAX_DISTINCT_STATEMENTS + 10; i++) {
+            stats.statementFinished("select " + i, 0, 0);
+        }
+        stats.statementFinished("select 0", 0, 0);
+        stats.statementFinished("select " + (QueryStats.MAX_DISTINCT_STATEMENTS + 5), 0, 0);
+
+        assertEquals(QueryStats.MAX_DISTINCT_STATEMENTS + 12, stats.statements());
+        assertEquals(2, stats.maxRepeats());
+        assertEquals("select 0", stats.mostRepeated());
+    }
+
+    @Test
+    void belongsToTheThreadThatStartedIt() throws Exception {
+        assertNull(QueryStats.current());
+        QueryStats.start();
+
+        assertNull(CompletableFuture.supplyAsync(QueryStats::current).get());
+        QueryStats.end();
+        assertNull(QueryStats.current());
+    }
+}
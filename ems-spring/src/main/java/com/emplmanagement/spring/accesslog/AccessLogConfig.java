@@ -0,0 +1,61 @@
+package com.emplmanagement.spring.accesslog;
+
+import com.emplmanagement.common.accesslog.AccessLogPipeline;
+import com.emplmanagement.common.accesslog.AccessLogSink;
+import com.emplmanagement.common.accesslog.OverflowPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Access-log pipeline: records are captured into a ring by the request filter and written
+ * as JSON lines, in batches, by a dedicated writer thread instead of the request thread
+ * (or the Netty event loop, in the gateway).
+ */
+@Configuration
+public class AccessLogConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public AccessLogPipeline accessLogPipeline(
+            @Value("${spring.application.name}") String service,
+            @Value("${access-log.file:}") String file,
+            @Value("${access-log.capacity:8192}") int capacity,
+            @Value("${access-log.batch-size:256}") int batchSize,
+            @Value("${access-log.overflow-policy:drop}") OverflowPolicy overflowPolicy,
+            @Value("${access-log.block-timeout:10ms}") Duration blockTimeout) throws IOException {
+        AccessLogSink sink = file.isBlank() ? AccessLogSink.console() : AccessLogSink.file(Path.of(file));
+        return AccessLogPipeline.builder(service)
+                .capacity(capacity)
+                .batchSize(batchSize)
+                .overflowPolicy(overflowPolicy)
+                .blockTimeout(blockTimeout)
+                .sink(sink)
+                .build();
+    }
+
+    @Bean
+    public MeterBinder accessLogMetrics(AccessLogPipeline pipeline) {
+        return registry -> {
+            FunctionCounter.builder("access.log.records", pipeline, AccessLogPipeline::publishedCount)
+                    .tag("outcome", "published").register(registry);
+            FunctionCounter.builder("access.log.records", pipeline, AccessLogPipeline::droppedCount)
+                    .tag("outcome", "dropped").register(registry);
+            FunctionCounter.builder("access.log.records", pipeline, AccessLogPipeline::writtenCount)
+                    .tag("outcome", "written").register(registry);
+            FunctionCounter.builder("access.log.write.errors", pipeline, AccessLogPipeline::writeErrorCount)
+                    .register(registry);
+            Gauge.builder("access.log.pending", pipeline, AccessLogPipeline::pending)
+                    .tag("policy", pipeline.overflowPolicy().name().toLowerCase())
+                    .register(registry);
+            Gauge.builder("access.log.capacity", pipeline, AccessLogPipeline::capacity)
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.emplmanagement.spring.debuglog;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Per-request DEBUG logging: the services log at INFO, and a request picked by the sampler logs at
+ * DEBUG in the service that picked it and in the services it calls (see {@code logback-spring.xml}).
+ * Only the gateway samples; behind it {@code debug-log.sample-rate} is 0 and the services follow the
+ * token the gateway forwards.
+ */
+@Configuration
+public class DebugLogConfig {
+
+    @Bean
+    public DebugLogSampler debugLogSampler(
+            @Value("${debug-log.secret:}") String secret,
+            @Value("${debug-log.sample-rate:0.001}") double sampleRate,
+            @Value("${debug-log.token-ttl:1m}") Duration tokenTtl) {
+        return new DebugLogSampler(secret, sampleRate, tokenTtl);
+    }
+}
@@ -0,0 +1,69 @@
+package com.emplmanagement.spring.debuglog;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Logs the request at DEBUG when {@link DebugLogSampler} picks it (signed {@code X-Debug-Log} token
+ * or sampling), while everything else stays at the configured INFO. Servlet stack only; registered
+ * by {@link DebugLogFilterConfig}.
+ * <p>
+ * Runs first, before Spring Security, so the security filters' DEBUG lines for the request are kept
+ * too. The token to forward is kept as a request attribute, for services that call others with it
+ * ({@link #forwardedToken()}).
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DebugLogFilter extends OncePerRequestFilter {
+
+    private static final String TOKEN_ATTRIBUTE = DebugLogFilter.class.getName() + ".token";
+
+    private final DebugLogSampler sampler;
+
+    public DebugLogFilter(DebugLogSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    /**
+     * The {@code X-Debug-Log} token to send on calls made while serving the current request, or null.
+     */
+    public static String forwardedToken() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                ? (String) attributes.getAttribute(TOKEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DebugLogSampler.Decision decision = sampler.decide(request.getHeader(DebugLogSampler.HEADER));
+        if (!decision.debug()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (decision.token() != null) {
+            request.setAttribute(TOKEN_ATTRIBUTE, decision.token());
+        }
+        MDC.put(DebugLogSampler.MDC_KEY, DebugLogSampler.MDC_VALUE);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(DebugLogSampler.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.emplmanagement.spring.debuglog;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-request DEBUG logging on the servlet stack; imported next to {@link DebugLogConfig} by the
+ * servlet services. The gateway has its own {@code WebFilter}.
+ */
+@Configuration
+public class DebugLogFilterConfig {
+
+    @Bean
+    public DebugLogFilter debugLogFilter(DebugLogSampler sampler) {
+        return new DebugLogFilter(sampler);
+    }
+}
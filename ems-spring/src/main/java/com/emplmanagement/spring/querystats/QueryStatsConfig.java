@@ -0,0 +1,32 @@
+package com.emplmanagement.spring.querystats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.observation.boot.autoconfigure.ProxyDataSourceBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-request SQL statistics. The statements are seen through the datasource-proxy wrapper that
+ * datasource-micrometer already puts around the {@code DataSource} for tracing, so counting adds
+ * no second proxy; result sets are proxied as well, to count the rows read. Servlet stack only.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryStatsProperties.class)
+public class QueryStatsConfig {
+
+    @Bean
+    public ProxyDataSourceBuilderCustomizer queryStatsCustomizer(QueryStatsProperties properties) {
+        QueryStatsListener listener = new QueryStatsListener();
+        return (builder, dataSource, beanName, dataSourceName) -> {
+            if (properties.enabled()) {
+                builder.listener(listener).proxyResultSet(listener);
+            }
+        };
+    }
+
+    @Bean
+    public QueryStatsFilter queryStatsFilter(QueryStatsProperties properties, MeterRegistry meterRegistry) {
+        return new QueryStatsFilter(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,158 @@
+package com.emplmanagement.spring.querystats;
+
+import com.emplmanagement.common.querystats.QueryStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL work of each request ({@link QueryStats}) and reports it per endpoint, i.e.
+ * method and route template:
+ * <ul>
+ *     <li>histograms {@code db.request.statements}, {@code db.request.rows} and {@code db.request.time},
+ *     tagged {@code method} and {@code uri}</li>
+ *     <li>a warning when a request runs more statements than the endpoint's budget, or runs one SQL
+ *     text {@code query-stats.repeat-threshold} times (likely an N+1); logged at most once per
+ *     endpoint per {@code query-stats.warn-interval}, counted in {@code db.request.violations}</li>
+ *     <li>{@code X-Query-*} response headers when the request sends {@code X-Debug-Query-Stats: true};
+ *     the body is then buffered so the headers can follow the work that produced it, except for
+ *     streamed ({@code application/x-ndjson}, {@code text/event-stream}) responses</li>
+ * </ul>
+ * Runs inside the service's correlation id filter ({@code @Order(1)}), so warnings carry the
+ * correlation id. Registered by {@link QueryStatsConfig}.
+ */
+@Order(2)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String DEBUG_HEADER = "X-Debug-Query-Stats";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatsFilter.class);
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final QueryStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> lastWarnings = new ConcurrentHashMap<>();
+
+    public QueryStatsFilter(QueryStatsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper debugResponse = properties.debugHeaders()
+                && "true".equalsIgnoreCase(request.getHeader(DEBUG_HEADER)) && !isStreaming(request)
+                ? new ContentCachingResponseWrapper(response) : null;
+        QueryStats stats = QueryStats.start();
+        try {
+            filterChain.doFilter(request, debugResponse != null ? debugResponse : response);
+        } finally {
+            QueryStats.end();
+            report(request, stats);
+        }
+        if (debugResponse != null) {
+            debugResponse.setHeader("X-Query-Statements", Integer.toString(stats.statements()));
+            debugResponse.setHeader("X-Query-Rows", Long.toString(stats.rows()));
+            debugResponse.setHeader("X-Query-Time-Ms", String.format(Locale.ROOT, "%.3f", stats.dbNanos() / 1e6));
+            debugResponse.setHeader("X-Query-Max-Repeats", Integer.toString(stats.maxRepeats()));
+            debugResponse.setHeader("X-Query-Budget", Integer.toString(properties.budgetFor(endpoint(request))));
+            // Per-caller numbers: not for shared caches
+            debugResponse.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            debugResponse.copyBodyToResponse();
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats) {
+        String method = request.getMethod();
+        String uri = uri(request);
+        DistributionSummary.builder("db.request.statements")
+                .description("SQL statements run by one request")
+                .baseUnit("statements")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("db.request.rows")
+                .description("Rows read or written by one request")
+                .baseUnit("rows")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("db.request.time")
+                .description("Time one request spent waiting on SQL statements")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.dbNanos(), TimeUnit.NANOSECONDS);
+
+        String endpoint = method + " " + uri;
+        int budget = properties.budgetFor(endpoint);
+        if (stats.statements() > budget) {
+            violation(endpoint, "budget", method, uri, () -> logger.warn(
+                    "{} ran {} SQL statements, over its budget of {} ({} rows, {} ms in the database)",
+                    endpoint, stats.statements(), budget, stats.rows(), TimeUnit.NANOSECONDS.toMillis(stats.dbNanos())));
+        }
+        if (stats.maxRepeats() >= properties.repeatThreshold()) {
+            violation(endpoint, "repeated", method, uri, () -> logger.warn(
+                    "{} ran the same SQL statement {} times, likely an N+1: {}",
+                    endpoint, stats.maxRepeats(), abbreviate(stats.mostRepeated())));
+        }
+    }
+
+    private void violation(String endpoint, String kind, String method, String uri, Runnable warning) {
+        meterRegistry.counter("db.request.violations", "method", method, "uri", uri, "kind", kind).increment();
+        String key = endpoint + " " + kind;
+        long now = System.nanoTime();
+        Long last = lastWarnings.get(key);
+        // Only the thread that moves the timestamp logs, so concurrent requests warn once
+        boolean due = last == null
+                ? lastWarnings.putIfAbsent(key, now) == null
+                : now - last >= properties.warnInterval().toNanos() && lastWarnings.replace(key, last, now);
+        if (due) {
+            warning.run();
+        }
+    }
+
+    // Streamed bodies must reach the client as they are written, so they get no headers that would need buffering
+    private static boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && (accept.contains(MediaType.APPLICATION_NDJSON_VALUE)
+                || accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        return request.getMethod() + " " + uri(request);
+    }
+
+    // Route template, so ids do not make every path a new endpoint
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
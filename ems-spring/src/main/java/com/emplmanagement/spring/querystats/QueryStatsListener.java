@@ -0,0 +1,72 @@
+package com.emplmanagement.spring.querystats;
+
+import com.emplmanagement.common.querystats.QueryStats;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Reports each statement run through the datasource-proxy {@code DataSource} (the one
+ * datasource-micrometer sets up for tracing) to the request's {@link QueryStats}, and counts
+ * the rows read from its result sets as they are fetched.
+ */
+public class QueryStatsListener implements QueryExecutionListener, ResultSetProxyLogicFactory {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.statementStarted(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            String sql = queryInfoList.isEmpty() ? null : queryInfoList.get(0).getQuery();
+            stats.statementFinished(sql, System.nanoTime(), rowsUpdated(execInfo.getResult()));
+        }
+    }
+
+    @Override
+    public ResultSetProxyLogic create(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+        ResultSetProxyLogic delegate = ResultSetProxyLogicFactory.DEFAULT.create(resultSet, connectionInfo, proxyConfig);
+        return (proxy, method, args) -> {
+            Object result = delegate.invoke(proxy, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                QueryStats stats = QueryStats.current();
+                if (stats != null) {
+                    stats.rowRead();
+                }
+            }
+            return result;
+        };
+    }
+
+    // executeUpdate returns a count and executeBatch one per statement (negative when unknown);
+    // executeQuery returns the result set, whose rows are counted as they are read
+    private static long rowsUpdated(Object result) {
+        if (result instanceof Number count) {
+            return Math.max(count.longValue(), 0);
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+}
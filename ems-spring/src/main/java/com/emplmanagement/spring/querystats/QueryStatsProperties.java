@@ -0,0 +1,31 @@
+package com.emplmanagement.spring.querystats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings of the per-request SQL statistics ({@code query-stats.*}).
+ *
+ * @param enabled         turns counting, metrics and warnings on or off
+ * @param statementBudget statements a request may run before a warning is logged
+ * @param budgets         per-endpoint budgets, keyed by method and route template, e.g. {@code GET /employees/{id}}
+ * @param repeatThreshold executions of one SQL text in a request that are reported as a likely N+1
+ * @param warnInterval    at most one warning per endpoint and kind within this interval
+ * @param debugHeaders    whether {@code X-Debug-Query-Stats: true} adds the numbers as response headers
+ */
+@ConfigurationProperties(prefix = "query-stats")
+public record QueryStatsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int statementBudget,
+        @DefaultValue Map<String, Integer> budgets,
+        @DefaultValue("5") int repeatThreshold,
+        @DefaultValue("1m") Duration warnInterval,
+        @DefaultValue("true") boolean debugHeaders) {
+
+    public int budgetFor(String endpoint) {
+        return budgets.getOrDefault(endpoint, statementBudget);
+    }
+}
@@ -0,0 +1,60 @@
+package com.emplmanagement.spring.startup;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Records the first connection taken from the pool as the {@value #STEP} startup step: the pool
+ * only connects to the database then, so that is where database start-up time goes (usually while
+ * JPA boots). Later connections go straight to the pool.
+ * <p>
+ * Closing it closes the pool, which would otherwise be left to the JVM.
+ */
+public class FirstConnectionTimingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public static final String STEP = "ems.datasource.first-connection";
+
+    private final ApplicationStartup applicationStartup;
+    private volatile boolean connected;
+
+    public FirstConnectionTimingDataSource(DataSource target, ApplicationStartup applicationStartup) {
+        super(target);
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (connected) {
+            return super.getConnection();
+        }
+        synchronized (this) {
+            if (connected) {
+                return super.getConnection();
+            }
+            StartupStep step = applicationStartup.start(STEP);
+            try {
+                Connection connection = super.getConnection();
+                connected = true;
+                step.tag("outcome", "connected");
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                step.tag("outcome", "failed");
+                throw e;
+            } finally {
+                step.end();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
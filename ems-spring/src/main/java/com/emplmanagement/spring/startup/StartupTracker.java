@@ -0,0 +1,178 @@
+package com.emplmanagement.spring.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.client.discovery.event.InstanceRegisteredEvent;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Startup milestones of this instance, recorded as steps of the {@link ApplicationStartup} (listed
+ * by {@code /actuator/startup}) and as gauges of the time since the JVM started:
+ * <ul>
+ *     <li>{@code startup.time.to.ready}: the application is ready to serve requests</li>
+ *     <li>{@code startup.time.to.registered}: this instance is in the registry fetched from Eureka,
+ *     so its peers can find it (step {@value #REGISTRATION_STEP})</li>
+ *     <li>{@code startup.time.to.first.downstream.call}: a call to another service got an answer
+ *     (every attempt until then is a {@value #DOWNSTREAM_STEP} step)</li>
+ * </ul>
+ * Gauges read {@code NaN} until their milestone is reached; a service that calls no other (the
+ * department service) never reaches the last one.
+ */
+public class StartupTracker implements MeterBinder {
+
+    public static final String REGISTRATION_STEP = "ems.eureka.registration";
+    public static final String DOWNSTREAM_STEP = "ems.downstream.first-call";
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTracker.class);
+
+    private final ApplicationStartup applicationStartup;
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+
+    private volatile Duration springStartup;
+    private volatile Duration timeToReady;
+    private volatile Duration timeToRegistered;
+    private volatile Duration timeToFirstDownstreamCall;
+    private StartupStep registrationStep;
+
+    public StartupTracker(ApplicationStartup applicationStartup, DiscoveryClient discoveryClient,
+                          ObjectProvider<Registration> registration) {
+        this.applicationStartup = applicationStartup;
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+    }
+
+    /**
+     * Time Spring took from {@code SpringApplication.run} to ready, {@code null} before that.
+     * Unlike {@link #timeToReady()} it leaves out the JVM's own start.
+     */
+    public Duration springStartup() {
+        return springStartup;
+    }
+
+    public Duration timeToReady() {
+        return timeToReady;
+    }
+
+    public Duration timeToRegistered() {
+        return timeToRegistered;
+    }
+
+    public Duration timeToFirstDownstreamCall() {
+        return timeToFirstDownstreamCall;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        springStartup = event.getTimeTaken();
+        timeToReady = uptime();
+        logger.info("Ready {} ms after JVM start, {} ms of it in Spring",
+                timeToReady.toMillis(), springStartup.toMillis());
+    }
+
+    @EventListener(InstanceRegisteredEvent.class)
+    public synchronized void onRegistered() {
+        if (registrationStep == null && timeToRegistered == null) {
+            registrationStep = applicationStartup.start(REGISTRATION_STEP);
+        }
+    }
+
+    /**
+     * The registration is sent in the background, so it is over once the instance shows up in the
+     * registry the client fetches back (every {@code eureka.client.registry-fetch-interval-seconds}).
+     */
+    @EventListener(HeartbeatEvent.class)
+    public synchronized void onRegistryRefreshed() {
+        Registration self = registration.getIfAvailable();
+        if (registrationStep == null || self == null) {
+            return;
+        }
+        boolean listed = discoveryClient.getInstances(self.getServiceId()).stream()
+                .anyMatch(instance -> Objects.equals(instance.getInstanceId(), self.getInstanceId()));
+        if (listed) {
+            registrationStep.tag("instance", self.getInstanceId()).end();
+            registrationStep = null;
+            timeToRegistered = uptime();
+            logger.info("Listed in Eureka {} ms after JVM start", timeToRegistered.toMillis());
+        }
+    }
+
+    /**
+     * Starts recording a call to another service, or returns {@code null} once one has been
+     * answered: only the calls up to the first answer are startup steps.
+     */
+    public DownstreamCall downstreamCall(String client) {
+        if (timeToFirstDownstreamCall != null) {
+            return null;
+        }
+        return new DownstreamCall(applicationStartup.start(DOWNSTREAM_STEP).tag("client", client));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "startup.time.to.ready", "JVM start until the application is ready",
+                StartupTracker::timeToReady);
+        gauge(registry, "startup.time.to.registered", "JVM start until the instance is listed in Eureka",
+                StartupTracker::timeToRegistered);
+        gauge(registry, "startup.time.to.first.downstream.call", "JVM start until a call to another service is answered",
+                StartupTracker::timeToFirstDownstreamCall);
+    }
+
+    // Gauges only hold their object weakly, so it is the tracker itself rather than a method reference
+    private void gauge(MeterRegistry registry, String name, String description,
+                       Function<StartupTracker, Duration> milestone) {
+        TimeGauge.builder(name, this, TimeUnit.MILLISECONDS, tracker -> millis(milestone.apply(tracker)))
+                .description(description)
+                .register(registry);
+    }
+
+    private static double millis(Duration duration) {
+        return duration == null ? Double.NaN : duration.toMillis();
+    }
+
+    private static Duration uptime() {
+        return Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * One call to another service (in the gateway, one routed request), ended with whether the
+     * service answered it. Client errors (4xx, NOT_FOUND) are answers: the service was reachable.
+     */
+    public final class DownstreamCall {
+
+        private final StartupStep step;
+
+        private DownstreamCall(StartupStep step) {
+            this.step = step;
+        }
+
+        public void end(boolean answered) {
+            step.tag("outcome", answered ? "answered" : "failed").end();
+            if (answered) {
+                synchronized (StartupTracker.this) {
+                    if (timeToFirstDownstreamCall == null) {
+                        timeToFirstDownstreamCall = uptime();
+                        logger.info("First downstream call answered {} ms after JVM start",
+                                timeToFirstDownstreamCall.toMillis());
+                    }
+                }
+            }
+        }
+    }
+}
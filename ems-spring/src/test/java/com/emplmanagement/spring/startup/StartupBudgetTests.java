@@ -0,0 +1,49 @@
+package com.emplmanagement.spring.startup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Startup gate of the services' {@code *ApplicationTests}: fails when Spring took longer than
+ * {@code startup.budget} to start the test's context, from {@code SpringApplication.run} until ready
+ * (the JVM and the test runner are left out).
+ * <p>
+ * Each service sets its budget in its test resources, {@code startup-budget.properties}, a little
+ * above its own start on one build host. Start times depend on the machine, so the gate is not part
+ * of the regular build: {@code ./mvnw test -Dtest=*ApplicationTests -Dbenchmark=true}, with
+ * {@code STARTUP_BUDGET} to match the machine. The services with a database start without one
+ * ({@link #WITHOUT_DATABASE}), so the gate needs nothing running.
+ */
+@TestPropertySource(locations = "classpath:startup-budget.properties")
+public abstract class StartupBudgetTests {
+
+    /**
+     * Properties that start a JPA service without connecting to its database, for
+     * {@code @TestPropertySource(locations = ...)}.
+     */
+    public static final String WITHOUT_DATABASE = "classpath:com/emplmanagement/spring/startup/without-database.properties";
+
+    @Value("${startup.budget}")
+    private Duration startupBudget;
+
+    /**
+     * Time Spring took to start this test's context, as recorded by the service's startup tracker.
+     */
+    protected abstract Duration springStartup();
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    public void startsWithinBudget() {
+        Duration springStartup = springStartup();
+        assertNotNull(springStartup, "The context never became ready");
+        assertTrue(springStartup.compareTo(startupBudget) <= 0, () -> "Spring started in "
+                + springStartup.toMillis() + " ms, over its budget startup.budget=" + startupBudget);
+    }
+}
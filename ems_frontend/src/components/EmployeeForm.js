@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
-import { employeeAPI, departmentAPI } from '../services/api';
+import { employeeAPI, departmentAPI, viewAPI } from '../services/api';
 
 const EmployeeForm = () => {
   const { id } = useParams();
@@ -17,9 +17,10 @@ const EmployeeForm = () => {
   const [error, setError] = useState(null);
 
   useEffect(() => {
-    loadDepartments();
     if (isEdit) {
-      loadEmployee();
+      loadEmployeeView();
+    } else {
+      loadDepartments();
     }
   }, [id, isEdit]);
 
@@ -34,12 +35,18 @@ const EmployeeForm = () => {
     }
   };
 
-  const loadEmployee = async () => {
+  // Employee and department list in one request; the gateway fetches them in parallel
+  const loadEmployeeView = async () => {
     try {
       setLoading(true);
-      const response = await employeeAPI.getById(id);
-      // For getById, response might include department details
-      const employee = response.data;
+      const response = await viewAPI.employee(id);
+      const { employee, departments: deptData } = response.data;
+      if (Array.isArray(deptData)) {
+        setDepartments(deptData);
+      } else {
+        // The list leg failed; the form still needs it
+        loadDepartments();
+      }
       setFormData({
         name: employee.name || '',
         position: employee.position || '',
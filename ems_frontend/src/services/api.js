@@ -56,4 +56,9 @@ export const employeeAPI = {
     delete: (id) => api.delete(`/employee-service/employees/${id}`),
 };
 
+// Composed views - several services in one gateway round trip
+export const viewAPI = {
+    employee: (id) => api.get(`/api/views/employee/${id}`),
+};
+
 export default api;
\ No newline at end of file
@@ -1,17 +1,42 @@
 package com.emplmanagement.gatewayservice;
 
+import com.emplmanagement.gatewayservice.cache.RequestCoalescingProperties;
+import com.emplmanagement.gatewayservice.cache.ResponseCacheProperties;
+import com.emplmanagement.gatewayservice.composition.CompositionProperties;
+import com.emplmanagement.gatewayservice.filter.ClientIpProperties;
+import com.emplmanagement.gatewayservice.loadbalancer.HealthAwareLoadBalancerConfiguration;
+import com.emplmanagement.gatewayservice.monitoring.HealthProbeProperties;
+import com.emplmanagement.gatewayservice.ratelimit.RateLimitProperties;
+import com.emplmanagement.spring.accesslog.AccessLogConfig;
+import com.emplmanagement.spring.debuglog.DebugLogConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
 import org.springframework.cloud.gateway.discovery.DiscoveryClientRouteDefinitionLocator;
 import org.springframework.cloud.gateway.discovery.DiscoveryLocatorProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableConfigurationProperties({HealthProbeProperties.class, ResponseCacheProperties.class,
+        RequestCoalescingProperties.class, RateLimitProperties.class, CompositionProperties.class,
+        ClientIpProperties.class})
+@LoadBalancerClients(defaultConfiguration = HealthAwareLoadBalancerConfiguration.class)
+@Import({AccessLogConfig.class, DebugLogConfig.class})
 public class GatewayServiceApplication {
 
+    // Startup steps kept for /actuator/startup; Spring records roughly one per bean
+    private static final int STARTUP_STEPS = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(GatewayServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(GatewayServiceApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 
     @Bean
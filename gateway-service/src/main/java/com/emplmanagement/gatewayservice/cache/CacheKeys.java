@@ -0,0 +1,37 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Principal;
+import java.util.stream.Collectors;
+
+/**
+ * Keys shared by the response cache and request coalescing. A key always starts with the
+ * caller's sorted role set, so a response is never shared across authorization scopes.
+ */
+public final class CacheKeys {
+
+    private CacheKeys() {
+    }
+
+    public static String key(String roles, ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return roles + '|' + request.getPath().value() + (query != null ? '?' + query : "")
+                + '|' + (accept != null ? accept : "");
+    }
+
+    public static String roles(Principal principal) {
+        if (principal instanceof Authentication authentication) {
+            return authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .sorted()
+                    .distinct()
+                    .collect(Collectors.joining(","));
+        }
+        return "";
+    }
+}
@@ -0,0 +1,249 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import com.emplmanagement.gatewayservice.filter.RequestContextGlobalFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight for GETs: while a request is in flight upstream, identical requests from
+ * callers with the same role set wait for it instead of being forwarded, and receive a copy of
+ * the buffered response.
+ * <p>
+ * The first request (the leader) streams its response to its own client while copying it.
+ * If the response exceeds {@code request-coalescing.max-response-bytes}, sets a cookie, or the
+ * leader is cancelled, the waiters are released to go upstream themselves. An upstream error
+ * is propagated to every waiter. Runs after {@link ResponseCacheGlobalFilter}, so it only sees
+ * cache misses.
+ */
+@Component
+public class RequestCoalescingGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    private static final SharedResponse GO_UPSTREAM = new SharedResponse(null, null, null);
+
+    // Per-exchange headers that must not be copied from the leader's response
+    private static final Set<String> NOT_SHARED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        NOT_SHARED_HEADERS.addAll(List.of(
+                HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION,
+                HttpHeaders.DATE, HttpHeaders.SET_COOKIE, RequestContextGlobalFilter.CORRELATION_ID_HEADER));
+    }
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final RequestCoalescingProperties properties;
+    private final List<PathPattern> routes;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter releasedUpstream;
+
+    public RequestCoalescingGlobalFilter(RequestCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.routes = properties.routes().stream().map(String::trim).map(parser::parse).toList();
+        this.leaders = Counter.builder("gateway.coalescing.requests").tag("role", "leader").register(meterRegistry);
+        this.followers = Counter.builder("gateway.coalescing.requests").tag("role", "follower").register(meterRegistry);
+        this.releasedUpstream = Counter.builder("gateway.coalescing.requests").tag("role", "released").register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.enabled() || !HttpMethod.GET.equals(request.getMethod())
+                || request.getHeaders().containsKey(HttpHeaders.RANGE)
+                || !isCoalescedRoute(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+        return exchange.getPrincipal()
+                .map(CacheKeys::roles)
+                .defaultIfEmpty("")
+                .flatMap(roles -> coalesce(exchange, chain, key(roles, request)));
+    }
+
+    private Mono<Void> coalesce(ServerWebExchange exchange, GatewayFilterChain chain, String key) {
+        Flight flight = new Flight(key);
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            followers.increment();
+            return existing.result.asMono().flatMap(shared -> {
+                if (shared == GO_UPSTREAM) {
+                    releasedUpstream.increment();
+                    return chain.filter(exchange);
+                }
+                return write(exchange, shared);
+            });
+        }
+
+        leaders.increment();
+        LeaderResponse response = new LeaderResponse(exchange.getResponse(), flight);
+        return chain.filter(exchange.mutate().response(response).build())
+                .doOnError(error -> {
+                    inFlight.remove(key, flight);
+                    flight.result.tryEmitError(error);
+                })
+                // No-op if the response was already shared
+                .doFinally(signal -> release(flight));
+    }
+
+    private void release(Flight flight) {
+        inFlight.remove(flight.key, flight);
+        flight.result.tryEmitValue(GO_UPSTREAM);
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        response.setStatusCode(shared.status());
+        shared.headers().forEach((name, values) -> {
+            // CORS and anything else this exchange already set stay as they are
+            if (!NOT_SHARED_HEADERS.contains(name) && !headers.containsKey(name)
+                    && !name.regionMatches(true, 0, "Access-Control-", 0, 15)) {
+                headers.put(name, values);
+            }
+        });
+        headers.set(COALESCED_HEADER, "true");
+        if (shared.body().length == 0) {
+            return response.setComplete();
+        }
+        headers.setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private boolean isCoalescedRoute(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern route : routes) {
+            if (route.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Conditional headers are part of the key, so a 304 is only shared with callers that sent
+     * the same validators.
+     */
+    private static String key(String roles, ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        String ifNoneMatch = headers.getFirst(HttpHeaders.IF_NONE_MATCH);
+        String ifModifiedSince = headers.getFirst(HttpHeaders.IF_MODIFIED_SINCE);
+        return CacheKeys.key(roles, request)
+                + '|' + (ifNoneMatch != null ? ifNoneMatch : "")
+                + '|' + (ifModifiedSince != null ? ifModifiedSince : "");
+    }
+
+    private static final class Flight {
+        final String key;
+        final Sinks.One<SharedResponse> result = Sinks.one();
+
+        Flight(String key) {
+            this.key = key;
+        }
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    /**
+     * Streams the leader's response through unchanged while copying it for the waiters.
+     */
+    private class LeaderResponse extends ServerHttpResponseDecorator {
+
+        private final Flight flight;
+        private final long maxBytes;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        LeaderResponse(ServerHttpResponse delegate, Flight flight) {
+            super(delegate);
+            this.flight = flight;
+            this.maxBytes = properties.maxResponseBytes().toBytes();
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (getHeaders().getContentLength() > maxBytes || getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                release(flight);
+                return super.writeWith(body);
+            }
+            Flux<? extends DataBuffer> tapped = Flux.from(body)
+                    .doOnNext(this::copy)
+                    .doOnComplete(this::share);
+            return super.writeWith(tapped);
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            // Body-less responses (204, 304, HEAD-like errors) are shared as they are
+            share();
+            return super.setComplete();
+        }
+
+        private void copy(DataBuffer buffer) {
+            if (copy == null) {
+                return;
+            }
+            if (copy.size() + buffer.readableByteCount() > maxBytes) {
+                // Too large to buffer: let the waiters go upstream now rather than after the body
+                copy = null;
+                release(flight);
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    byte[] bytes = new byte[chunk.remaining()];
+                    chunk.get(bytes);
+                    copy.writeBytes(bytes);
+                }
+            }
+        }
+
+        private void share() {
+            if (copy == null) {
+                return;
+            }
+            HttpStatusCode status = getStatusCode();
+            inFlight.remove(flight.key, flight);
+            if (status == null) {
+                flight.result.tryEmitValue(GO_UPSTREAM);
+                return;
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(getHeaders());
+            flight.result.tryEmitValue(new SharedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), copy.toByteArray()));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 3;
+    }
+}
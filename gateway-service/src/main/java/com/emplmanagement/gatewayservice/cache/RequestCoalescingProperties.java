@@ -0,0 +1,21 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * Settings of request coalescing ({@code request-coalescing.*}).
+ *
+ * @param enabled          turns coalescing on or off
+ * @param routes           path patterns whose identical concurrent GETs share one upstream exchange
+ * @param maxResponseBytes responses larger than this are not buffered; waiting requests then go upstream themselves
+ */
+@ConfigurationProperties(prefix = "request-coalescing")
+public record RequestCoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"/department-service/**", "/employee-service/**"}) List<String> routes,
+        @DefaultValue("256KB") DataSize maxResponseBytes) {
+}
@@ -0,0 +1,267 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-budgeted LRU store behind {@link ResponseCacheGlobalFilter}.
+ * <p>
+ * Entries are keyed by caller role set, path, query and {@code Accept}. Every write through the
+ * gateway bumps a generation counter, and a response is only stored if no write completed while
+ * it was being fetched, so a slow GET can never re-insert data that a concurrent write replaced.
+ */
+@Component
+public class ResponseCache {
+
+    // Rough per-entry bookkeeping cost: map node, entry record, arrays
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final ResponseCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<PathPattern> routes;
+    private final List<PathPattern> bulkWrites;
+    private final long maxBytes;
+
+    // Guarded by lock
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long usedBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final Map<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.maxBytes = properties.maxBytes().toBytes();
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.routes = properties.routes().stream().map(String::trim).map(parser::parse).toList();
+        this.bulkWrites = properties.bulkWrites().stream().map(String::trim).map(parser::parse).toList();
+
+        Gauge.builder("gateway.cache.size", this, ResponseCache::usedBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("gateway.cache.entries", this, ResponseCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.cache.invalidations", invalidations, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public boolean isCachedRoute(String path) {
+        return matchesAny(routes, path);
+    }
+
+    private static boolean matchesAny(List<PathPattern> patterns, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public long maxEntryBytes() {
+        return properties.maxEntryBytes().toBytes();
+    }
+
+    public long maxTtlNanos() {
+        return properties.maxTtl().toNanos();
+    }
+
+    /**
+     * Fresh entry for {@code key}, or {@code null}. Expired entries are dropped on the way.
+     */
+    public CachedResponse get(String key) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            CachedResponse cached = entries.get(key);
+            if (cached != null && now - cached.expiresAt() >= 0) {
+                remove(key);
+                return null;
+            }
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a response fetched under {@code fetchGeneration}; rejected if a write has
+     * invalidated the cache since, or if the entry does not fit the budget.
+     */
+    public boolean put(String key, CachedResponse response, long fetchGeneration) {
+        long size = key.length() * 2L + response.sizeBytes() + ENTRY_OVERHEAD_BYTES;
+        if (size > maxEntryBytes() || size > maxBytes) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (generation.get() != fetchGeneration) {
+                return false;
+            }
+            remove(key);
+            entries.put(key, response.withAccountedSize(size));
+            usedBytes += size;
+            Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                usedBytes -= eldest.next().getValue().accountedSize();
+                eldest.remove();
+                evictions.increment();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops everything a write to {@code path} may have changed: the resource itself, its
+     * sub-resources, and the collection it belongs to. A bulk write ({@code response-cache.bulk-writes})
+     * may have changed any resource of its collection, so it drops the whole collection.
+     */
+    public void invalidate(String path) {
+        generation.incrementAndGet();
+        String parent = path.lastIndexOf('/') > 0 ? path.substring(0, path.lastIndexOf('/')) : path;
+        String resource = matchesAny(bulkWrites, path) ? parent : path;
+        String prefix = resource.endsWith("/") ? resource : resource + "/";
+        lock.lock();
+        try {
+            Iterator<Map.Entry<String, CachedResponse>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                CachedResponse cached = it.next().getValue();
+                String cachedPath = cached.path();
+                if (cachedPath.equals(resource) || cachedPath.startsWith(prefix) || cachedPath.equals(parent)) {
+                    usedBytes -= cached.accountedSize();
+                    it.remove();
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordHit(String route) {
+        stats(route).hits.increment();
+    }
+
+    public void recordMiss(String route) {
+        stats(route).misses.increment();
+    }
+
+    private RouteStats stats(String route) {
+        RouteStats stats = routeStats.get(route);
+        if (stats != null) {
+            return stats;
+        }
+        return routeStats.computeIfAbsent(route, r -> {
+            RouteStats created = new RouteStats();
+            FunctionCounter.builder("gateway.cache.requests", created.hits, LongAdder::sum)
+                    .tags("route", r, "result", "hit").register(meterRegistry);
+            FunctionCounter.builder("gateway.cache.requests", created.misses, LongAdder::sum)
+                    .tags("route", r, "result", "miss").register(meterRegistry);
+            return created;
+        });
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.accountedSize();
+        }
+    }
+
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> statistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", size());
+        stats.put("usedBytes", usedBytes());
+        stats.put("maxBytes", maxBytes);
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        Map<String, Map<String, Object>> routes = new TreeMap<>();
+        routeStats.forEach((route, s) -> {
+            long hits = s.hits.sum();
+            long misses = s.misses.sum();
+            Map<String, Object> byRoute = new LinkedHashMap<>();
+            byRoute.put("hits", hits);
+            byRoute.put("misses", misses);
+            byRoute.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            routes.put(route, byRoute);
+        });
+        stats.put("routes", routes);
+        return stats;
+    }
+
+    private static final class RouteStats {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+    }
+
+    /**
+     * Immutable cached response. {@code headers} is read-only and holds only the representation
+     * headers worth replaying.
+     */
+    public record CachedResponse(int status, HttpHeaders headers, byte[] body, String etag,
+                                 String path, long storedAt, long expiresAt, long accountedSize) {
+
+        long sizeBytes() {
+            long[] size = {body.length + path.length() * 2L + etag.length() * 2L};
+            headers.forEach((name, values) -> {
+                size[0] += name.length() * 2L;
+                values.forEach(value -> size[0] += value.length() * 2L);
+            });
+            return size[0];
+        }
+
+        CachedResponse withAccountedSize(long size) {
+            return new CachedResponse(status, headers, body, etag, path, storedAt, expiresAt, size);
+        }
+    }
+}
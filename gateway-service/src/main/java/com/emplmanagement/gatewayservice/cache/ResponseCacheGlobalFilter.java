@@ -0,0 +1,282 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import com.emplmanagement.gatewayservice.cache.ResponseCache.CachedResponse;
+import com.emplmanagement.gatewayservice.monitoring.RouteTemplateResolver;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves repeated GETs on the configured routes ({@code response-cache.routes}) from
+ * {@link ResponseCache} instead of calling the downstream service.
+ * <p>
+ * Only responses the downstream marks as shareable are stored: {@code 200}, no
+ * {@code Set-Cookie}, no {@code no-store} in {@code Cache-Control}, and a lifetime granted to the
+ * gateway in {@code Gateway-Cache-Control: max-age=N}. That targeted field (RFC 9213) is for the
+ * gateway alone and is removed from every response, while the {@code Cache-Control} clients see
+ * stays {@code private}: these responses need authentication, so no CDN or proxy past the gateway
+ * may store them. Every stored response carries
+ * an ETag (computed when the downstream sent none) and {@code If-None-Match} is answered with
+ * {@code 304}. The key includes the caller's role set, so a response is only ever replayed to
+ * callers with exactly the roles of the caller it was fetched for; access rules are still
+ * enforced by the security chain before this filter runs. A write to a cached route through the
+ * gateway invalidates the resource and its collection.
+ */
+@Component
+public class ResponseCacheGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+    public static final String GATEWAY_CACHE_CONTROL = "Gateway-Cache-Control";
+
+    private static final CacheControl PRIVATE_CACHE = CacheControl.noCache().cachePrivate();
+
+    // Representation headers replayed from the cache; hop-by-hop and per-exchange headers are not
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.LAST_MODIFIED, HttpHeaders.VARY);
+
+    private final ResponseCache cache;
+    private final RouteTemplateResolver routeTemplates;
+
+    public ResponseCacheGlobalFilter(ResponseCache cache, RouteTemplateResolver routeTemplates) {
+        this.cache = cache;
+        this.routeTemplates = routeTemplates;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        exchange.getResponse().beforeCommit(() -> {
+            keepPrivate(exchange);
+            return Mono.empty();
+        });
+        String path = request.getPath().value();
+        if (!cache.isEnabled() || !cache.isCachedRoute(path)) {
+            return chain.filter(exchange);
+        }
+        HttpMethod method = request.getMethod();
+        if (HttpMethod.GET.equals(method)) {
+            return exchange.getPrincipal()
+                    .map(CacheKeys::roles)
+                    .defaultIfEmpty("")
+                    .flatMap(roles -> serve(exchange, chain, CacheKeys.key(roles, request), path));
+        }
+        if (HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method)
+                || HttpMethod.PATCH.equals(method) || HttpMethod.DELETE.equals(method)) {
+            // Invalidate once the write is done, whatever its outcome
+            return chain.filter(exchange).doFinally(signal -> cache.invalidate(path));
+        }
+        return chain.filter(exchange);
+    }
+
+    /**
+     * Drops the gateway's own cache field and, on authenticated requests, any permission for shared
+     * caches that a downstream might still grant in {@code Cache-Control}.
+     */
+    private static void keepPrivate(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.remove(GATEWAY_CACHE_CONTROL);
+        if (!exchange.getRequest().getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return;
+        }
+        Map<String, String> directives = directives(headers.getCacheControl());
+        if (directives.containsKey("public") || directives.containsKey("s-maxage")) {
+            headers.setCacheControl(PRIVATE_CACHE);
+        }
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, GatewayFilterChain chain, String key, String path) {
+        String route = "GET " + routeTemplates.resolve(path);
+        Map<String, String> requestDirectives = directives(exchange.getRequest().getHeaders().getCacheControl());
+
+        boolean bypass = requestDirectives.containsKey("no-cache") || "0".equals(requestDirectives.get("max-age"));
+        CachedResponse cached = bypass ? null : cache.get(key);
+        if (cached != null) {
+            cache.recordHit(route);
+            return writeCached(exchange, cached);
+        }
+        cache.recordMiss(route);
+        if (requestDirectives.containsKey("no-store")) {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse response = new CachingResponse(exchange, key, path, cache.generation());
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    private static Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.addAll(cached.headers());
+        headers.setETag(cached.etag());
+        headers.set(HttpHeaders.AGE, Long.toString(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - cached.storedAt())));
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * Captures a cacheable downstream body, stores it, and answers conditional requests.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final String path;
+        private final long fetchGeneration;
+
+        CachingResponse(ServerWebExchange exchange, String key, String path, long fetchGeneration) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.path = path;
+            this.fetchGeneration = fetchGeneration;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long ttlNanos = freshnessNanos(getStatusCode(), getHeaders());
+            if (ttlNanos <= 0) {
+                getHeaders().set(CACHE_STATUS_HEADER, "BYPASS");
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body)).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                HttpHeaders headers = getHeaders();
+                String etag = headers.getETag();
+                if (etag == null) {
+                    etag = "\"0" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+                    headers.setETag(etag);
+                }
+                store(bytes, etag, ttlNanos);
+                headers.set(CACHE_STATUS_HEADER, "MISS");
+
+                if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), etag)) {
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    headers.remove(HttpHeaders.CONTENT_TYPE);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    return getDelegate().setComplete();
+                }
+                headers.setContentLength(bytes.length);
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        private void store(byte[] bytes, String etag, long ttlNanos) {
+            if (bytes.length > cache.maxEntryBytes()) {
+                return;
+            }
+            HttpHeaders replayed = new HttpHeaders();
+            for (String name : REPLAYED_HEADERS) {
+                List<String> values = getHeaders().get(name);
+                if (values != null) {
+                    replayed.addAll(name, values);
+                }
+            }
+            long now = System.nanoTime();
+            cache.put(key, new CachedResponse(HttpStatus.OK.value(), HttpHeaders.readOnlyHttpHeaders(replayed),
+                    bytes, etag, path, now, now + ttlNanos, 0), fetchGeneration);
+        }
+
+        /**
+         * Shared-cache lifetime granted by the downstream response, or 0 if it may not be stored.
+         */
+        private long freshnessNanos(HttpStatusCode status, HttpHeaders headers) {
+            if (status == null || status.value() != HttpStatus.OK.value()
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)
+                    || headers.getVary().contains("*")) {
+                return 0;
+            }
+            long contentLength = headers.getContentLength();
+            if (contentLength > cache.maxEntryBytes()) {
+                return 0;
+            }
+            // no-store still wins, e.g. on responses carrying per-request debug headers
+            if (directives(headers.getCacheControl()).containsKey("no-store")) {
+                return 0;
+            }
+            // Requests carry credentials, so the gateway needs explicit permission (RFC 9111 3.5), in its own field
+            Map<String, String> directives = directives(headers.getFirst(GATEWAY_CACHE_CONTROL));
+            if (directives.containsKey("no-store") || directives.containsKey("no-cache")
+                    || directives.containsKey("private")) {
+                return 0;
+            }
+            String maxAge = directives.get("max-age");
+            if (maxAge == null) {
+                return 0;
+            }
+            try {
+                return Math.min(TimeUnit.SECONDS.toNanos(Long.parseLong(maxAge)), cache.maxTtlNanos());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+
+    static Map<String, String> directives(String cacheControl) {
+        Map<String, String> directives = new HashMap<>();
+        if (cacheControl == null) {
+            return directives;
+        }
+        for (String directive : cacheControl.split(",")) {
+            String trimmed = directive.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int eq = trimmed.indexOf('=');
+            if (eq < 0) {
+                directives.put(trimmed, null);
+            } else {
+                directives.put(trimmed.substring(0, eq).trim(), trimmed.substring(eq + 1).trim().replace("\"", ""));
+            }
+        }
+        return directives;
+    }
+
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch) {
+            String value = candidate.trim();
+            if ("*".equals(value) || opaque.equals(value.startsWith("W/") ? value.substring(2) : value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getOrder() {
+        // After RequestContextGlobalFilter and rate limiting, so cache hits are still logged, measured and limited
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+}
@@ -0,0 +1,29 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the gateway response cache ({@code response-cache.*}).
+ *
+ * @param enabled       turns the cache filter on or off
+ * @param routes        path patterns whose GET responses may be cached and whose writes invalidate
+ * @param bulkWrites    write endpoints that change many resources of their collection at once; they
+ *                      invalidate the collection and every resource under it
+ * @param maxBytes      total budget for cached bodies and headers; least recently used entries are evicted
+ * @param maxEntryBytes responses larger than this are never cached
+ * @param maxTtl        upper bound on the freshness lifetime taken from {@code Cache-Control}
+ */
+@ConfigurationProperties(prefix = "response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"/department-service/departments/**", "/employee-service/employees/**"}) List<String> routes,
+        @DefaultValue("/employee-service/employees/reassign") List<String> bulkWrites,
+        @DefaultValue("32MB") DataSize maxBytes,
+        @DefaultValue("512KB") DataSize maxEntryBytes,
+        @DefaultValue("5m") Duration maxTtl) {
+}
@@ -0,0 +1,24 @@
+package com.emplmanagement.gatewayservice.composition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the composed views ({@code composition.*}).
+ *
+ * @param baseUrl             where the legs are sent: the gateway itself, so they go through its routes, cache and load balancer
+ * @param employeeTimeout     budget of the employee leg; the view fails without it
+ * @param departmentTimeout   budget of the single-department leg, only used when the list does not contain it
+ * @param departmentsTimeout  budget of the department list leg
+ * @param departmentsPageSize departments requested for the list leg
+ */
+@ConfigurationProperties(prefix = "composition")
+public record CompositionProperties(
+        @DefaultValue("http://localhost:8888") String baseUrl,
+        @DefaultValue("2s") Duration employeeTimeout,
+        @DefaultValue("1s") Duration departmentTimeout,
+        @DefaultValue("1s") Duration departmentsTimeout,
+        @DefaultValue("100") int departmentsPageSize) {
+}
@@ -0,0 +1,213 @@
+package com.emplmanagement.gatewayservice.composition;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import com.emplmanagement.gatewayservice.filter.RequestContextGlobalFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Composed read views served by the gateway, so a page needs one round trip instead of a chain.
+ * <p>
+ * {@code GET /api/views/employee/{id}} fetches the employee (without the department lookup the
+ * employee service would otherwise make in series) and the department list in parallel. The
+ * employee's department is then taken from that list, and only fetched on its own when the list
+ * does not contain it. Every leg has its own timeout. A failed department or list leg leaves its
+ * field {@code null} and is reported under {@code errors}; the view is still returned. Without
+ * the employee there is no view, so a failed employee leg sets the response status.
+ * <p>
+ * Legs go through the gateway's own routes with the caller's credentials, so they are
+ * authorized, rate limited, cached, coalesced and load balanced like any other request. Only the
+ * legs are accounted: the view itself is not a route, so {@link RequestContextGlobalFilter} and
+ * the rate limiter never see it, and its access records are those of its legs, which share its
+ * correlation id.
+ */
+@RestController
+@RequestMapping("/api/views")
+public class EmployeeViewController {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeViewController.class);
+
+    private static final List<String> FORWARDED_HEADERS =
+            List.of(HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE, DebugLogSampler.HEADER);
+
+    // The leg's budget in milliseconds. employee-service bounds its department calls by it only with
+    // department-client.transport=grpc; with Feign it is ignored and only the leg's own timeout applies
+    private static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final CompositionProperties properties;
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+
+    public EmployeeViewController(CompositionProperties properties, WebClient.Builder webClientBuilder,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.webClient = webClientBuilder
+                .baseUrl(properties.baseUrl())
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    @GetMapping("/employee/{id}")
+    public Mono<ResponseEntity<EmployeeView>> employee(@PathVariable long id, ServerWebExchange exchange) {
+        HttpHeaders forwarded = forwardedHeaders(exchange);
+
+        Mono<Leg> employee = leg("employee", properties.employeeTimeout(), forwarded,
+                "/employee-service/employees/{id}?includeDepartment=false", id);
+        Mono<Leg> departments = leg("departments", properties.departmentsTimeout(), forwarded,
+                "/department-service/departments?size={size}", properties.departmentsPageSize());
+
+        return Mono.zip(employee, departments).flatMap(legs -> {
+            Leg employeeLeg = legs.getT1();
+            Leg departmentsLeg = legs.getT2();
+            JsonNode list = departmentsLeg.ok() ? content(departmentsLeg.body()) : null;
+            return department(employeeLeg, list, forwarded)
+                    .map(departmentLeg -> view(employeeLeg, departmentLeg, departmentsLeg, list));
+        });
+    }
+
+    private Mono<Leg> department(Leg employee, JsonNode departments, HttpHeaders forwarded) {
+        JsonNode departmentId = employee.ok() ? employee.body().path("departmentId") : NullNode.getInstance();
+        if (!departmentId.canConvertToLong()) {
+            return Mono.just(Leg.ok(null));
+        }
+        if (departments != null) {
+            for (JsonNode department : departments) {
+                if (department.path("id").asLong() == departmentId.asLong()) {
+                    return Mono.just(Leg.ok(department));
+                }
+            }
+        }
+        return leg("department", properties.departmentTimeout(), forwarded,
+                "/department-service/departments/{id}", departmentId.asLong());
+    }
+
+    private static ResponseEntity<EmployeeView> view(Leg employee, Leg department, Leg departments, JsonNode list) {
+        Map<String, LegError> errors = new LinkedHashMap<>();
+        if (!employee.ok()) {
+            errors.put("employee", employee.error());
+        }
+        if (!department.ok()) {
+            errors.put("department", department.error());
+        }
+        if (!departments.ok()) {
+            errors.put("departments", departments.error());
+        }
+        HttpStatusCode status = employee.ok() ? HttpStatus.OK : HttpStatusCode.valueOf(employee.error().status());
+        return ResponseEntity.status(status)
+                .body(new EmployeeView(employee.body(), department.body(), list, errors));
+    }
+
+    /**
+     * One downstream call. Never fails: errors and timeouts become a failed {@link Leg}.
+     */
+    private Mono<Leg> leg(String name, Duration timeout, HttpHeaders forwarded, String uri, Object... uriVariables) {
+        return webClient.get()
+                .uri(uri, uriVariables)
+                .headers(headers -> {
+                    headers.addAll(forwarded);
+                    headers.set(REQUEST_TIMEOUT_HEADER, String.valueOf(timeout.toMillis()));
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().is2xxSuccessful()) {
+                        return response.bodyToMono(JsonNode.class)
+                                .map(Leg::ok)
+                                .defaultIfEmpty(Leg.ok(null));
+                    }
+                    int status = response.statusCode().value();
+                    return response.releaseBody().thenReturn(Leg.failed(status, "status " + status));
+                })
+                .timeout(timeout)
+                .onErrorResume(TimeoutException.class, e ->
+                        Mono.just(Leg.failed(HttpStatus.GATEWAY_TIMEOUT.value(), "timeout after " + timeout.toMillis() + "ms")))
+                .onErrorResume(e -> {
+                    logger.debug("View leg {} failed: {}", name, e.toString());
+                    return Mono.just(Leg.failed(HttpStatus.BAD_GATEWAY.value(), "unavailable"));
+                })
+                .elapsed()
+                .map(timed -> {
+                    Leg leg = timed.getT2();
+                    String outcome = leg.ok() ? "ok" : leg.error().status() == HttpStatus.GATEWAY_TIMEOUT.value() ? "timeout" : "error";
+                    Timer.builder("gateway.composition.legs")
+                            .tags("view", "employee", "leg", name, "outcome", outcome)
+                            .register(meterRegistry)
+                            .record(timed.getT1(), TimeUnit.MILLISECONDS);
+                    return leg;
+                });
+    }
+
+    private static HttpHeaders forwardedHeaders(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders forwarded = new HttpHeaders();
+        for (String name : FORWARDED_HEADERS) {
+            List<String> values = request.getHeaders().get(name);
+            if (values != null) {
+                forwarded.put(name, values);
+            }
+        }
+        // The view is not a gateway route, so it resolves its own correlation id for the legs to share
+        String correlationId = RequestContextGlobalFilter.resolveCorrelationId(request);
+        forwarded.set(RequestContextGlobalFilter.CORRELATION_ID_HEADER, correlationId);
+        exchange.getResponse().getHeaders().set(RequestContextGlobalFilter.CORRELATION_ID_HEADER, correlationId);
+        RequestContextGlobalFilter.tagObservation(exchange, correlationId);
+        return forwarded;
+    }
+
+    private static JsonNode content(JsonNode page) {
+        if (page == null || page.isArray()) {
+            return page;
+        }
+        JsonNode content = page.get("content");
+        return content != null && content.isArray() ? content : null;
+    }
+
+    /**
+     * Result of one leg: {@code body} when it succeeded, {@code error} when it did not.
+     */
+    private record Leg(JsonNode body, LegError error) {
+
+        static Leg ok(JsonNode body) {
+            return new Leg(body, null);
+        }
+
+        static Leg failed(int status, String reason) {
+            return new Leg(null, new LegError(status, reason));
+        }
+
+        boolean ok() {
+            return error == null;
+        }
+    }
+
+    public record LegError(int status, String reason) {
+    }
+
+    public record EmployeeView(JsonNode employee, JsonNode department, JsonNode departments,
+                               @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, LegError> errors) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.emplmanagement.gatewayservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+/**
+ * HTTP client used to forward routed requests. The downstream services accept cleartext HTTP/2
+ * ({@code server.http2.enabled}), so requests are sent with prior knowledge and multiplexed as
+ * streams over a few pooled connections instead of one HTTP/1.1 connection per in-flight request.
+ * Set {@code downstream.h2c=false} when routing to a service that only speaks HTTP/1.1.
+ */
+@Configuration
+public class DownstreamHttpClientConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "downstream.h2c", havingValue = "true", matchIfMissing = true)
+    public HttpClientCustomizer h2cHttpClientCustomizer() {
+        return httpClient -> httpClient.protocol(HttpProtocol.H2C);
+    }
+}
@@ -38,6 +38,7 @@ public class SecurityConfig {
                         // Dynamic routing paths - require authentication with role
                         .pathMatchers("/department-service/**").hasAnyRole("USER", "ADMIN")
                         .pathMatchers("/employee-service/**").hasAnyRole("USER", "ADMIN")
+                        .pathMatchers("/api/views/**").hasAnyRole("USER", "ADMIN")
 
                         // All other exchanges require authentication
                         .anyExchange().authenticated()
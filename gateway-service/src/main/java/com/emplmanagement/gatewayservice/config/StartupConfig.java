@@ -0,0 +1,23 @@
+package com.emplmanagement.gatewayservice.config;
+
+import com.emplmanagement.spring.startup.StartupTracker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * Startup instrumentation. The steps land in the {@code BufferingApplicationStartup} set up in
+ * {@code main} and are listed by {@code /actuator/startup}; the milestones are also gauges.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public StartupTracker startupTracker(ApplicationStartup applicationStartup, DiscoveryClient discoveryClient,
+                                        ObjectProvider<Registration> registration) {
+        return new StartupTracker(applicationStartup, discoveryClient, registration);
+    }
+}
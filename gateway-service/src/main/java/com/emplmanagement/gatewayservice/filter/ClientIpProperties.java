@@ -0,0 +1,16 @@
+package com.emplmanagement.gatewayservice.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Settings of client address resolution ({@code client-ip.*}).
+ *
+ * @param trustedProxies addresses or CIDR ranges of the proxies in front of the gateway; forwarding headers
+ *                       are honoured only on connections from these, empty means they are never honoured
+ */
+@ConfigurationProperties(prefix = "client-ip")
+public record ClientIpProperties(@DefaultValue List<String> trustedProxies) {
+}
@@ -0,0 +1,142 @@
+package com.emplmanagement.gatewayservice.filter;
+
+import io.netty.util.NetUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * Resolves the originating client address of a request.
+ * <p>
+ * Forwarding headers can be set by anyone, so they are read only when the connection comes from a
+ * configured trusted proxy ({@link ClientIpProperties#trustedProxies()}). {@code X-Forwarded-For} is then
+ * walked from the right, skipping trusted hops: the first untrusted hop is the client. Connections from
+ * anywhere else are identified by their remote address.
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String[] FALLBACK_HEADERS = {
+            "X-Real-IP",
+            "Proxy-Client-IP",
+            "WL-Proxy-Client-IP"
+    };
+
+    private static final String UNKNOWN = "unknown";
+
+    private final List<AddressRange> trustedProxies;
+
+    public ClientIpResolver(ClientIpProperties properties) {
+        this.trustedProxies = properties.trustedProxies().stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(AddressRange::parse)
+                .toList();
+    }
+
+    public String resolve(ServerHttpRequest request) {
+        String remote = remoteAddress(request);
+        if (remote == null) {
+            return UNKNOWN;
+        }
+        if (!isTrusted(remote)) {
+            return remote;
+        }
+        HttpHeaders headers = request.getHeaders();
+
+        List<String> forwardedFor = headers.get("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            // Each proxy appends the address it received the request from, so only the right end is trustworthy
+            String client = remote;
+            for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+                String[] hops = forwardedFor.get(i).split(",");
+                for (int j = hops.length - 1; j >= 0; j--) {
+                    String hop = hops[j].trim();
+                    if (!isIpLiteral(hop)) {
+                        return client;
+                    }
+                    client = hop;
+                    if (!isTrusted(hop)) {
+                        return client;
+                    }
+                }
+            }
+            return client;
+        }
+
+        for (String headerName : FALLBACK_HEADERS) {
+            String ip = headers.getFirst(headerName);
+            if (ip != null && isIpLiteral(ip.trim())) {
+                return ip.trim();
+            }
+        }
+        return remote;
+    }
+
+    private boolean isTrusted(String ip) {
+        byte[] address = NetUtil.createByteArrayFromIpAddressString(ip);
+        if (address == null) {
+            return false;
+        }
+        for (AddressRange proxy : trustedProxies) {
+            if (proxy.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null || remote.getAddress() == null) {
+            return null;
+        }
+        return remote.getAddress().getHostAddress();
+    }
+
+    // Literal addresses only, never host names
+    private static boolean isIpLiteral(String ip) {
+        return NetUtil.isValidIpV4Address(ip) || NetUtil.isValidIpV6Address(ip);
+    }
+
+    /**
+     * A single address or a CIDR range such as {@code 10.0.0.0/8}.
+     */
+    private record AddressRange(byte[] network, int prefixBits) {
+
+        static AddressRange parse(String range) {
+            int slash = range.indexOf('/');
+            String address = slash < 0 ? range : range.substring(0, slash);
+            byte[] network = NetUtil.createByteArrayFromIpAddressString(address);
+            if (network == null) {
+                throw new IllegalArgumentException("client-ip.trusted-proxies: not an IP address or CIDR range: " + range);
+            }
+            int prefixBits = slash < 0 ? network.length * 8 : Integer.parseInt(range.substring(slash + 1));
+            if (prefixBits < 0 || prefixBits > network.length * 8) {
+                throw new IllegalArgumentException("client-ip.trusted-proxies: invalid prefix length: " + range);
+            }
+            return new AddressRange(network, prefixBits);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixBits / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixBits % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
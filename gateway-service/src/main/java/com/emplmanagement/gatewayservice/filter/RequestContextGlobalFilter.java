@@ -0,0 +1,167 @@
+package com.emplmanagement.gatewayservice.filter;
+
+import com.emplmanagement.common.accesslog.AccessLogPipeline;
+import com.emplmanagement.common.id.RequestIds;
+import com.emplmanagement.gatewayservice.logging.CorrelationContext;
+import com.emplmanagement.gatewayservice.monitoring.HealthMonitorService;
+import com.emplmanagement.gatewayservice.monitoring.RouteTemplateResolver;
+import io.micrometer.common.KeyValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single entry filter of the gateway: resolves the correlation id and the caller once,
+ * propagates both downstream and through the Reactor context, and when the exchange ends
+ * (completed, failed or cancelled) hands one access record to the {@link AccessLogPipeline} and one sample to the {@link HealthMonitorService}.
+ */
+@Component
+public class RequestContextGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    public static final String CORRELATION_ID_ATTR = RequestContextGlobalFilter.class.getName() + ".correlationId";
+    public static final String USER_ATTR = RequestContextGlobalFilter.class.getName() + ".user";
+    public static final String CORRELATION_ID_TAG = "correlation.id";
+    // Value of USER_ATTR for requests without a principal
+    public static final String ANONYMOUS = "anonymous";
+    private static final long SLOW_REQUEST_MS = 5000;
+    // nginx's status for a request the client abandoned before the response was complete
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestContextGlobalFilter.class);
+
+    private final AccessLogPipeline accessLog;
+    private final HealthMonitorService healthMonitor;
+    private final RouteTemplateResolver routeTemplates;
+    private final ClientIpResolver clientIps;
+
+    public RequestContextGlobalFilter(AccessLogPipeline accessLog, HealthMonitorService healthMonitor,
+                                      RouteTemplateResolver routeTemplates, ClientIpResolver clientIps) {
+        this.accessLog = accessLog;
+        this.healthMonitor = healthMonitor;
+        this.routeTemplates = routeTemplates;
+        this.clientIps = clientIps;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long startNanos = System.nanoTime();
+        String correlationId = resolveCorrelationId(exchange.getRequest());
+        tagObservation(exchange, correlationId);
+
+        ServerWebExchange mutated = exchange.mutate()
+                .request(builder -> builder.headers(headers -> headers.set(CORRELATION_ID_HEADER, correlationId)))
+                .build();
+        mutated.getResponse().getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+        mutated.getAttributes().put(CORRELATION_ID_ATTR, correlationId);
+
+        return exchange.getPrincipal()
+                .map(RequestContextGlobalFilter::username)
+                .defaultIfEmpty(ANONYMOUS)
+                .flatMap(user -> {
+                    mutated.getAttributes().put(USER_ATTR, user);
+                    Throwable[] failure = new Throwable[1];
+                    return chain.filter(mutated)
+                            .doOnError(error -> failure[0] = error)
+                            // Cancelled exchanges (client gone, timeout upstream of us) are logged too
+                            .doFinally(signal -> writeAccessRecord(mutated, user, correlationId, startNanos,
+                                    signal == SignalType.CANCEL, failure[0]))
+                            .contextWrite(Context.of(
+                                    CorrelationContext.CORRELATION_ID, correlationId,
+                                    CorrelationContext.USER, user));
+                });
+    }
+
+    public static String resolveCorrelationId(ServerHttpRequest request) {
+        return RequestIds.resolve(request.getHeaders().getFirst(CORRELATION_ID_HEADER));
+    }
+
+    /**
+     * Puts the correlation id on the request's span (not on its metrics), so the trace of a logged
+     * correlation id can be looked up in the tracing backend.
+     */
+    public static void tagObservation(ServerWebExchange exchange, String correlationId) {
+        ServerRequestObservationContext.findCurrent(exchange.getAttributes()).ifPresent(context ->
+                context.addHighCardinalityKeyValue(KeyValue.of(CORRELATION_ID_TAG, correlationId)));
+    }
+
+    private static String username(Principal principal) {
+        if (principal instanceof JwtAuthenticationToken token) {
+            Jwt jwt = token.getToken();
+            // Try preferred_username first, then email, then sub
+            String username = jwt.getClaimAsString("preferred_username");
+            if (username == null || username.isEmpty()) {
+                username = jwt.getClaimAsString("email");
+            }
+            if (username == null || username.isEmpty()) {
+                username = jwt.getSubject();
+            }
+            return username != null ? username : ANONYMOUS;
+        }
+        return principal.getName() != null ? principal.getName() : ANONYMOUS;
+    }
+
+    private void writeAccessRecord(ServerWebExchange exchange, String user, String correlationId,
+                                   long startNanos, boolean cancelled, Throwable error) {
+        ServerHttpRequest request = exchange.getRequest();
+        long durationNanos = System.nanoTime() - startNanos;
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = cancelled ? CLIENT_CLOSED_REQUEST
+                : error != null ? 500 : statusCode != null ? statusCode.value() : 200;
+        String method = request.getMethod().name();
+        String path = request.getURI().getRawPath();
+        String ip = clientIps.resolve(request);
+        String userAgent = request.getHeaders().getFirst(HttpHeaders.USER_AGENT);
+
+        accessLog.record(method, path, null, status, durationMs, user, ip, userAgent, correlationId,
+                cancelled ? "cancelled" : error != null ? error.getMessage() : null);
+        healthMonitor.recordRequest(method + " " + routeTemplates.resolve(path), downstreamService(exchange),
+                durationNanos, error != null || status >= 500);
+
+        if (error != null) {
+            logger.error("[GATEWAY] Error processing request: {} {}", method, path, error);
+        }
+        if (durationMs > SLOW_REQUEST_MS) {
+            logger.warn("[GATEWAY] SLOW REQUEST: {} {} took {}ms{}", method, path, durationMs,
+                    cancelled ? " (cancelled)" : "");
+        }
+    }
+
+    /**
+     * Service id of the matched route: the host of {@code lb://service} URIs, else the route id.
+     */
+    public static String downstreamService(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return null;
+        }
+        if ("lb".equals(route.getUri().getScheme()) && route.getUri().getHost() != null) {
+            return route.getUri().getHost().toLowerCase();
+        }
+        return route.getId();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -1,42 +0,0 @@
-package com.emplmanagement.gatewayservice.filters;
-
-import org.slf4j.MDC;
-import org.springframework.cloud.gateway.filter.GatewayFilterChain;
-import org.springframework.cloud.gateway.filter.GlobalFilter;
-import org.springframework.core.Ordered;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.stereotype.Component;
-import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Mono;
-
-import java.util.UUID;
-
-@Component
-public class CorrelationGlobalFilter implements GlobalFilter, Ordered {
-
-    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
-
-    @Override
-    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String correlationId = exchange.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER);
-        if (correlationId == null || correlationId.isBlank()) {
-            correlationId = UUID.randomUUID().toString();
-        }
-        MDC.put("correlationId", correlationId);
-
-        final String cid = correlationId;
-        ServerHttpRequest mutated = exchange.getRequest()
-                .mutate()
-                .headers(httpHeaders -> httpHeaders.set(CORRELATION_ID_HEADER, cid))
-                .build();
-
-        return chain.filter(exchange.mutate().request(mutated).build())
-                .doFinally(signalType -> MDC.remove("correlationId"));
-    }
-
-    @Override
-    public int getOrder() {
-        // Ensure this runs early
-        return -200;
-    }
-}
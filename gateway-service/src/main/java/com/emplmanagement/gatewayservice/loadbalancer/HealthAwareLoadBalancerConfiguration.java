@@ -0,0 +1,40 @@
+package com.emplmanagement.gatewayservice.loadbalancer;
+
+import com.emplmanagement.gatewayservice.monitoring.InstanceHealthRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-client load balancer configuration, registered for every client through
+ * {@link org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients}. Deliberately not
+ * a {@code @Configuration} so component scanning does not pull it into the main context.
+ * <p>
+ * Candidates come from discovery minus ejected instances; the pick is peak-EWMA
+ * power-of-two-choices weighted by instance health.
+ */
+public class HealthAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ServiceInstanceListSupplier healthFilteringServiceInstanceListSupplier(
+            ConfigurableApplicationContext context, InstanceHealthRegistry registry) {
+        ServiceInstanceListSupplier discovery = ServiceInstanceListSupplier.builder()
+                .withDiscoveryClient()
+                .withCaching()
+                .build(context);
+        return new HealthFilteringServiceInstanceListSupplier(discovery, registry);
+    }
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(
+            Environment environment,
+            ObjectProvider<ServiceInstanceListSupplier> suppliers,
+            InstanceHealthRegistry registry) {
+        return new PeakEwmaLoadBalancer(suppliers, LoadBalancerClientFactory.getName(environment), registry);
+    }
+}
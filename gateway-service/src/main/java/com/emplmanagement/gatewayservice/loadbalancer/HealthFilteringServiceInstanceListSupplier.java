@@ -0,0 +1,29 @@
+package com.emplmanagement.gatewayservice.loadbalancer;
+
+import com.emplmanagement.gatewayservice.monitoring.InstanceHealthRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Removes ejected instances from the candidates handed to the load balancer, and admits
+ * recovering instances according to their slow-start weight.
+ */
+public class HealthFilteringServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private final InstanceHealthRegistry registry;
+
+    public HealthFilteringServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+                                                      InstanceHealthRegistry registry) {
+        super(delegate);
+        this.registry = registry;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return delegate.get().map(instances -> registry.filter(getServiceId(), instances));
+    }
+}
@@ -0,0 +1,57 @@
+package com.emplmanagement.gatewayservice.loadbalancer;
+
+import com.emplmanagement.gatewayservice.monitoring.InstanceHealth;
+import com.emplmanagement.gatewayservice.monitoring.InstanceHealthRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Records every proxied request once in the {@link InstanceHealth} of the instance it went to:
+ * requests in flight and latency for the peak-EWMA load balancer, outcomes for outlier ejection.
+ * Runs right after the load balancer has picked an instance; unlike the load balancer lifecycle
+ * it also sees cancelled exchanges, so the outstanding count cannot leak.
+ */
+@Component
+public class InstanceTrackingFilter implements GlobalFilter, Ordered {
+
+    private final InstanceHealthRegistry registry;
+
+    public InstanceTrackingFilter(InstanceHealthRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> selected = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (selected == null || !selected.hasServer()) {
+            return chain.filter(exchange);
+        }
+        InstanceHealth instance = registry.track(selected.getServer());
+        instance.start();
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            if (signal == SignalType.CANCEL) {
+                instance.cancel();
+                return;
+            }
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            boolean failure = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+            instance.end(System.nanoTime() - start, failure);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.emplmanagement.gatewayservice.logging;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import io.micrometer.context.ContextRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reactor context keys for the correlation id and user of a request, and for the flag of a request
+ * that logs at DEBUG ({@link DebugLogWebFilter}).
+ * <p>
+ * The values are written once into the Reactor {@code Context} by the request filter and
+ * restored into the MDC by context-propagation around every operator, so log lines carry them
+ * without any filter calling {@code MDC.put} on a shared Netty event-loop thread.
+ */
+@Configuration
+public class CorrelationContext {
+
+    public static final String CORRELATION_ID = "correlationId";
+    public static final String USER = "user";
+    public static final String DEBUG_LOG = DebugLogSampler.MDC_KEY;
+
+    @PostConstruct
+    void registerMdcAccessors() {
+        ContextRegistry registry = ContextRegistry.getInstance();
+        registerMdcAccessor(registry, CORRELATION_ID);
+        registerMdcAccessor(registry, USER);
+        registerMdcAccessor(registry, DEBUG_LOG);
+    }
+
+    private static void registerMdcAccessor(ContextRegistry registry, String key) {
+        registry.registerThreadLocalAccessor(
+                key,
+                () -> MDC.get(key),
+                value -> MDC.put(key, value),
+                () -> MDC.remove(key));
+    }
+}
@@ -0,0 +1,54 @@
+package com.emplmanagement.gatewayservice.logging;
+
+import com.emplmanagement.common.debuglog.DebugLogSampler;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Logs the request at DEBUG when {@link DebugLogSampler} picks it (signed {@code X-Debug-Log} token or
+ * sampling), while everything else stays at the configured INFO.
+ * <p>
+ * The flag goes into the Reactor context, from which {@link CorrelationContext} restores it into the
+ * MDC. The filter runs before Spring Security, so the security DEBUG lines of the request are kept
+ * too. The request's {@code X-Debug-Log} header is replaced by the token to forward, so routed
+ * services and composed-view legs log the same request at DEBUG; an invalid token is dropped.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DebugLogWebFilter implements WebFilter {
+
+    private final DebugLogSampler sampler;
+
+    public DebugLogWebFilter(DebugLogSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(DebugLogSampler.HEADER);
+        DebugLogSampler.Decision decision = sampler.decide(header);
+        if (!decision.debug()) {
+            return chain.filter(header == null ? exchange : forwarding(exchange, null));
+        }
+        return chain.filter(forwarding(exchange, decision.token()))
+                .contextWrite(Context.of(CorrelationContext.DEBUG_LOG, DebugLogSampler.MDC_VALUE));
+    }
+
+    private static ServerWebExchange forwarding(ServerWebExchange exchange, String token) {
+        return exchange.mutate()
+                .request(builder -> builder.headers(headers -> {
+                    if (token != null) {
+                        headers.set(DebugLogSampler.HEADER, token);
+                    } else {
+                        headers.remove(DebugLogSampler.HEADER);
+                    }
+                }))
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Actively probes the health endpoint of every discovered downstream instance.
+ * <p>
+ * Each tick re-evaluates ejections, refreshes the instance list from discovery and probes the
+ * instances whose adaptive interval has elapsed, with at most {@code health-probe.concurrency}
+ * probes in flight. Probes are non-blocking; a tick never waits for them.
+ */
+@Component
+public class DownstreamHealthProber {
+
+    private static final Logger logger = LoggerFactory.getLogger(DownstreamHealthProber.class);
+
+    private final ReactiveDiscoveryClient discoveryClient;
+    private final InstanceHealthRegistry registry;
+    private final HealthMonitorService healthMonitorService;
+    private final HealthProbeProperties properties;
+    private final WebClient webClient;
+
+    public DownstreamHealthProber(ReactiveDiscoveryClient discoveryClient,
+                                  InstanceHealthRegistry registry,
+                                  HealthMonitorService healthMonitorService,
+                                  HealthProbeProperties properties,
+                                  WebClient.Builder webClientBuilder) {
+        this.discoveryClient = discoveryClient;
+        this.registry = registry;
+        this.healthMonitorService = healthMonitorService;
+        this.properties = properties;
+        this.webClient = webClientBuilder.build();
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void tick() {
+        registry.evaluate();
+        properties.services().forEach(service ->
+                healthMonitorService.updateServiceStatus(service, registry.hasAvailableInstance(service)));
+
+        long now = System.nanoTime();
+        Flux.fromIterable(properties.services())
+                .flatMap(service -> discoveryClient.getInstances(service)
+                        .collectList()
+                        .flatMapIterable(instances -> registry.sync(service, instances))
+                        .onErrorResume(e -> {
+                            logger.warn("Could not list instances of {}: {}", service, e.getMessage());
+                            return Flux.empty();
+                        }))
+                .filter(health -> health.tryStartProbe(now))
+                .flatMap(this::probe, properties.concurrency())
+                .subscribe();
+    }
+
+    private Mono<Void> probe(InstanceHealth health) {
+        URI uri = UriComponentsBuilder.fromUri(health.instance().getUri())
+                .replacePath(properties.path())
+                .build()
+                .toUri();
+        long start = System.nanoTime();
+        return webClient.get()
+                .uri(uri)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().is2xxSuccessful()))
+                .timeout(properties.timeout())
+                .onErrorResume(e -> {
+                    logger.debug("Probe of {} {} failed: {}", health.serviceId(), health.key(), e.toString());
+                    return Mono.just(false);
+                })
+                .doOnNext(success -> {
+                    long end = System.nanoTime();
+                    health.onProbeResult(success, end - start, end, properties);
+                })
+                .doFinally(signal -> health.probeFinished())
+                .then();
+    }
+}
@@ -0,0 +1,39 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import com.emplmanagement.gatewayservice.cache.ResponseCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/gatewaystats}: rolling 1m/5m/15m latency percentiles and error rates per
+ * route template and per downstream service, the probe/ejection state of every instance, and
+ * response cache hit ratios per route.
+ */
+@Component
+@Endpoint(id = "gatewaystats")
+public class GatewayStatsEndpoint {
+
+    private final HealthMonitorService healthMonitorService;
+    private final InstanceHealthRegistry instanceHealthRegistry;
+    private final ResponseCache responseCache;
+
+    public GatewayStatsEndpoint(HealthMonitorService healthMonitorService,
+                                InstanceHealthRegistry instanceHealthRegistry,
+                                ResponseCache responseCache) {
+        this.healthMonitorService = healthMonitorService;
+        this.instanceHealthRegistry = instanceHealthRegistry;
+        this.responseCache = responseCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>(healthMonitorService.statistics());
+        statistics.put("instances", instanceHealthRegistry.snapshot());
+        statistics.put("responseCache", responseCache.statistics());
+        return statistics;
+    }
+}
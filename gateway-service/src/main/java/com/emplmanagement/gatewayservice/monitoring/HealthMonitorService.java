@@ -1,17 +1,23 @@
 package com.emplmanagement.gatewayservice.monitoring;
 
+import com.emplmanagement.gatewayservice.monitoring.RollingLatencyWindow.WindowStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 
 @Service
@@ -20,16 +26,57 @@ public class HealthMonitorService implements HealthIndicator {
     private static final Logger logger = LoggerFactory.getLogger(HealthMonitorService.class);
     private static final Logger HEALTH_LOG = LoggerFactory.getLogger("HEALTH_LOG");
 
-    private final Map<String, ServiceStatus> serviceStatuses = new ConcurrentHashMap<>();
-    private LocalDateTime startTime;
-    private long requestCount = 0;
-    private long errorCount = 0;
+    public static final String OTHER_ROUTE = "OTHER";
+
+    static final Map<String, Duration> WINDOWS = Map.of(
+            "1m", Duration.ofMinutes(1),
+            "5m", Duration.ofMinutes(5),
+            "15m", Duration.ofMinutes(15));
 
-    public HealthMonitorService() {
+    private final Map<String, ServiceStatus> serviceStatuses = new ConcurrentHashMap<>();
+    private final Map<String, RollingLatencyWindow> routeWindows = new ConcurrentHashMap<>();
+    private final Map<String, RollingLatencyWindow> serviceWindows = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final int maxTrackedRoutes;
+    private final LocalDateTime startTime;
+
+    public HealthMonitorService(@Value("${health-monitor.max-tracked-routes:256}") int maxTrackedRoutes) {
+        this.maxTrackedRoutes = maxTrackedRoutes;
         this.startTime = LocalDateTime.now();
         logger.info("Health Monitor initialized at {}", startTime);
     }
 
+    /**
+     * Records one completed gateway exchange. Called from the request filter on every request,
+     * so it must stay lock-free on the hot path.
+     *
+     * @param routeTemplate templated path, e.g. {@code GET /employee-service/employees/{id}}
+     * @param service       downstream service id, or {@code null} if the request was not routed
+     */
+    public void recordRequest(String routeTemplate, String service, long durationNanos, boolean error) {
+        requestCount.increment();
+        if (error) {
+            errorCount.increment();
+        }
+        window(routeWindows, routeTemplate).record(durationNanos, error);
+        if (service != null) {
+            window(serviceWindows, service).record(durationNanos, error);
+        }
+    }
+
+    private RollingLatencyWindow window(Map<String, RollingLatencyWindow> windows, String key) {
+        RollingLatencyWindow window = windows.get(key);
+        if (window != null) {
+            return window;
+        }
+        // Bound cardinality: once full, unknown keys share a single bucket
+        if (windows.size() >= maxTrackedRoutes) {
+            key = OTHER_ROUTE;
+        }
+        return windows.computeIfAbsent(key, k -> new RollingLatencyWindow());
+    }
+
     /**
      * Log service health status every 5 minutes
      */
@@ -39,9 +86,10 @@ public class HealthMonitorService implements HealthIndicator {
 
         healthInfo.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME));
         healthInfo.put("uptime", getUptime());
-        healthInfo.put("totalRequests", requestCount);
-        healthInfo.put("totalErrors", errorCount);
+        healthInfo.put("totalRequests", requestCount.sum());
+        healthInfo.put("totalErrors", errorCount.sum());
         healthInfo.put("errorRate", calculateErrorRate());
+        healthInfo.put("services", windowStats(serviceWindows, "5m"));
 
         HEALTH_LOG.info("Service Health Status: {}", healthInfo);
 
@@ -66,14 +114,18 @@ public class HealthMonitorService implements HealthIndicator {
     public void logDetailedHealthStatus() {
         logger.info("=== Detailed Health Report ===");
         logger.info("Service uptime: {}", getUptime());
-        logger.info("Total requests processed: {}", requestCount);
-        logger.info("Total errors: {}", errorCount);
+        logger.info("Total requests processed: {}", requestCount.sum());
+        logger.info("Total errors: {}", errorCount.sum());
         logger.info("Error rate: {}%", String.format("%.2f", calculateErrorRate()));
 
         // Log thread info
         ThreadGroup threadGroup = Thread.currentThread().getThreadGroup();
         logger.info("Active threads: {}", threadGroup.activeCount());
 
+        // Log per-route latency over the last 15 minutes
+        windowStats(routeWindows, "15m").forEach((route, stats) ->
+                logger.info("Route {}: {}", route, stats));
+
         // Log service dependencies
         serviceStatuses.forEach((service, status) -> {
             logger.info("Dependency {}: {} (last check: {})",
@@ -88,9 +140,10 @@ public class HealthMonitorService implements HealthIndicator {
         Map<String, Object> details = new HashMap<>();
 
         details.put("uptime", getUptime());
-        details.put("requestCount", requestCount);
-        details.put("errorCount", errorCount);
+        details.put("requestCount", requestCount.sum());
+        details.put("errorCount", errorCount.sum());
         details.put("errorRate", calculateErrorRate());
+        details.put("services", windowStats(serviceWindows, "1m"));
 
         // Check service dependencies
         boolean allHealthy = serviceStatuses.values().stream()
@@ -109,13 +162,38 @@ public class HealthMonitorService implements HealthIndicator {
         return Health.up().withDetails(details).build();
     }
 
-    public void incrementRequestCount() {
-        requestCount++;
+    /**
+     * Full statistics for the actuator endpoint: lifetime totals plus 1m/5m/15m windows per
+     * route template and per downstream service.
+     */
+    public Map<String, Object> statistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("uptime", getUptime());
+        stats.put("requestCount", requestCount.sum());
+        stats.put("errorCount", errorCount.sum());
+        stats.put("errorRate", calculateErrorRate());
+        stats.put("routes", allWindows(routeWindows));
+        stats.put("services", allWindows(serviceWindows));
+        return stats;
+    }
+
+    private static Map<String, WindowStats> windowStats(Map<String, RollingLatencyWindow> windows, String window) {
+        Duration duration = WINDOWS.get(window);
+        Map<String, WindowStats> stats = new TreeMap<>();
+        windows.forEach((key, rolling) -> stats.put(key, rolling.snapshot(duration)));
+        return stats;
     }
 
-    public void incrementErrorCount() {
-        errorCount++;
-        logger.warn("Error count increased to: {}", errorCount);
+    private static Map<String, Map<String, WindowStats>> allWindows(Map<String, RollingLatencyWindow> windows) {
+        Map<String, Map<String, WindowStats>> stats = new TreeMap<>();
+        windows.forEach((key, rolling) -> {
+            Map<String, WindowStats> byWindow = new LinkedHashMap<>();
+            byWindow.put("1m", rolling.snapshot(WINDOWS.get("1m")));
+            byWindow.put("5m", rolling.snapshot(WINDOWS.get("5m")));
+            byWindow.put("15m", rolling.snapshot(WINDOWS.get("15m")));
+            stats.put(key, byWindow);
+        });
+        return stats;
     }
 
     public void updateServiceStatus(String serviceName, boolean healthy) {
@@ -148,15 +226,16 @@ public class HealthMonitorService implements HealthIndicator {
     }
 
     private double calculateErrorRate() {
-        if (requestCount == 0) {
+        long requests = requestCount.sum();
+        if (requests == 0) {
             return 0.0;
         }
-        return (errorCount * 100.0) / requestCount;
+        return (errorCount.sum() * 100.0) / requests;
     }
 
     private static class ServiceStatus {
-        private boolean healthy = true;
-        private LocalDateTime lastCheck = LocalDateTime.now();
+        private volatile boolean healthy = true;
+        private volatile LocalDateTime lastCheck = LocalDateTime.now();
 
         public boolean isHealthy() {
             return healthy;
@@ -174,4 +253,4 @@ public class HealthMonitorService implements HealthIndicator {
             this.lastCheck = lastCheck;
         }
     }
-}
\ No newline at end of file
+}
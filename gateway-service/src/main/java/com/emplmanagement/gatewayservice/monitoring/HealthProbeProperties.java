@@ -0,0 +1,45 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the active downstream prober and of outlier ejection ({@code health-probe.*}).
+ *
+ * @param services             discovery service ids to probe
+ * @param path                 health path probed on every instance
+ * @param timeout              probe timeout; a timeout counts as a failure
+ * @param minInterval          probe interval for failing, ejected or recovering instances
+ * @param maxInterval          interval a stable healthy instance backs off to
+ * @param jitter               +/- fraction applied to every interval so probes do not align
+ * @param concurrency          maximum probes in flight
+ * @param failureThreshold     consecutive probe failures that eject an instance
+ * @param errorRateThreshold   live-traffic error rate (0..1) that ejects an instance
+ * @param minRequests          live requests over the last three evaluation ticks before the error rate counts
+ * @param latencyOutlierFactor eject when latency exceeds this multiple of the peer median...
+ * @param latencyOutlierFloor  ...and this absolute value
+ * @param ejectionTime         base ejection duration, multiplied by the number of recent ejections
+ * @param maxEjectionPercent   share of a service's instances that may be ejected at once
+ * @param slowStart            ramp during which a reintroduced instance's weight grows to 1
+ */
+@ConfigurationProperties(prefix = "health-probe")
+public record HealthProbeProperties(
+        @DefaultValue({"employee-service", "department-service"}) List<String> services,
+        @DefaultValue("/actuator/health") String path,
+        @DefaultValue("2s") Duration timeout,
+        @DefaultValue("2s") Duration minInterval,
+        @DefaultValue("30s") Duration maxInterval,
+        @DefaultValue("0.2") double jitter,
+        @DefaultValue("16") int concurrency,
+        @DefaultValue("3") int failureThreshold,
+        @DefaultValue("0.5") double errorRateThreshold,
+        @DefaultValue("10") int minRequests,
+        @DefaultValue("3.0") double latencyOutlierFactor,
+        @DefaultValue("200ms") Duration latencyOutlierFloor,
+        @DefaultValue("30s") Duration ejectionTime,
+        @DefaultValue("50") int maxEjectionPercent,
+        @DefaultValue("60s") Duration slowStart) {
+}
@@ -0,0 +1,239 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import com.emplmanagement.common.loadbalancer.PeakEwma;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Everything the gateway tracks about one downstream instance, fed by active probes and by live
+ * gateway traffic: health and ejection state, and the {@link PeakEwma} load estimate the load
+ * balancer picks by. Each proxied request is recorded once ({@link #start()}, then {@link #end} or
+ * {@link #cancel()}) and updates both.
+ * <p>
+ * Live traffic only increments {@link LongAdder}s and CAS-updates the load estimate; the adders
+ * are folded into EWMAs once per evaluation tick. Probe callbacks and evaluation, which are rare,
+ * synchronize on the instance.
+ */
+public class InstanceHealth {
+
+    public enum State { HEALTHY, EJECTED, RECOVERING }
+
+    private static final double EWMA_ALPHA = 0.3;
+    // Evaluation ticks whose requests count towards minRequests, about the EWMA's memory
+    private static final int REQUEST_WINDOW_TICKS = 3;
+    private static final double MIN_RECOVERY_WEIGHT = 0.1;
+    private static final int MAX_EJECTION_MULTIPLIER = 5;
+
+    private final String serviceId;
+    private final String key;
+    private volatile ServiceInstance instance;
+    private final PeakEwma load;
+    private volatile long lastUsed;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    // Guarded by this
+    private final long[] recentRequests = new long[REQUEST_WINDOW_TICKS];
+    private int tick;
+    private long windowRequests;
+    private double errorRateEwma;
+    private double latencyEwmaMs;
+    private double probeLatencyEwmaMs;
+    private int consecutiveProbeFailures;
+    private int ejections;
+    private long ejectedUntil;
+    private long rampStart;
+    private long probeIntervalNanos;
+    private long nextProbeAt;
+    private volatile State state = State.HEALTHY;
+    private volatile double weight = 1.0;
+
+    InstanceHealth(String serviceId, String key, ServiceInstance instance, PeakEwma load, long now,
+                   HealthProbeProperties properties) {
+        this.serviceId = serviceId;
+        this.key = key;
+        this.instance = instance;
+        this.load = load;
+        this.lastUsed = now;
+        this.probeIntervalNanos = properties.minInterval().toNanos();
+        this.nextProbeAt = now;
+    }
+
+    /**
+     * A request was sent to this instance.
+     */
+    public void start() {
+        lastUsed = System.nanoTime();
+        load.start();
+    }
+
+    /**
+     * The request completed after {@code durationNanos}; {@code error} for failures and 5xx answers.
+     */
+    public void end(long durationNanos, boolean error) {
+        load.end(durationNanos, error);
+        requests.increment();
+        latencyNanos.add(durationNanos);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * The request was abandoned before it completed; it says nothing about the instance.
+     */
+    public void cancel() {
+        load.cancel();
+    }
+
+    boolean tryStartProbe(long now) {
+        synchronized (this) {
+            if (now - nextProbeAt < 0) {
+                return false;
+            }
+        }
+        return probing.compareAndSet(false, true);
+    }
+
+    /**
+     * Applies a probe outcome and schedules the next probe: stable healthy instances back off
+     * towards {@code maxInterval}, anything failing or ejected is probed at {@code minInterval}.
+     */
+    synchronized void onProbeResult(boolean success, long durationNanos, long now, HealthProbeProperties properties) {
+        double durationMs = durationNanos / 1_000_000.0;
+        probeLatencyEwmaMs = probeLatencyEwmaMs == 0 ? durationMs : ewma(probeLatencyEwmaMs, durationMs);
+        consecutiveProbeFailures = success ? 0 : consecutiveProbeFailures + 1;
+
+        if (state == State.EJECTED && success && now - ejectedUntil >= 0) {
+            state = State.RECOVERING;
+            rampStart = now;
+            weight = MIN_RECOVERY_WEIGHT;
+        }
+
+        long min = properties.minInterval().toNanos();
+        long max = properties.maxInterval().toNanos();
+        probeIntervalNanos = success && state == State.HEALTHY
+                ? Math.min(max, probeIntervalNanos + probeIntervalNanos / 2)
+                : min;
+        double jitter = 1.0 + properties.jitter() * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        nextProbeAt = now + (long) (probeIntervalNanos * jitter);
+    }
+
+    void probeFinished() {
+        probing.set(false);
+    }
+
+    /**
+     * Folds live traffic since the previous tick into the EWMAs.
+     */
+    synchronized void foldTraffic() {
+        long count = requests.sumThenReset();
+        long failed = errors.sumThenReset();
+        long latency = latencyNanos.sumThenReset();
+        windowRequests += count - recentRequests[tick];
+        recentRequests[tick] = count;
+        tick = (tick + 1) % REQUEST_WINDOW_TICKS;
+        if (count > 0) {
+            errorRateEwma = ewma(errorRateEwma, (double) failed / count);
+            double meanMs = latency / 1_000_000.0 / count;
+            latencyEwmaMs = latencyEwmaMs == 0 ? meanMs : ewma(latencyEwmaMs, meanMs);
+        }
+    }
+
+    /**
+     * Advances the slow-start ramp of a recovering instance.
+     */
+    synchronized void updateWeight(long now, HealthProbeProperties properties) {
+        if (state != State.RECOVERING) {
+            return;
+        }
+        double progress = (double) (now - rampStart) / properties.slowStart().toNanos();
+        if (progress >= 1.0) {
+            state = State.HEALTHY;
+            weight = 1.0;
+            ejections = Math.max(0, ejections - 1);
+        } else {
+            weight = Math.max(MIN_RECOVERY_WEIGHT, progress);
+        }
+    }
+
+    synchronized void eject(long now, HealthProbeProperties properties) {
+        ejections++;
+        state = State.EJECTED;
+        weight = 0.0;
+        ejectedUntil = now + properties.ejectionTime().toNanos() * Math.min(ejections, MAX_EJECTION_MULTIPLIER);
+        // Start from a clean slate when the instance comes back
+        errorRateEwma = 0;
+        latencyEwmaMs = 0;
+        Arrays.fill(recentRequests, 0);
+        windowRequests = 0;
+        probeIntervalNanos = properties.minInterval().toNanos();
+        nextProbeAt = now;
+    }
+
+    synchronized boolean hasProbeFailures(HealthProbeProperties properties) {
+        return consecutiveProbeFailures >= properties.failureThreshold();
+    }
+
+    synchronized boolean hasHighErrorRate(HealthProbeProperties properties) {
+        return windowRequests >= properties.minRequests()
+                && errorRateEwma > properties.errorRateThreshold();
+    }
+
+    /**
+     * Live-traffic latency when there is traffic, otherwise probe latency.
+     */
+    synchronized double latencyMs() {
+        return latencyEwmaMs > 0 ? latencyEwmaMs : probeLatencyEwmaMs;
+    }
+
+    /**
+     * Score in [0, 1] combining availability and slow-start weight; 0 while ejected.
+     */
+    public double score() {
+        double errorRate;
+        synchronized (this) {
+            errorRate = errorRateEwma;
+        }
+        return weight * (1.0 - errorRate);
+    }
+
+    synchronized Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("state", state);
+        snapshot.put("weight", weight);
+        snapshot.put("score", weight * (1.0 - errorRateEwma));
+        snapshot.put("errorRate", errorRateEwma);
+        snapshot.put("latencyMs", latencyEwmaMs);
+        snapshot.put("probeLatencyMs", probeLatencyEwmaMs);
+        snapshot.put("peakLatencyMs", load.cost() / 1_000_000.0);
+        snapshot.put("outstanding", load.pending());
+        snapshot.put("consecutiveProbeFailures", consecutiveProbeFailures);
+        snapshot.put("ejections", ejections);
+        snapshot.put("nextProbeInMs", TimeUnit.NANOSECONDS.toMillis(Math.max(0, nextProbeAt - System.nanoTime())));
+        return snapshot;
+    }
+
+    private static double ewma(double previous, double sample) {
+        return previous + EWMA_ALPHA * (sample - previous);
+    }
+
+    public String serviceId() { return serviceId; }
+    public String key() { return key; }
+    public ServiceInstance instance() { return instance; }
+    public PeakEwma load() { return load; }
+    long lastUsed() { return lastUsed; }
+    void instance(ServiceInstance instance) { this.instance = instance; }
+    public State state() { return state; }
+    public double weight() { return weight; }
+}
@@ -0,0 +1,250 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import com.emplmanagement.common.loadbalancer.PeakEwma;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Per-instance state ({@link InstanceHealth}) of every downstream service the gateway probes or
+ * routes to, and the outlier ejection rules. The same objects hold the load estimates of the
+ * peak-EWMA load balancer, exported as {@code loadbalancer.instance.*} gauges.
+ * <p>
+ * An instance is ejected when it fails {@code failureThreshold} probes in a row, when its
+ * live-traffic error rate exceeds {@code errorRateThreshold}, or when its latency is a
+ * {@code latencyOutlierFactor} multiple of its peers' median. At most
+ * {@code maxEjectionPercent} of a service's instances, and never the last one, are ejected at
+ * once. Ejection time grows with repeated ejections; after it a passing probe reintroduces the
+ * instance with a slow-start weight ramp.
+ */
+@Component
+public class InstanceHealthRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstanceHealthRegistry.class);
+    private static final Logger HEALTH_LOG = LoggerFactory.getLogger("HEALTH_LOG");
+
+    // Instances of services that are not probed are only known from traffic; forget them once idle
+    private static final Duration IDLE_EVICTION = Duration.ofMinutes(5);
+
+    private final Map<String, Map<String, InstanceHealth>> services = new ConcurrentHashMap<>();
+    private final HealthProbeProperties properties;
+    private final Set<String> probedServices;
+    private final Duration decay;
+    private final Duration penalty;
+    private final MultiGauge latency;
+    private final MultiGauge outstanding;
+    private final MultiGauge load;
+
+    public InstanceHealthRegistry(HealthProbeProperties properties, MeterRegistry meterRegistry,
+                                  @Value("${load-balancer.peak-ewma.decay:10s}") Duration decay,
+                                  @Value("${load-balancer.peak-ewma.penalty:1s}") Duration penalty) {
+        this.properties = properties;
+        this.probedServices = properties.services().stream()
+                .map(InstanceHealthRegistry::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+        this.decay = decay;
+        this.penalty = penalty;
+        this.latency = MultiGauge.builder("loadbalancer.instance.latency")
+                .description("Peak-EWMA response time").baseUnit("milliseconds").register(meterRegistry);
+        this.outstanding = MultiGauge.builder("loadbalancer.instance.outstanding")
+                .description("Requests in flight").register(meterRegistry);
+        this.load = MultiGauge.builder("loadbalancer.instance.load")
+                .description("Latency times outstanding requests; the lower, the more likely to be picked")
+                .baseUnit("milliseconds").register(meterRegistry);
+    }
+
+    public static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * Aligns the tracked instances of a service with the current discovery result.
+     */
+    public Collection<InstanceHealth> sync(String serviceId, List<ServiceInstance> instances) {
+        String service = normalize(serviceId);
+        Map<String, InstanceHealth> tracked = services.computeIfAbsent(service, k -> new ConcurrentHashMap<>());
+        long now = System.nanoTime();
+        Set<String> current = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            String key = key(instance);
+            current.add(key);
+            tracked.compute(key, (k, health) -> {
+                if (health == null) {
+                    return newInstance(service, k, instance, now);
+                }
+                health.instance(instance);
+                return health;
+            });
+        }
+        tracked.keySet().retainAll(current);
+        return tracked.values();
+    }
+
+    /**
+     * The state of an instance the load balancer offers or picked, tracked from now on if it was not yet.
+     */
+    public InstanceHealth track(ServiceInstance instance) {
+        String service = normalize(instance.getServiceId());
+        String key = key(instance);
+        Map<String, InstanceHealth> tracked = services.computeIfAbsent(service, k -> new ConcurrentHashMap<>());
+        InstanceHealth health = tracked.get(key);
+        if (health != null) {
+            return health;
+        }
+        return tracked.computeIfAbsent(key, k -> newInstance(service, k, instance, System.nanoTime()));
+    }
+
+    private InstanceHealth newInstance(String service, String key, ServiceInstance instance, long now) {
+        return new InstanceHealth(service, key, instance, new PeakEwma(key, decay, penalty), now, properties);
+    }
+
+    /**
+     * Applies the ejection rules to every tracked service. Called once per prober tick.
+     */
+    public void evaluate() {
+        evaluate(System.nanoTime());
+    }
+
+    void evaluate(long now) {
+        services.forEach((service, instances) -> {
+            if (!probedServices.contains(service)) {
+                instances.values().removeIf(health -> health.load().pending() == 0
+                        && now - health.lastUsed() > IDLE_EVICTION.toNanos());
+            }
+            evaluate(service, instances.values(), now);
+        });
+    }
+
+    private void evaluate(String service, Collection<InstanceHealth> instances, long now) {
+        List<InstanceHealth> available = new ArrayList<>();
+        for (InstanceHealth health : instances) {
+            health.foldTraffic();
+            health.updateWeight(now, properties);
+            if (health.state() != InstanceHealth.State.EJECTED) {
+                available.add(health);
+            }
+        }
+
+        int total = instances.size();
+        int ejected = total - available.size();
+        int maxEjected = Math.max(0, Math.min(total - 1, total * properties.maxEjectionPercent() / 100));
+        double outlierThresholdMs = Math.max(
+                properties.latencyOutlierFactor() * medianLatencyMs(available),
+                properties.latencyOutlierFloor().toMillis());
+
+        for (InstanceHealth health : available) {
+            if (ejected >= maxEjected) {
+                break;
+            }
+            String reason = ejectionReason(health, outlierThresholdMs, available.size());
+            if (reason != null) {
+                health.eject(now, properties);
+                ejected++;
+                logger.warn("Ejecting {} instance {}: {}", service, health.key(), reason);
+                HEALTH_LOG.warn("Instance {} of {} ejected: {}", health.key(), service, reason);
+            }
+        }
+    }
+
+    private String ejectionReason(InstanceHealth health, double outlierThresholdMs, int peers) {
+        if (health.hasProbeFailures(properties)) {
+            return "consecutive probe failures";
+        }
+        if (health.hasHighErrorRate(properties)) {
+            return "error rate above threshold";
+        }
+        // A latency outlier needs peers to be compared with
+        if (peers > 1 && health.latencyMs() > outlierThresholdMs) {
+            return String.format(Locale.ROOT, "latency %.1fms above %.1fms", health.latencyMs(), outlierThresholdMs);
+        }
+        return null;
+    }
+
+    private static double medianLatencyMs(List<InstanceHealth> instances) {
+        double[] latencies = instances.stream()
+                .mapToDouble(InstanceHealth::latencyMs)
+                .filter(latency -> latency > 0)
+                .sorted()
+                .toArray();
+        return latencies.length == 0 ? 0.0 : latencies[latencies.length / 2];
+    }
+
+    /**
+     * Removes ejected instances from a load balancer candidate list and lets recovering ones
+     * through in proportion to their slow-start weight. Fails open: if nothing would be left,
+     * the original list is returned.
+     */
+    public List<ServiceInstance> filter(String serviceId, List<ServiceInstance> instances) {
+        Map<String, InstanceHealth> tracked = services.get(normalize(serviceId));
+        if (tracked == null || instances.isEmpty()) {
+            return instances;
+        }
+        List<ServiceInstance> eligible = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            InstanceHealth health = tracked.get(key(instance));
+            if (health == null || health.state() == InstanceHealth.State.HEALTHY) {
+                eligible.add(instance);
+            } else if (health.state() == InstanceHealth.State.RECOVERING
+                    && ThreadLocalRandom.current().nextDouble() < health.weight()) {
+                eligible.add(instance);
+            }
+        }
+        return eligible.isEmpty() ? instances : eligible;
+    }
+
+    public boolean hasAvailableInstance(String serviceId) {
+        Map<String, InstanceHealth> tracked = services.get(normalize(serviceId));
+        return tracked != null && tracked.values().stream()
+                .anyMatch(health -> health.state() != InstanceHealth.State.EJECTED);
+    }
+
+    public Map<String, Map<String, Map<String, Object>>> snapshot() {
+        Map<String, Map<String, Map<String, Object>>> snapshot = new TreeMap<>();
+        services.forEach((service, instances) -> {
+            Map<String, Map<String, Object>> byInstance = new TreeMap<>();
+            instances.forEach((key, health) -> byInstance.put(key, health.snapshot()));
+            snapshot.put(service, byInstance);
+        });
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelay = 10000)
+    public void publishMetrics() {
+        latency.register(rows(health -> health.load().cost() / 1_000_000.0), true);
+        outstanding.register(rows(health -> health.load().pending()), true);
+        load.register(rows(health -> health.load().load() / 1_000_000.0), true);
+    }
+
+    private List<MultiGauge.Row<?>> rows(ToDoubleFunction<InstanceHealth> value) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        services.forEach((service, instances) -> instances.forEach((key, health) ->
+                rows.add(MultiGauge.Row.of(Tags.of("service", service, "instance", key), health, value))));
+        return rows;
+    }
+
+
+    // Eureka reports service ids in upper case, routes use lower case
+    private static String normalize(String serviceId) {
+        return serviceId.toLowerCase(Locale.ROOT);
+    }
+}
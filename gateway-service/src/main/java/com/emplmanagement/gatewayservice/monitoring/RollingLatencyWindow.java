@@ -0,0 +1,166 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Latency and error statistics over a sliding 15 minute horizon, kept as a ring of 15 second
+ * slots.
+ * <p>
+ * Writers only touch an HdrHistogram {@link Recorder} (wait-free) and a {@link LongAdder};
+ * the slot ring is rotated lazily by whichever thread first notices that the clock moved to
+ * a new slot. Readers merge the slots covering the requested window, so percentiles are
+ * computed from the full distribution rather than averaged.
+ */
+public class RollingLatencyWindow {
+
+    static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(15);
+    static final int SLOTS = (int) (TimeUnit.MINUTES.toNanos(15) / SLOT_NANOS);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final LongSupplier nanoClock;
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS, true);
+    private final LongAdder slotErrors = new LongAdder();
+    private final LongAdder totalRequests = new LongAdder();
+    private final LongAdder totalErrors = new LongAdder();
+
+    // Guarded by this
+    private final Histogram[] slots = new Histogram[SLOTS];
+    private final long[] errorsBySlot = new long[SLOTS];
+    private Histogram currentSlot = newHistogram();
+    private Histogram recycled;
+
+    private volatile long currentSlotIndex;
+
+    public RollingLatencyWindow() {
+        this(System::nanoTime);
+    }
+
+    RollingLatencyWindow(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.currentSlotIndex = slotIndex(nanoClock.getAsLong());
+    }
+
+    public void record(long durationNanos, boolean error) {
+        rotateIfNeeded(nanoClock.getAsLong());
+        recorder.recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+        totalRequests.increment();
+        if (error) {
+            slotErrors.increment();
+            totalErrors.increment();
+        }
+    }
+
+    public long totalRequests() {
+        return totalRequests.sum();
+    }
+
+    public long totalErrors() {
+        return totalErrors.sum();
+    }
+
+    /**
+     * Statistics for the most recent {@code window}, rounded up to whole slots and including
+     * the slot in progress.
+     */
+    public synchronized WindowStats snapshot(Duration window) {
+        rotateIfNeeded(nanoClock.getAsLong());
+        drainRecorder();
+
+        int slotCount = (int) Math.min(SLOTS, Math.max(1, (window.toNanos() + SLOT_NANOS - 1) / SLOT_NANOS));
+        Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+        merged.add(currentSlot);
+        long errors = slotErrors.sum();
+        long index = currentSlotIndex;
+        for (int i = 1; i < slotCount; i++) {
+            int ring = ringIndex(index - i);
+            if (slots[ring] != null) {
+                merged.add(slots[ring]);
+                errors += errorsBySlot[ring];
+            }
+        }
+        return WindowStats.of(merged, errors);
+    }
+
+    private void rotateIfNeeded(long now) {
+        long index = slotIndex(now);
+        if (index == currentSlotIndex) {
+            return;
+        }
+        synchronized (this) {
+            long previous = currentSlotIndex;
+            if (index <= previous) {
+                return;
+            }
+            drainRecorder();
+
+            int ring = ringIndex(previous);
+            slots[ring] = currentSlot.getTotalCount() > 0 ? currentSlot : null;
+            errorsBySlot[ring] = slotErrors.sumThenReset();
+
+            // Slots skipped while idle hold no data
+            for (long skipped = previous + 1; skipped < index && skipped <= previous + SLOTS; skipped++) {
+                slots[ringIndex(skipped)] = null;
+                errorsBySlot[ringIndex(skipped)] = 0;
+            }
+            currentSlot = newHistogram();
+            currentSlotIndex = index;
+        }
+    }
+
+    /**
+     * Moves everything recorded since the last drain into the slot in progress. Caller holds the lock.
+     */
+    private void drainRecorder() {
+        Histogram interval = recorder.getIntervalHistogram(recycled);
+        currentSlot.add(interval);
+        recycled = interval;
+    }
+
+    private static long slotIndex(long nanoTime) {
+        return Math.floorDiv(nanoTime, SLOT_NANOS);
+    }
+
+    private static int ringIndex(long slotIndex) {
+        return (int) Math.floorMod(slotIndex, (long) SLOTS);
+    }
+
+    /**
+     * Slots are sparse, so they use the packed representation to keep each one at a few KB.
+     */
+    private static Histogram newHistogram() {
+        return new PackedHistogram(SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Immutable view of one window. Latencies are in milliseconds.
+     */
+    public record WindowStats(long requests, long errors, double errorRate,
+                              double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static WindowStats of(Histogram histogram, long errors) {
+            long requests = histogram.getTotalCount();
+            if (requests == 0) {
+                return new WindowStats(0, errors, 0.0, 0.0, 0.0, 0.0, 0.0);
+            }
+            return new WindowStats(
+                    requests,
+                    errors,
+                    (errors * 100.0) / requests,
+                    toMillis(histogram.getValueAtPercentile(50.0)),
+                    toMillis(histogram.getValueAtPercentile(99.0)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue()));
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Maps a raw request path to a low-cardinality template such as
+ * {@code /employee-service/employees/{id}}, so per-route statistics do not grow with every id.
+ * <p>
+ * Configured templates ({@code health-monitor.route-templates}) win; any other path has its
+ * id-like segments (numbers, UUIDs, long tokens containing digits) replaced by {@code {id}}.
+ */
+@Component
+public class RouteTemplateResolver {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|(?=.*\\d)[0-9A-Za-z_-]{16,}");
+
+    private final List<PathPattern> templates;
+
+    public RouteTemplateResolver(@Value("${health-monitor.route-templates:}") List<String> templates) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.templates = templates.stream()
+                .map(String::trim)
+                .filter(template -> !template.isEmpty())
+                .map(parser::parse)
+                .sorted()
+                .toList();
+    }
+
+    public String resolve(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern template : templates) {
+            if (template.matches(container)) {
+                return template.getPatternString();
+            }
+        }
+        return normalize(path);
+    }
+
+    static String normalize(String path) {
+        StringBuilder template = new StringBuilder(path.length());
+        int start = 0;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start + 1);
+            if (end < 0) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end);
+            if (segment.length() > 1 && ID_SEGMENT.matcher(segment.substring(1)).matches()) {
+                template.append("/{id}");
+            } else {
+                template.append(segment);
+            }
+            start = end;
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+}
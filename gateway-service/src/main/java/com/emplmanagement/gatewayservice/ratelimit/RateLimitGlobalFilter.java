@@ -0,0 +1,159 @@
+package com.emplmanagement.gatewayservice.ratelimit;
+
+import com.emplmanagement.gatewayservice.filter.ClientIpResolver;
+import com.emplmanagement.gatewayservice.filter.RequestContextGlobalFilter;
+import com.emplmanagement.gatewayservice.ratelimit.TokenBucketLimiter.Decision;
+import com.emplmanagement.gatewayservice.ratelimit.TokenBucketLimiter.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Token-bucket rate limiting per caller, downstream service and rule, kept in memory
+ * ({@link TokenBucketLimiter}) so no Redis is needed.
+ * <p>
+ * Callers are identified by the user {@link RequestContextGlobalFilter} resolved for the exchange, and
+ * by client IP ({@link ClientIpResolver}) when there is none. Every response carries {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining}, {@code RateLimit-Reset} and {@code RateLimit-Policy}; rejected
+ * requests get {@code 429} with {@code Retry-After}.
+ */
+@Component
+public class RateLimitGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitGlobalFilter.class);
+
+    private final RateLimitProperties properties;
+    private final TokenBucketLimiter limiter;
+    private final List<CompiledRule> rules;
+    private final CompiledRule defaultRule;
+    private final Counter allowed;
+    private final Counter rejected;
+    private final ClientIpResolver clientIps;
+
+    public RateLimitGlobalFilter(RateLimitProperties properties, ClientIpResolver clientIps, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.clientIps = clientIps;
+        this.limiter = new TokenBucketLimiter(properties.maxKeys(), properties.stripes());
+        this.defaultRule = new CompiledRule("default", null, Set.of(),
+                new Limit(properties.capacity(), properties.refillPerSecond()));
+        this.rules = compile(properties.rules());
+
+        this.allowed = Counter.builder("gateway.ratelimit.requests").tag("result", "allowed").register(meterRegistry);
+        this.rejected = Counter.builder("gateway.ratelimit.requests").tag("result", "rejected").register(meterRegistry);
+        Gauge.builder("gateway.ratelimit.buckets", limiter, TokenBucketLimiter::size).register(meterRegistry);
+        FunctionCounter.builder("gateway.ratelimit.shared.buckets", limiter, TokenBucketLimiter::sharedBucketCount)
+                .register(meterRegistry);
+        logger.info("Rate limiter sized for {} keys ({} slots)", properties.maxKeys(), limiter.capacity());
+    }
+
+    private static List<CompiledRule> compile(List<RateLimitProperties.Rule> rules) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitProperties.Rule rule = rules.get(i);
+            Set<String> methods = rule.methods() == null ? Set.of() : rule.methods().stream()
+                    .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            compiled.add(new CompiledRule("r" + i, parser.parse(rule.path()), methods,
+                    new Limit(rule.capacity(), rule.refillPerSecond())));
+        }
+        return List.copyOf(compiled);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.enabled()) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        CompiledRule rule = match(request);
+        // The entry filter has already resolved the principal; resolving it again costs a security context lookup
+        String user = exchange.getAttribute(RequestContextGlobalFilter.USER_ATTR);
+        String caller = user == null || RequestContextGlobalFilter.ANONYMOUS.equals(user)
+                ? "ip:" + clientIps.resolve(request) : "user:" + user;
+        String service = RequestContextGlobalFilter.downstreamService(exchange);
+        String key = caller + '|' + (service != null ? service : "-") + '|' + rule.id();
+
+        Decision decision = limiter.tryAcquire(key, rule.limit());
+        ServerHttpResponse response = exchange.getResponse();
+        writeHeaders(response.getHeaders(), rule.limit(), decision);
+        if (decision.allowed()) {
+            allowed.increment();
+            return chain.filter(exchange);
+        }
+        rejected.increment();
+        logger.debug("Rate limited {} on {} {}", caller, request.getMethod(), request.getPath());
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(ceilSeconds(decision.retryAfterNanos())));
+        return response.setComplete();
+    }
+
+    private CompiledRule match(ServerHttpRequest request) {
+        if (rules.isEmpty()) {
+            return defaultRule;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        String method = request.getMethod().name();
+        for (CompiledRule rule : rules) {
+            if ((rule.methods().isEmpty() || rule.methods().contains(method)) && rule.path().matches(path)) {
+                return rule;
+            }
+        }
+        return defaultRule;
+    }
+
+    private static void writeHeaders(HttpHeaders headers, Limit limit, Decision decision) {
+        headers.set("RateLimit-Limit", Integer.toString(decision.limit()));
+        headers.set("RateLimit-Remaining", Integer.toString(decision.remaining()));
+        headers.set("RateLimit-Reset", Long.toString(ceilSeconds(decision.resetNanos())));
+        headers.set("RateLimit-Policy", limit.capacity() + ";w=" + limit.windowSeconds());
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Frees full buckets so occupancy reflects active callers only.
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void evictIdleBuckets() {
+        int freed = limiter.sweep();
+        if (freed > 0) {
+            logger.debug("Rate limiter evicted {} idle buckets, {} active", freed, limiter.size());
+        }
+    }
+
+    private record CompiledRule(String id, PathPattern path, Set<String> methods, Limit limit) {
+    }
+
+    @Override
+    public int getOrder() {
+        // Before the response cache, so cache hits count against the limit too
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -0,0 +1,35 @@
+package com.emplmanagement.gatewayservice.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Settings of the in-memory rate limiter ({@code rate-limit.*}).
+ *
+ * @param enabled          turns rate limiting on or off
+ * @param maxKeys          distinct (caller, service, rule) buckets to size the table for; memory is fixed at ~32 bytes per key
+ * @param stripes          number of independent table stripes
+ * @param capacity         default burst size
+ * @param refillPerSecond  default sustained rate
+ * @param rules            per-route overrides; the first rule matching path and method applies
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200000") int maxKeys,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("100") int capacity,
+        @DefaultValue("50") double refillPerSecond,
+        @DefaultValue List<Rule> rules) {
+
+    /**
+     * @param path            path pattern, e.g. {@code /employee-service/**}
+     * @param methods         HTTP methods the rule applies to; empty for all
+     * @param capacity        burst size
+     * @param refillPerSecond sustained rate
+     */
+    public record Rule(String path, List<String> methods, int capacity, double refillPerSecond) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.emplmanagement.gatewayservice.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token buckets in a fixed amount of memory.
+ * <p>
+ * Each bucket is a single {@code long}: the theoretical arrival time of the next request (GCRA),
+ * which is a token bucket with lazy refill. Buckets live in a pre-sized open-addressing table of
+ * 64-bit key hashes, split into stripes so occupancy counters and sweeps do not contend. A bucket
+ * whose arrival time is in the past is full, and therefore indistinguishable from a new one: it
+ * can be evicted or reused by another key at any time without changing any limit. Memory is
+ * 16 bytes per slot, with twice as many slots as {@code maxKeys}.
+ * <p>
+ * When every slot in a key's probe window holds an active bucket, the key shares the first one,
+ * which can only make limiting stricter, never looser.
+ */
+public class TokenBucketLimiter {
+
+    private static final int PROBE_WINDOW = 8;
+    private static final long EMPTY = 0L;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final long origin = System.nanoTime();
+    private final LongAdder sharedBuckets = new LongAdder();
+
+    public TokenBucketLimiter(int maxKeys, int stripeCount) {
+        int stripesPow2 = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        int slotsPerStripe = Integer.highestOneBit(Math.max(PROBE_WINDOW, (maxKeys * 2 / stripesPow2) - 1) << 1);
+        this.stripes = new Stripe[stripesPow2];
+        for (int i = 0; i < stripesPow2; i++) {
+            stripes[i] = new Stripe(slotsPerStripe);
+        }
+        this.stripeMask = stripesPow2 - 1;
+    }
+
+    public Decision tryAcquire(String key, Limit limit) {
+        return tryAcquire(key, limit, now());
+    }
+
+    Decision tryAcquire(String key, Limit limit, long now) {
+        long hash = hash(key);
+        Stripe stripe = stripes[(int) (hash >>> 40) & stripeMask];
+        int slot = stripe.slotFor(hash, now);
+
+        long emission = limit.emissionNanos();
+        long tolerance = limit.capacity() * emission;
+        while (true) {
+            long tat = stripe.tats.get(slot);
+            long newTat = Math.max(tat, now) + emission;
+            long excess = newTat - now - tolerance;
+            if (excess > 0) {
+                return new Decision(false, limit.capacity(), 0, Math.max(0, tat - now), excess);
+            }
+            if (stripe.tats.compareAndSet(slot, tat, newTat)) {
+                int remaining = (int) ((tolerance - (newTat - now)) / emission);
+                return new Decision(true, limit.capacity(), remaining, newTat - now, 0);
+            }
+        }
+    }
+
+    /**
+     * Frees every full bucket. Lossless, so it can run at any time; it only keeps the occupancy
+     * low so new keys find a free slot early in their probe window.
+     */
+    public int sweep() {
+        long now = now();
+        int freed = 0;
+        for (Stripe stripe : stripes) {
+            freed += stripe.sweep(now);
+        }
+        return freed;
+    }
+
+    public long size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.occupied.get();
+        }
+        return size;
+    }
+
+    public long capacity() {
+        return (long) stripes.length * (stripes[0].mask + 1);
+    }
+
+    public long sharedBucketCount() {
+        return sharedBuckets.sum();
+    }
+
+    // Strictly positive, so an arrival time of 0 always means "full"
+    private long now() {
+        return System.nanoTime() - origin + 1;
+    }
+
+    private final class Stripe {
+        final AtomicLongArray keys;
+        final AtomicLongArray tats;
+        final AtomicInteger occupied = new AtomicInteger();
+        final int mask;
+
+        Stripe(int slots) {
+            this.keys = new AtomicLongArray(slots);
+            this.tats = new AtomicLongArray(slots);
+            this.mask = slots - 1;
+        }
+
+        int slotFor(long hash, long now) {
+            int start = (int) hash & mask;
+            for (int i = 0; i < PROBE_WINDOW; i++) {
+                int slot = (start + i) & mask;
+                if (keys.get(slot) == hash) {
+                    return slot;
+                }
+            }
+            // Not present: claim an empty slot, or take over a full (idle) bucket
+            for (int i = 0; i < PROBE_WINDOW; i++) {
+                int slot = (start + i) & mask;
+                long current = keys.get(slot);
+                if (current == EMPTY) {
+                    if (keys.compareAndSet(slot, EMPTY, hash)) {
+                        tats.set(slot, 0);
+                        occupied.incrementAndGet();
+                        return slot;
+                    }
+                } else if (tats.get(slot) <= now && keys.compareAndSet(slot, current, hash)) {
+                    tats.set(slot, 0);
+                    return slot;
+                }
+                if (keys.get(slot) == hash) {
+                    return slot;
+                }
+            }
+            sharedBuckets.increment();
+            return start;
+        }
+
+        int sweep(long now) {
+            int freed = 0;
+            for (int slot = 0; slot <= mask; slot++) {
+                long key = keys.get(slot);
+                if (key != EMPTY && tats.get(slot) <= now && keys.compareAndSet(slot, key, EMPTY)) {
+                    occupied.decrementAndGet();
+                    freed++;
+                }
+            }
+            return freed;
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with the murmur3 mixer. Never 0.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == EMPTY ? 1 : h;
+    }
+
+    /**
+     * Bucket size and refill rate.
+     */
+    public record Limit(int capacity, double refillPerSecond) {
+
+        public Limit {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("capacity must be >= 1 and refillPerSecond > 0");
+            }
+        }
+
+        long emissionNanos() {
+            return Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        }
+
+        /**
+         * Time for an empty bucket to refill completely, in whole seconds.
+         */
+        public long windowSeconds() {
+            return Math.max(1L, (long) Math.ceil(capacity / refillPerSecond));
+        }
+    }
+
+    /**
+     * Outcome of one acquisition. {@code resetNanos} is the time until the bucket is full again.
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.emplmanagement.gatewayservice.startup;
+
+import com.emplmanagement.spring.startup.StartupTracker;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Reports routed requests to the {@link StartupTracker} until a service answers one. Runs once
+ * the load balancer has picked an instance, so requests that never leave the gateway (cache hits,
+ * rate limited, no instance) do not count; after the first answer it only passes requests on.
+ */
+@Component
+public class StartupTrackingFilter implements GlobalFilter, Ordered {
+
+    private final StartupTracker tracker;
+
+    public StartupTrackingFilter(StartupTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> selected = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (selected == null || !selected.hasServer()) {
+            return chain.filter(exchange);
+        }
+        StartupTracker.DownstreamCall call = tracker.downstreamCall(selected.getServer().getServiceId());
+        if (call == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).doFinally(signal -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            call.end(signal == SignalType.ON_COMPLETE && status != null && !status.is5xxServerError());
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
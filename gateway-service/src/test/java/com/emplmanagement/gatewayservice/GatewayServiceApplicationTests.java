@@ -1,13 +1,34 @@
 package com.emplmanagement.gatewayservice;
 
+import com.emplmanagement.spring.startup.StartupBudgetTests;
+import com.emplmanagement.spring.startup.StartupTracker;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
 
 @SpringBootTest
-class GatewayServiceApplicationTests {
+// Explicit endpoints instead of the issuer's discovery document, which is fetched at startup: runs without Keycloak
+@TestPropertySource(properties = {
+        "spring.security.oauth2.client.registration.keycloak.provider=keycloak-endpoints",
+        "spring.security.oauth2.client.provider.keycloak-endpoints.authorization-uri=http://localhost:8080/realms/employee-realm/protocol/openid-connect/auth",
+        "spring.security.oauth2.client.provider.keycloak-endpoints.token-uri=http://localhost:8080/realms/employee-realm/protocol/openid-connect/token",
+        "spring.security.oauth2.client.provider.keycloak-endpoints.jwk-set-uri=http://localhost:8080/realms/employee-realm/protocol/openid-connect/certs",
+        "spring.security.oauth2.client.provider.keycloak-endpoints.user-name-attribute=preferred_username"})
+class GatewayServiceApplicationTests extends StartupBudgetTests {
+
+    @Autowired
+    private StartupTracker startupTracker;
 
     @Test
     void contextLoads() {
     }
 
+    @Override
+    protected Duration springStartup() {
+        return startupTracker.springStartup();
+    }
+
 }
@@ -0,0 +1,176 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import com.emplmanagement.gatewayservice.filter.RequestContextGlobalFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestCoalescingGlobalFilterTest {
+
+    private static final String EMPLOYEES = "/employee-service/employees";
+    private static final String BODY = "[{\"id\":1}]";
+
+    private final RequestCoalescingGlobalFilter filter = new RequestCoalescingGlobalFilter(
+            new RequestCoalescingProperties(true, List.of("/employee-service/**"), DataSize.ofBytes(64)),
+            new SimpleMeterRegistry());
+
+    // The first call upstream (the leader's) answers once the gate opens, later ones at once
+    private final Sinks.Empty<Void> leaderGate = Sinks.empty();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private String upstreamBody = BODY;
+    private String upstreamCookie;
+
+    @Test
+    void followersGetACopyOfTheLeadersResponse() {
+        MockServerWebExchange leader = exchange(MockServerHttpRequest.get(EMPLOYEES));
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get(EMPLOYEES));
+        CompletableFuture<Void> leading = run(leader);
+        CompletableFuture<Void> following = run(follower);
+        assertFalse(following.isDone());
+
+        leaderGate.tryEmitEmpty();
+        leading.join();
+        following.join();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(BODY, follower.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.OK, follower.getResponse().getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, follower.getResponse().getHeaders().getContentType());
+        assertEquals("true", follower.getResponse().getHeaders().getFirst(RequestCoalescingGlobalFilter.COALESCED_HEADER));
+        // Per-exchange headers stay with the leader
+        assertNull(follower.getResponse().getHeaders().getFirst(RequestContextGlobalFilter.CORRELATION_ID_HEADER));
+        assertEquals(BODY, leader.getResponse().getBodyAsString().block());
+        assertNull(leader.getResponse().getHeaders().getFirst(RequestCoalescingGlobalFilter.COALESCED_HEADER));
+    }
+
+    @Test
+    void differentQueriesAndValidatorsAreSeparateFlights() {
+        run(exchange(MockServerHttpRequest.get(EMPLOYEES)));
+        run(exchange(MockServerHttpRequest.get(EMPLOYEES).queryParam("page", "1"))).join();
+        run(exchange(MockServerHttpRequest.get(EMPLOYEES).ifNoneMatch("\"v1\""))).join();
+
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    @Test
+    void nextRequestAfterTheFlightGoesUpstream() {
+        leaderGate.tryEmitEmpty();
+        run(exchange(MockServerHttpRequest.get(EMPLOYEES))).join();
+        MockServerWebExchange later = exchange(MockServerHttpRequest.get(EMPLOYEES));
+        run(later).join();
+
+        assertEquals(2, upstreamCalls.get());
+        assertNull(later.getResponse().getHeaders().getFirst(RequestCoalescingGlobalFilter.COALESCED_HEADER));
+    }
+
+    @Test
+    void oversizedResponseSendsTheFollowersUpstream() {
+        upstreamBody = "x".repeat(100);
+        run(exchange(MockServerHttpRequest.get(EMPLOYEES)));
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get(EMPLOYEES));
+        CompletableFuture<Void> following = run(follower);
+
+        leaderGate.tryEmitEmpty();
+        following.join();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(upstreamBody, follower.getResponse().getBodyAsString().block());
+        assertNull(follower.getResponse().getHeaders().getFirst(RequestCoalescingGlobalFilter.COALESCED_HEADER));
+    }
+
+    @Test
+    void responseSettingACookieIsNotShared() {
+        upstreamCookie = "session=leader";
+        run(exchange(MockServerHttpRequest.get(EMPLOYEES)));
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get(EMPLOYEES));
+        CompletableFuture<Void> following = run(follower);
+
+        leaderGate.tryEmitEmpty();
+        following.join();
+
+        assertEquals(2, upstreamCalls.get());
+        assertNull(follower.getResponse().getHeaders().getFirst(RequestCoalescingGlobalFilter.COALESCED_HEADER));
+    }
+
+    @Test
+    void upstreamErrorReachesEveryFollower() {
+        CompletableFuture<Void> leading = run(exchange(MockServerHttpRequest.get(EMPLOYEES)));
+        CompletableFuture<Void> following = run(exchange(MockServerHttpRequest.get(EMPLOYEES)));
+
+        leaderGate.tryEmitError(new IllegalStateException("upstream down"));
+
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, leading::join).getCause());
+        assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, following::join).getCause());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void cancelledLeaderSendsTheFollowersUpstream() {
+        Disposable leading = filter.filter(exchange(MockServerHttpRequest.get(EMPLOYEES)), upstream()).subscribe();
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get(EMPLOYEES));
+        CompletableFuture<Void> following = run(follower);
+
+        leading.dispose();
+        following.join();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(BODY, follower.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void onlyGetsOnCoalescedRoutesAreCoalesced() {
+        run(exchange(MockServerHttpRequest.post(EMPLOYEES)));
+        run(exchange(MockServerHttpRequest.post(EMPLOYEES)));
+        run(exchange(MockServerHttpRequest.get("/other/employees")));
+        run(exchange(MockServerHttpRequest.get("/other/employees")));
+
+        assertEquals(4, upstreamCalls.get());
+    }
+
+    private CompletableFuture<Void> run(MockServerWebExchange exchange) {
+        return filter.filter(exchange, upstream()).toFuture();
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+
+    private GatewayFilterChain upstream() {
+        return exchange -> {
+            Mono<Void> answered = upstreamCalls.incrementAndGet() == 1 ? leaderGate.asMono() : Mono.empty();
+            return answered.then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.OK);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                response.getHeaders().set(RequestContextGlobalFilter.CORRELATION_ID_HEADER, "leader-id");
+                if (upstreamCookie != null) {
+                    response.getHeaders().add(HttpHeaders.SET_COOKIE, upstreamCookie);
+                }
+                byte[] body = upstreamBody.getBytes(StandardCharsets.UTF_8);
+                return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+            }));
+        };
+    }
+}
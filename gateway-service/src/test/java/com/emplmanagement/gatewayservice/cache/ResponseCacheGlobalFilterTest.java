@@ -0,0 +1,158 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import com.emplmanagement.gatewayservice.monitoring.RouteTemplateResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheGlobalFilterTest {
+
+    private static final String EMPLOYEE = "/employee-service/employees/1";
+    private static final String BODY = "{\"id\":1}";
+
+    private final ResponseCacheGlobalFilter filter = new ResponseCacheGlobalFilter(
+            new ResponseCache(new ResponseCacheProperties(true, List.of("/employee-service/employees/**"),
+                    List.of(), DataSize.ofMegabytes(1), DataSize.ofKilobytes(512), Duration.ofMinutes(5)),
+                    new SimpleMeterRegistry()),
+            new RouteTemplateResolver(List.of()));
+
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private final Map<String, String> downstreamHeaders = new HashMap<>();
+
+    @Test
+    void grantedResponseIsStoredAndReplayed() {
+        downstreamHeaders.put(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        downstreamHeaders.put(ResponseCacheGlobalFilter.GATEWAY_CACHE_CONTROL, "max-age=10");
+
+        MockServerHttpResponse first = get(MockServerHttpRequest.get(EMPLOYEE));
+        MockServerHttpResponse second = get(MockServerHttpRequest.get(EMPLOYEE));
+
+        assertEquals("MISS", first.getHeaders().getFirst(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER));
+        assertEquals("HIT", second.getHeaders().getFirst(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER));
+        assertEquals(1, downstreamCalls.get());
+        assertEquals(BODY, second.getBodyAsString().block());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertEquals("private, no-cache", second.getHeaders().getCacheControl());
+        // The gateway's own field never leaves it
+        assertFalse(first.getHeaders().containsKey(ResponseCacheGlobalFilter.GATEWAY_CACHE_CONTROL));
+        assertFalse(second.getHeaders().containsKey(ResponseCacheGlobalFilter.GATEWAY_CACHE_CONTROL));
+    }
+
+    @Test
+    void responseWithoutAGrantIsNotStored() {
+        downstreamHeaders.put(HttpHeaders.CACHE_CONTROL, "max-age=60");
+
+        MockServerHttpResponse first = get(MockServerHttpRequest.get(EMPLOYEE));
+        get(MockServerHttpRequest.get(EMPLOYEE));
+
+        assertEquals("BYPASS", first.getHeaders().getFirst(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER));
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void noStoreWinsOverTheGrant() {
+        downstreamHeaders.put(HttpHeaders.CACHE_CONTROL, "no-store");
+        downstreamHeaders.put(ResponseCacheGlobalFilter.GATEWAY_CACHE_CONTROL, "max-age=10");
+
+        get(MockServerHttpRequest.get(EMPLOYEE));
+        get(MockServerHttpRequest.get(EMPLOYEE));
+
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void requestNoCacheGoesDownstream() {
+        downstreamHeaders.put(ResponseCacheGlobalFilter.GATEWAY_CACHE_CONTROL, "max-age=10");
+
+        get(MockServerHttpRequest.get(EMPLOYEE));
+        get(MockServerHttpRequest.get(EMPLOYEE).header(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() {
+        downstreamHeaders.put(ResponseCacheGlobalFilter.GATEWAY_CACHE_CONTROL, "max-age=10");
+        String etag = get(MockServerHttpRequest.get(EMPLOYEE)).getHeaders().getETag();
+        assertNotNull(etag);
+
+        MockServerHttpResponse revalidated = get(MockServerHttpRequest.get(EMPLOYEE).ifNoneMatch(etag));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertEquals("HIT", revalidated.getHeaders().getFirst(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER));
+    }
+
+    @Test
+    void writeThroughTheGatewayInvalidates() {
+        downstreamHeaders.put(ResponseCacheGlobalFilter.GATEWAY_CACHE_CONTROL, "max-age=10");
+        get(MockServerHttpRequest.get(EMPLOYEE));
+
+        get(MockServerHttpRequest.put(EMPLOYEE));
+        MockServerHttpResponse afterWrite = get(MockServerHttpRequest.get(EMPLOYEE));
+
+        assertEquals("MISS", afterWrite.getHeaders().getFirst(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER));
+        assertEquals(3, downstreamCalls.get());
+    }
+
+    @Test
+    void sharedCachePermissionIsWithdrawnOnAuthenticatedRequests() {
+        downstreamHeaders.put(HttpHeaders.CACHE_CONTROL, "public, s-maxage=60");
+
+        MockServerHttpResponse anonymous = get(MockServerHttpRequest.get("/other/1"));
+        MockServerHttpResponse authenticated = get(MockServerHttpRequest.get("/other/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+
+        assertEquals("public, s-maxage=60", anonymous.getHeaders().getCacheControl());
+        assertEquals("no-cache, private", authenticated.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void directivesAreCaseInsensitiveAndUnquoted() {
+        Map<String, String> directives = ResponseCacheGlobalFilter.directives("Public, MAX-AGE=\"30\", ,no-cache");
+
+        assertEquals(3, directives.size());
+        assertTrue(directives.containsKey("public"));
+        assertNull(directives.get("public"));
+        assertEquals("30", directives.get("max-age"));
+        assertTrue(directives.containsKey("no-cache"));
+    }
+
+    private MockServerHttpResponse get(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, downstream()).block();
+        return exchange.getResponse();
+    }
+
+    private GatewayFilterChain downstream() {
+        return exchange -> {
+            downstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            downstreamHeaders.forEach(response.getHeaders()::set);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.emplmanagement.gatewayservice.cache;
+
+import com.emplmanagement.gatewayservice.cache.ResponseCache.CachedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheTest {
+
+    private static final String EMPLOYEES = "/employee-service/employees";
+    private static final String DEPARTMENTS = "/department-service/departments";
+
+    private final ResponseCache cache = new ResponseCache(new ResponseCacheProperties(true,
+            List.of(DEPARTMENTS + "/**", EMPLOYEES + "/**"), List.of(EMPLOYEES + "/reassign"),
+            DataSize.ofKilobytes(2), DataSize.ofKilobytes(1), Duration.ofMinutes(5)), new SimpleMeterRegistry());
+
+    @Test
+    void writeDropsTheResourceItsSubResourcesAndItsCollection() {
+        store(EMPLOYEES, EMPLOYEES + "/1", EMPLOYEES + "/1/history", EMPLOYEES + "/2", DEPARTMENTS + "/1");
+
+        cache.invalidate(EMPLOYEES + "/1");
+
+        assertNull(cache.get(EMPLOYEES));
+        assertNull(cache.get(EMPLOYEES + "/1"));
+        assertNull(cache.get(EMPLOYEES + "/1/history"));
+        assertNotNull(cache.get(EMPLOYEES + "/2"));
+        assertNotNull(cache.get(DEPARTMENTS + "/1"));
+    }
+
+    @Test
+    void bulkWriteDropsTheWholeCollection() {
+        store(EMPLOYEES, EMPLOYEES + "/1", EMPLOYEES + "/2", DEPARTMENTS + "/1");
+
+        cache.invalidate(EMPLOYEES + "/reassign");
+
+        assertNull(cache.get(EMPLOYEES));
+        assertNull(cache.get(EMPLOYEES + "/1"));
+        assertNull(cache.get(EMPLOYEES + "/2"));
+        assertNotNull(cache.get(DEPARTMENTS + "/1"));
+    }
+
+    @Test
+    void responseFetchedAcrossAWriteIsNotStored() {
+        long fetchGeneration = cache.generation();
+        cache.invalidate(EMPLOYEES + "/1");
+
+        assertFalse(cache.put(EMPLOYEES + "/1", response(EMPLOYEES + "/1", 10, Duration.ofMinutes(1)), fetchGeneration));
+        assertNull(cache.get(EMPLOYEES + "/1"));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedPastTheBudget() {
+        store(700, EMPLOYEES + "/1", EMPLOYEES + "/2");
+        cache.get(EMPLOYEES + "/1");
+
+        store(700, EMPLOYEES + "/3");
+
+        assertNotNull(cache.get(EMPLOYEES + "/1"));
+        assertNull(cache.get(EMPLOYEES + "/2"));
+        assertNotNull(cache.get(EMPLOYEES + "/3"));
+        assertTrue(cache.usedBytes() <= DataSize.ofKilobytes(2).toBytes());
+    }
+
+    @Test
+    void oversizedEntryIsRejected() {
+        assertFalse(cache.put(EMPLOYEES + "/1", response(EMPLOYEES + "/1", 2000, Duration.ofMinutes(1)), cache.generation()));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expiredEntryIsDropped() {
+        assertTrue(cache.put(EMPLOYEES + "/1", response(EMPLOYEES + "/1", 10, Duration.ofNanos(-1)), cache.generation()));
+
+        assertNull(cache.get(EMPLOYEES + "/1"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.usedBytes());
+    }
+
+    private void store(String... paths) {
+        store(10, paths);
+    }
+
+    // Keyed by path alone: invalidation goes by the entry's path, whatever the key
+    private void store(int bodyBytes, String... paths) {
+        for (String path : paths) {
+            assertTrue(cache.put(path, response(path, bodyBytes, Duration.ofMinutes(1)), cache.generation()));
+        }
+    }
+
+    private static CachedResponse response(String path, int bodyBytes, Duration ttl) {
+        long now = System.nanoTime();
+        return new CachedResponse(200, HttpHeaders.EMPTY, new byte[bodyBytes], "\"etag\"", path,
+                now, now + TimeUnit.NANOSECONDS.convert(ttl), 0);
+    }
+}
@@ -0,0 +1,172 @@
+package com.emplmanagement.gatewayservice.composition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeViewControllerTest {
+
+    private static final String EMPLOYEE = "/employee-service/employees/1";
+    private static final String DEPARTMENTS = "/department-service/departments";
+    private static final String DEPARTMENT = "/department-service/departments/7";
+
+    private static final String CORRELATION_ID = "01J9ZQ3V5E8XK2M4N6P7R8S9TA";
+
+    private static final String ALICE = "{\"id\":1,\"name\":\"Alice\",\"departmentId\":7}";
+    private static final String PAGE_WITH_IT = "{\"content\":[{\"id\":3,\"name\":\"Sales\"},{\"id\":7,\"name\":\"IT\"}]}";
+    private static final String PAGE_WITHOUT_IT = "{\"content\":[{\"id\":3,\"name\":\"Sales\"}]}";
+
+    private final Map<String, Function<ClientRequest, Mono<ClientResponse>>> downstream = new ConcurrentHashMap<>();
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+
+    private final WebTestClient client = WebTestClient.bindToController(new EmployeeViewController(
+                    new CompositionProperties("http://gateway", Duration.ofSeconds(2), Duration.ofMillis(500),
+                            Duration.ofMillis(100), 100),
+                    WebClient.builder().exchangeFunction(request -> {
+                        requests.add(request);
+                        return downstream.get(request.url().getPath()).apply(request);
+                    }),
+                    new SimpleMeterRegistry()))
+            .build();
+
+    @Test
+    void legsRunInParallelAndTheDepartmentComesFromTheList() {
+        // Neither leg answers before the other one was sent
+        AtomicInteger started = new AtomicInteger();
+        Sinks.Empty<Void> bothStarted = Sinks.empty();
+        Function<String, Function<ClientRequest, Mono<ClientResponse>>> afterBoth = body -> request -> {
+            if (started.incrementAndGet() == 2) {
+                bothStarted.tryEmitEmpty();
+            }
+            return bothStarted.asMono().then(Mono.just(json(HttpStatus.OK, body)));
+        };
+        downstream.put(EMPLOYEE, afterBoth.apply(ALICE));
+        downstream.put(DEPARTMENTS, afterBoth.apply(PAGE_WITH_IT));
+
+        view().expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.employee.name").isEqualTo("Alice")
+                .jsonPath("$.department.name").isEqualTo("IT")
+                .jsonPath("$.departments.length()").isEqualTo(2)
+                .jsonPath("$.errors").doesNotExist();
+
+        assertEquals(List.of(EMPLOYEE, DEPARTMENTS), paths());
+        assertEquals("includeDepartment=false", requests.get(0).url().getQuery());
+        assertEquals("size=100", requests.get(1).url().getQuery());
+    }
+
+    @Test
+    void legsCarryTheirBudgetAndTheCallersCredentials() {
+        respond(EMPLOYEE, HttpStatus.OK, ALICE);
+        respond(DEPARTMENTS, HttpStatus.OK, PAGE_WITH_IT);
+
+        client.get().uri("/api/views/employee/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                .header("X-Correlation-Id", CORRELATION_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Correlation-Id", CORRELATION_ID);
+
+        for (ClientRequest request : requests) {
+            assertEquals("Bearer token", request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+            assertEquals(CORRELATION_ID, request.headers().getFirst("X-Correlation-Id"));
+        }
+        assertEquals("2000", requests.get(0).headers().getFirst("X-Request-Timeout"));
+        assertEquals("100", requests.get(1).headers().getFirst("X-Request-Timeout"));
+    }
+
+    @Test
+    void slowListLegTimesOutAndTheDepartmentIsFetchedAlone() {
+        respond(EMPLOYEE, HttpStatus.OK, ALICE);
+        downstream.put(DEPARTMENTS, request -> Mono.never());
+        respond(DEPARTMENT, HttpStatus.OK, "{\"id\":7,\"name\":\"IT\"}");
+
+        view().expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.department.name").isEqualTo("IT")
+                .jsonPath("$.departments").isEmpty()
+                .jsonPath("$.errors.departments.status").isEqualTo(504)
+                .jsonPath("$.errors.departments.reason").isEqualTo("timeout after 100ms")
+                .jsonPath("$.errors.department").doesNotExist();
+
+        assertEquals(List.of(EMPLOYEE, DEPARTMENTS, DEPARTMENT), paths());
+    }
+
+    @Test
+    void failedDepartmentLegIsReportedAndTheViewStillReturned() {
+        respond(EMPLOYEE, HttpStatus.OK, ALICE);
+        respond(DEPARTMENTS, HttpStatus.OK, PAGE_WITHOUT_IT);
+        respond(DEPARTMENT, HttpStatus.SERVICE_UNAVAILABLE, "{}");
+
+        view().expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.employee.name").isEqualTo("Alice")
+                .jsonPath("$.department").isEmpty()
+                .jsonPath("$.departments.length()").isEqualTo(1)
+                .jsonPath("$.errors.department.status").isEqualTo(503)
+                .jsonPath("$.errors.department.reason").isEqualTo("status 503")
+                .jsonPath("$.errors.departments").doesNotExist();
+    }
+
+    @Test
+    void failedEmployeeLegSetsTheStatus() {
+        respond(EMPLOYEE, HttpStatus.NOT_FOUND, "{}");
+        respond(DEPARTMENTS, HttpStatus.OK, PAGE_WITH_IT);
+
+        view().expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.employee").isEmpty()
+                .jsonPath("$.department").isEmpty()
+                .jsonPath("$.errors.employee.status").isEqualTo(404);
+
+        assertEquals(List.of(EMPLOYEE, DEPARTMENTS), paths());
+    }
+
+    @Test
+    void unreachableEmployeeIsABadGateway() {
+        downstream.put(EMPLOYEE, request -> Mono.error(new IllegalStateException("connection refused")));
+        respond(DEPARTMENTS, HttpStatus.OK, PAGE_WITH_IT);
+
+        view().expectStatus().isEqualTo(HttpStatus.BAD_GATEWAY)
+                .expectBody()
+                .jsonPath("$.errors.employee.reason").isEqualTo("unavailable")
+                .jsonPath("$.departments.length()").isEqualTo(2);
+    }
+
+    private WebTestClient.ResponseSpec view() {
+        return client.get().uri("/api/views/employee/1").exchange();
+    }
+
+    private void respond(String path, HttpStatus status, String body) {
+        downstream.put(path, request -> Mono.just(json(status, body)));
+    }
+
+    private List<String> paths() {
+        return requests.stream().map(request -> request.url().getPath()).toList();
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
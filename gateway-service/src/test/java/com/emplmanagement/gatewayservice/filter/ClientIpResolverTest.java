@@ -0,0 +1,68 @@
+package com.emplmanagement.gatewayservice.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClientIpResolverTest {
+
+    private static final ClientIpResolver NO_PROXIES = new ClientIpResolver(new ClientIpProperties(List.of()));
+    private static final ClientIpResolver BEHIND_PROXY =
+            new ClientIpResolver(new ClientIpProperties(List.of("10.0.0.0/8", " ")));
+
+    @Test
+    void forwardingHeadersAreIgnoredWithoutTrustedProxies() {
+        MockServerHttpRequest request = from("203.0.113.7")
+                .header("X-Forwarded-For", "198.51.100.1")
+                .header("X-Real-IP", "198.51.100.2")
+                .build();
+        assertEquals("203.0.113.7", NO_PROXIES.resolve(request));
+    }
+
+    @Test
+    void forwardingHeadersAreIgnoredFromUntrustedPeers() {
+        MockServerHttpRequest request = from("203.0.113.7").header("X-Forwarded-For", "198.51.100.1").build();
+        assertEquals("203.0.113.7", BEHIND_PROXY.resolve(request));
+    }
+
+    @Test
+    void firstUntrustedHopFromTheRightIsTheClient() {
+        // The client prepended a forged entry; the trusted proxies appended the real peers
+        MockServerHttpRequest request = from("10.0.0.2")
+                .header("X-Forwarded-For", "1.2.3.4, 198.51.100.1, 10.0.0.1")
+                .build();
+        assertEquals("198.51.100.1", BEHIND_PROXY.resolve(request));
+    }
+
+    @Test
+    void repeatedForwardedForHeadersAreOneList() {
+        MockServerHttpRequest request = from("10.0.0.2")
+                .header("X-Forwarded-For", "198.51.100.1")
+                .header("X-Forwarded-For", "10.0.0.1")
+                .build();
+        assertEquals("198.51.100.1", BEHIND_PROXY.resolve(request));
+    }
+
+    @Test
+    void malformedHopStopsTheWalk() {
+        MockServerHttpRequest request = from("10.0.0.2")
+                .header("X-Forwarded-For", "evil.example, 10.0.0.1")
+                .build();
+        assertEquals("10.0.0.1", BEHIND_PROXY.resolve(request));
+    }
+
+    @Test
+    void realIpIsUsedFromTrustedPeersWithoutForwardedFor() {
+        MockServerHttpRequest request = from("10.0.0.2").header("X-Real-IP", "198.51.100.1").build();
+        assertEquals("198.51.100.1", BEHIND_PROXY.resolve(request));
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> from(String remote) {
+        return MockServerHttpRequest.get("/employee-service/employees")
+                .remoteAddress(new InetSocketAddress(remote, 40000));
+    }
+}
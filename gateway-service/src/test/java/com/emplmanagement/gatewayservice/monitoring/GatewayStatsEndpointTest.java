@@ -0,0 +1,80 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import com.emplmanagement.gatewayservice.cache.ResponseCache;
+import com.emplmanagement.gatewayservice.cache.ResponseCacheProperties;
+import com.emplmanagement.gatewayservice.monitoring.RollingLatencyWindow.WindowStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static com.emplmanagement.gatewayservice.monitoring.InstanceHealthTest.PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GatewayStatsEndpointTest {
+
+    private final RouteTemplateResolver routeTemplates = new RouteTemplateResolver(List.of());
+    private final HealthMonitorService healthMonitor = new HealthMonitorService(3);
+    private final GatewayStatsEndpoint endpoint = new GatewayStatsEndpoint(healthMonitor,
+            new InstanceHealthRegistry(PROPERTIES, new SimpleMeterRegistry(), Duration.ofSeconds(10), Duration.ofSeconds(1)),
+            new ResponseCache(new ResponseCacheProperties(true, List.of("/employee-service/employees/**"), List.of(),
+                    DataSize.ofKilobytes(2), DataSize.ofKilobytes(1), Duration.ofMinutes(5)), new SimpleMeterRegistry()));
+
+    @Test
+    void percentilesArePerRouteTemplateAndService() {
+        for (int id = 1; id <= 100; id++) {
+            request("GET", "/employee-service/employees/" + id, "employee-service", Duration.ofMillis(id), false);
+        }
+        request("GET", "/department-service/departments/7", "department-service", Duration.ofMillis(400), true);
+
+        Map<String, Map<String, WindowStats>> routes = section("routes");
+        assertEquals(List.of("GET /department-service/departments/{id}", "GET /employee-service/employees/{id}"),
+                List.copyOf(routes.keySet()));
+        WindowStats employees = routes.get("GET /employee-service/employees/{id}").get("1m");
+        assertEquals(100, employees.requests());
+        assertEquals(50.0, employees.p50Ms(), 0.1);
+        assertEquals(99.0, employees.p99Ms(), 0.1);
+        assertEquals(List.of("1m", "5m", "15m"),
+                List.copyOf(routes.get("GET /employee-service/employees/{id}").keySet()));
+
+        WindowStats departments = section("services").get("department-service").get("15m");
+        assertEquals(1, departments.errors());
+        assertEquals(100.0, departments.errorRate());
+        assertEquals(400.0, departments.maxMs(), 0.5);
+
+        Map<String, Object> statistics = endpoint.statistics();
+        assertEquals(101L, statistics.get("requestCount"));
+        assertTrue(statistics.containsKey("instances"));
+        assertTrue(statistics.containsKey("responseCache"));
+    }
+
+    @Test
+    void routesPastTheLimitShareTheOtherBucket() {
+        request("GET", "/employee-service/employees", "employee-service", Duration.ofMillis(5), false);
+        request("GET", "/employee-service/employees/1", "employee-service", Duration.ofMillis(5), false);
+        request("POST", "/employee-service/employees", "employee-service", Duration.ofMillis(5), false);
+        request("DELETE", "/employee-service/employees/2", "employee-service", Duration.ofMillis(5), false);
+        request("PUT", "/employee-service/employees/3", "employee-service", Duration.ofMillis(5), false);
+        // Routes already tracked keep their own window
+        request("GET", "/employee-service/employees/4", "employee-service", Duration.ofMillis(5), false);
+
+        Map<String, Map<String, WindowStats>> routes = section("routes");
+        assertEquals(List.of("GET /employee-service/employees", "GET /employee-service/employees/{id}",
+                HealthMonitorService.OTHER_ROUTE, "POST /employee-service/employees"), List.copyOf(routes.keySet()));
+        assertEquals(2, routes.get(HealthMonitorService.OTHER_ROUTE).get("1m").requests());
+        assertEquals(2, routes.get("GET /employee-service/employees/{id}").get("1m").requests());
+    }
+
+    private void request(String method, String path, String service, Duration latency, boolean error) {
+        healthMonitor.recordRequest(method + " " + routeTemplates.resolve(path), service, latency.toNanos(), error);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, WindowStats>> section(String name) {
+        return (Map<String, Map<String, WindowStats>>) endpoint.statistics().get(name);
+    }
+}
@@ -0,0 +1,143 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.emplmanagement.gatewayservice.monitoring.InstanceHealthTest.PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstanceHealthRegistryTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+    private static final long T0 = 1_000 * SECOND;
+
+    private final InstanceHealthRegistry registry = new InstanceHealthRegistry(PROPERTIES, new SimpleMeterRegistry(),
+            Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+    @Test
+    void failingProbesEjectAndFilterTheInstance() {
+        List<ServiceInstance> instances = instances(3);
+        List<InstanceHealth> health = sync(instances);
+        failProbes(health.get(1));
+
+        registry.evaluate(T0);
+
+        assertEquals(List.of(InstanceHealth.State.HEALTHY, InstanceHealth.State.EJECTED, InstanceHealth.State.HEALTHY),
+                states(health));
+        assertEquals(List.of(instances.get(0), instances.get(2)), registry.filter("employee-service", instances));
+        assertTrue(registry.hasAvailableInstance("EMPLOYEE-SERVICE"));
+    }
+
+    @Test
+    void highErrorRateEjects() {
+        List<InstanceHealth> health = sync(instances(2));
+        traffic(health.get(0), 10, Duration.ofMillis(10), false);
+        traffic(health.get(1), 10, Duration.ofMillis(10), true);
+        registry.evaluate(T0);
+        // The error rate EWMA is still 0.3
+        assertEquals(InstanceHealth.State.HEALTHY, health.get(1).state());
+
+        traffic(health.get(1), 10, Duration.ofMillis(10), true);
+        registry.evaluate(T0 + SECOND);
+
+        assertEquals(List.of(InstanceHealth.State.HEALTHY, InstanceHealth.State.EJECTED), states(health));
+    }
+
+    @Test
+    void latencyOutlierAgainstThePeerMedianEjects() {
+        List<InstanceHealth> health = sync(instances(4));
+        traffic(health.get(0), 5, Duration.ofMillis(10), false);
+        traffic(health.get(1), 5, Duration.ofMillis(12), false);
+        traffic(health.get(2), 5, Duration.ofMillis(150), false);
+        traffic(health.get(3), 5, Duration.ofMillis(500), false);
+
+        registry.evaluate(T0);
+
+        // The median is 150ms: 500ms is above three times it, 150ms is under the 200ms floor
+        assertEquals(List.of(InstanceHealth.State.HEALTHY, InstanceHealth.State.HEALTHY,
+                InstanceHealth.State.HEALTHY, InstanceHealth.State.EJECTED), states(health));
+    }
+
+    @Test
+    void atMostMaxEjectionPercentIsEjected() {
+        List<InstanceHealth> health = sync(instances(4));
+        health.forEach(this::failProbes);
+
+        registry.evaluate(T0);
+        registry.evaluate(T0 + SECOND);
+
+        assertEquals(2, states(health).stream().filter(InstanceHealth.State.EJECTED::equals).count());
+    }
+
+    @Test
+    void lastInstanceIsNeverEjected() {
+        List<InstanceHealth> single = sync(instances(1));
+        failProbes(single.get(0));
+
+        registry.evaluate(T0);
+
+        assertEquals(InstanceHealth.State.HEALTHY, single.get(0).state());
+    }
+
+    @Test
+    void filterFailsOpenWhenEverythingOfferedIsEjected() {
+        List<ServiceInstance> instances = instances(2);
+        List<InstanceHealth> health = sync(instances);
+        failProbes(health.get(0));
+        registry.evaluate(T0);
+
+        List<ServiceInstance> ejectedOnly = List.of(instances.get(0));
+        assertEquals(ejectedOnly, registry.filter("employee-service", ejectedOnly));
+    }
+
+    @Test
+    void evaluationRampsARecoveringInstanceBackIn() {
+        List<InstanceHealth> health = sync(instances(2));
+        failProbes(health.get(0));
+        registry.evaluate(T0);
+        health.get(0).onProbeResult(true, 0, T0 + 30 * SECOND, PROPERTIES);
+
+        registry.evaluate(T0 + 60 * SECOND);
+        assertEquals(InstanceHealth.State.RECOVERING, health.get(0).state());
+        assertEquals(0.5, health.get(0).weight(), 1e-9);
+
+        registry.evaluate(T0 + 90 * SECOND);
+        assertEquals(InstanceHealth.State.HEALTHY, health.get(0).state());
+    }
+
+    private List<InstanceHealth> sync(List<ServiceInstance> instances) {
+        registry.sync("EMPLOYEE-SERVICE", instances);
+        return instances.stream().map(registry::track).toList();
+    }
+
+    private static List<ServiceInstance> instances(int count) {
+        return IntStream.rangeClosed(1, count)
+                .<ServiceInstance>mapToObj(i -> new DefaultServiceInstance("employee-" + i, "EMPLOYEE-SERVICE",
+                        "10.0.0." + i, 8080, false))
+                .toList();
+    }
+
+    private static List<InstanceHealth.State> states(List<InstanceHealth> health) {
+        return health.stream().map(InstanceHealth::state).toList();
+    }
+
+    private void failProbes(InstanceHealth health) {
+        for (int i = 0; i < PROPERTIES.failureThreshold(); i++) {
+            health.onProbeResult(false, 0, T0, PROPERTIES);
+        }
+    }
+
+    private static void traffic(InstanceHealth health, int requests, Duration latency, boolean error) {
+        for (int i = 0; i < requests; i++) {
+            health.start();
+            health.end(latency.toNanos(), error);
+        }
+    }
+}
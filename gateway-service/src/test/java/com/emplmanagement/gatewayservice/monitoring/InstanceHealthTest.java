@@ -0,0 +1,204 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import com.emplmanagement.common.loadbalancer.PeakEwma;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstanceHealthTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+    private static final long T0 = 1_000 * SECOND;
+
+    static final HealthProbeProperties PROPERTIES = new HealthProbeProperties(
+            List.of("employee-service"), "/actuator/health", Duration.ofSeconds(2),
+            Duration.ofSeconds(2), Duration.ofSeconds(30), 0.0, 16,
+            3, 0.5, 10,
+            3.0, Duration.ofMillis(200),
+            Duration.ofSeconds(30), 50, Duration.ofSeconds(60));
+
+    private final InstanceHealth health = instance("10.0.0.1", 8080);
+
+    @Test
+    void consecutiveProbeFailuresCountUntilASuccess() {
+        probe(false, T0);
+        probe(false, T0);
+        assertFalse(health.hasProbeFailures(PROPERTIES));
+
+        probe(false, T0);
+        assertTrue(health.hasProbeFailures(PROPERTIES));
+
+        probe(true, T0);
+        assertFalse(health.hasProbeFailures(PROPERTIES));
+    }
+
+    @Test
+    void errorRateNeedsMinRequestsInTheWindow() {
+        traffic(9, 9);
+        health.foldTraffic();
+        assertFalse(health.hasHighErrorRate(PROPERTIES));
+
+        traffic(1, 1);
+        health.foldTraffic();
+        assertTrue(health.hasHighErrorRate(PROPERTIES));
+    }
+
+    @Test
+    void requestsOlderThanTheWindowNoLongerCount() {
+        traffic(4, 4);
+        health.foldTraffic();
+        traffic(3, 3);
+        health.foldTraffic();
+        traffic(3, 3);
+        health.foldTraffic();
+        assertTrue(health.hasHighErrorRate(PROPERTIES));
+
+        // An idle tick leaves the error rate as it was but pushes the oldest requests out
+        health.foldTraffic();
+        assertFalse(health.hasHighErrorRate(PROPERTIES));
+        assertEquals(1 - 0.657, health.score(), 1e-9);
+    }
+
+    @Test
+    void lowErrorRateIsNotEjectable() {
+        traffic(100, 10);
+        health.foldTraffic();
+
+        assertFalse(health.hasHighErrorRate(PROPERTIES));
+        assertEquals(0.97, health.score(), 1e-9);
+    }
+
+    @Test
+    void latencyIsLiveTrafficWhenThereIsAny() {
+        health.onProbeResult(true, Duration.ofMillis(40).toNanos(), T0, PROPERTIES);
+        assertEquals(40.0, health.latencyMs(), 1e-9);
+
+        health.end(Duration.ofMillis(300).toNanos(), false);
+        health.end(Duration.ofMillis(100).toNanos(), false);
+        health.foldTraffic();
+        assertEquals(200.0, health.latencyMs(), 1e-9);
+    }
+
+    @Test
+    void ejectionClearsTrafficStatistics() {
+        traffic(20, 20);
+        health.foldTraffic();
+
+        health.eject(T0, PROPERTIES);
+
+        assertEquals(InstanceHealth.State.EJECTED, health.state());
+        assertEquals(0.0, health.weight());
+        assertEquals(0.0, health.score());
+        assertFalse(health.hasHighErrorRate(PROPERTIES));
+    }
+
+    @Test
+    void passingProbeBeforeTheEjectionTimeKeepsTheInstanceOut() {
+        health.eject(T0, PROPERTIES);
+
+        probe(true, T0 + 29 * SECOND);
+        assertEquals(InstanceHealth.State.EJECTED, health.state());
+
+        probe(false, T0 + 30 * SECOND);
+        assertEquals(InstanceHealth.State.EJECTED, health.state());
+
+        probe(true, T0 + 31 * SECOND);
+        assertEquals(InstanceHealth.State.RECOVERING, health.state());
+        assertEquals(0.1, health.weight());
+    }
+
+    @Test
+    void ejectionTimeGrowsWithRepeatedEjectionsUpToFiveTimes() {
+        long now = T0;
+        for (int ejection = 1; ejection <= 7; ejection++) {
+            health.eject(now, PROPERTIES);
+            long ejectionTime = 30 * SECOND * Math.min(ejection, 5);
+
+            probe(true, now + ejectionTime - 1);
+            assertEquals(InstanceHealth.State.EJECTED, health.state(), "ejection " + ejection);
+            probe(true, now + ejectionTime);
+            assertEquals(InstanceHealth.State.RECOVERING, health.state(), "ejection " + ejection);
+
+            now += ejectionTime;
+        }
+    }
+
+    @Test
+    void slowStartRampsTheWeightBackToHealthy() {
+        health.eject(T0, PROPERTIES);
+        long recovered = T0 + 30 * SECOND;
+        probe(true, recovered);
+
+        health.updateWeight(recovered + 3 * SECOND, PROPERTIES);
+        assertEquals(0.1, health.weight());
+
+        health.updateWeight(recovered + 30 * SECOND, PROPERTIES);
+        assertEquals(InstanceHealth.State.RECOVERING, health.state());
+        assertEquals(0.5, health.weight(), 1e-9);
+        assertEquals(0.5, health.score(), 1e-9);
+
+        health.updateWeight(recovered + 60 * SECOND, PROPERTIES);
+        assertEquals(InstanceHealth.State.HEALTHY, health.state());
+        assertEquals(1.0, health.weight());
+    }
+
+    @Test
+    void fullRecoveryForgivesOneEjection() {
+        health.eject(T0, PROPERTIES);
+        probe(true, T0 + 30 * SECOND);
+        health.eject(T0 + 31 * SECOND, PROPERTIES);
+        long recovered = T0 + 91 * SECOND;
+        probe(true, recovered);
+        health.updateWeight(recovered + 60 * SECOND, PROPERTIES);
+        assertEquals(InstanceHealth.State.HEALTHY, health.state());
+
+        // Two ejections, one forgiven: the next one lasts twice the base time again
+        long now = recovered + 61 * SECOND;
+        health.eject(now, PROPERTIES);
+        probe(true, now + 60 * SECOND - 1);
+        assertEquals(InstanceHealth.State.EJECTED, health.state());
+        probe(true, now + 60 * SECOND);
+        assertEquals(InstanceHealth.State.RECOVERING, health.state());
+    }
+
+    @Test
+    void healthyInstancesAreProbedLessOften() {
+        assertTrue(health.tryStartProbe(T0));
+        health.onProbeResult(true, 0, T0, PROPERTIES);
+        health.probeFinished();
+
+        // 2s grows by half to 3s
+        assertFalse(health.tryStartProbe(T0 + 3 * SECOND - 1));
+        assertTrue(health.tryStartProbe(T0 + 3 * SECOND));
+        assertFalse(health.tryStartProbe(T0 + 3 * SECOND), "one probe at a time");
+        health.onProbeResult(false, 0, T0 + 3 * SECOND, PROPERTIES);
+        health.probeFinished();
+
+        // A failure drops back to the minimum interval
+        assertTrue(health.tryStartProbe(T0 + 5 * SECOND));
+    }
+
+    static InstanceHealth instance(String host, int port) {
+        String key = host + ":" + port;
+        return new InstanceHealth("employee-service", key,
+                new DefaultServiceInstance(key, "employee-service", host, port, false),
+                new PeakEwma(key, Duration.ofSeconds(10), Duration.ofSeconds(1)), T0, PROPERTIES);
+    }
+
+    private void probe(boolean success, long now) {
+        health.onProbeResult(success, Duration.ofMillis(5).toNanos(), now, PROPERTIES);
+    }
+
+    private void traffic(int requests, int errors) {
+        for (int i = 0; i < requests; i++) {
+            health.start();
+            health.end(Duration.ofMillis(10).toNanos(), i < errors);
+        }
+    }
+}
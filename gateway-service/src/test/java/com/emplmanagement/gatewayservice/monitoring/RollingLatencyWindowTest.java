@@ -0,0 +1,94 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import com.emplmanagement.gatewayservice.monitoring.RollingLatencyWindow.WindowStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RollingLatencyWindowTest {
+
+    private static final long SLOT = RollingLatencyWindow.SLOT_NANOS;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SLOT);
+    private final RollingLatencyWindow window = new RollingLatencyWindow(clock::get);
+
+    @Test
+    void percentilesComeFromTheFullDistribution() {
+        for (int ms = 1; ms <= 1000; ms++) {
+            window.record(Duration.ofMillis(ms).toNanos(), ms % 10 == 0);
+        }
+
+        WindowStats stats = window.snapshot(Duration.ofMinutes(1));
+
+        assertEquals(1000, stats.requests());
+        assertEquals(100, stats.errors());
+        assertEquals(10.0, stats.errorRate(), 1e-9);
+        assertEquals(500.0, stats.p50Ms(), 0.5);
+        assertEquals(990.0, stats.p99Ms(), 1.0);
+        assertEquals(999.0, stats.p999Ms(), 1.0);
+        assertEquals(1000.0, stats.maxMs(), 1.0);
+    }
+
+    @Test
+    void windowIsRoundedUpToWholeSlots() {
+        record(Duration.ofMillis(10), true);
+        clock.addAndGet(SLOT);
+        record(Duration.ofMillis(20), false);
+
+        assertStats(1, 0, window.snapshot(Duration.ofSeconds(1)));
+        assertStats(1, 0, window.snapshot(Duration.ofSeconds(15)));
+        assertStats(2, 1, window.snapshot(Duration.ofSeconds(16)));
+        assertStats(2, 1, window.snapshot(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void slotsAgeOutOfEachWindow() {
+        record(Duration.ofMillis(10), true);
+
+        clock.addAndGet(4 * SLOT);
+        assertStats(0, 0, window.snapshot(Duration.ofMinutes(1)));
+        assertStats(1, 1, window.snapshot(Duration.ofMinutes(5)));
+
+        clock.addAndGet((RollingLatencyWindow.SLOTS - 5) * SLOT);
+        assertStats(1, 1, window.snapshot(Duration.ofMinutes(15)));
+
+        clock.addAndGet(SLOT);
+        assertStats(0, 0, window.snapshot(Duration.ofMinutes(15)));
+        assertEquals(1, window.totalRequests());
+        assertEquals(1, window.totalErrors());
+    }
+
+    @Test
+    void idleGapLongerThanTheRingClearsEverySlot() {
+        record(Duration.ofMillis(10), false);
+        for (int slot = 1; slot < RollingLatencyWindow.SLOTS; slot++) {
+            clock.addAndGet(SLOT);
+            record(Duration.ofMillis(10), false);
+        }
+        assertStats(RollingLatencyWindow.SLOTS, 0, window.snapshot(Duration.ofMinutes(15)));
+
+        clock.addAndGet(3 * RollingLatencyWindow.SLOTS * SLOT + SLOT / 2);
+        record(Duration.ofMillis(30), false);
+
+        WindowStats stats = window.snapshot(Duration.ofMinutes(15));
+        assertStats(1, 0, stats);
+        assertEquals(30.0, stats.p50Ms(), 0.1);
+    }
+
+    @Test
+    void emptyWindowHasNoPercentiles() {
+        assertEquals(new WindowStats(0, 0, 0.0, 0.0, 0.0, 0.0, 0.0), window.snapshot(Duration.ofMinutes(1)));
+    }
+
+    private void record(Duration latency, boolean error) {
+        window.record(latency.toNanos(), error);
+    }
+
+    private static void assertStats(long requests, long errors, WindowStats stats) {
+        assertEquals(requests, stats.requests(), "requests");
+        assertEquals(errors, stats.errors(), "errors");
+    }
+}
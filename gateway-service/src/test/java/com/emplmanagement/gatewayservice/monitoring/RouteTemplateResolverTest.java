@@ -0,0 +1,39 @@
+package com.emplmanagement.gatewayservice.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteTemplateResolverTest {
+
+    private final RouteTemplateResolver resolver = new RouteTemplateResolver(List.of(
+            " /employee-service/employees/{id} ", "/employee-service/employees/search", "",
+            "/department-service/departments/**"));
+
+    @Test
+    void configuredTemplatesWinMostSpecificFirst() {
+        assertEquals("/employee-service/employees/{id}", resolver.resolve("/employee-service/employees/42"));
+        assertEquals("/employee-service/employees/search", resolver.resolve("/employee-service/employees/search"));
+        assertEquals("/department-service/departments/**", resolver.resolve("/department-service/departments/7/employees"));
+    }
+
+    @Test
+    void otherPathsHaveTheirIdSegmentsReplaced() {
+        assertEquals("/employee-service/employees/{id}/history/{id}",
+                resolver.resolve("/employee-service/employees/1/history/2"));
+        assertEquals("/orders/{id}",
+                resolver.resolve("/orders/123e4567-e89b-12d3-a456-426614174000"));
+        assertEquals("/sessions/{id}", resolver.resolve("/sessions/a1b2c3d4e5f6g7h8i9"));
+    }
+
+    @Test
+    void wordsAreKept() {
+        assertEquals("/actuator/health", resolver.resolve("/actuator/health"));
+        assertEquals("/reports/quarterly-summary-report", resolver.resolve("/reports/quarterly-summary-report"));
+        assertEquals("/v2/items/", resolver.resolve("/v2/items/"));
+        assertEquals("/", resolver.resolve("/"));
+        assertEquals("/", RouteTemplateResolver.normalize(""));
+    }
+}
@@ -0,0 +1,166 @@
+package com.emplmanagement.gatewayservice.ratelimit;
+
+import com.emplmanagement.gatewayservice.ratelimit.TokenBucketLimiter.Decision;
+import com.emplmanagement.gatewayservice.ratelimit.TokenBucketLimiter.Limit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    // Arbitrary fixed clock reading; the limiter only needs it to be positive
+    private static final long NOW = 1_000 * SECOND;
+
+    private final TokenBucketLimiter limiter = new TokenBucketLimiter(1_000, 4);
+
+    @Test
+    void burstIsExactlyTheCapacity() {
+        Limit limit = new Limit(5, 1);
+
+        for (int remaining = 4; remaining >= 0; remaining--) {
+            Decision decision = limiter.tryAcquire("caller", limit, NOW);
+            assertTrue(decision.allowed());
+            assertEquals(remaining, decision.remaining());
+        }
+        Decision rejected = limiter.tryAcquire("caller", limit, NOW);
+
+        assertFalse(rejected.allowed());
+        assertEquals(5, rejected.limit());
+        assertEquals(SECOND, rejected.retryAfterNanos());
+        assertEquals(5 * SECOND, rejected.resetNanos());
+    }
+
+    @Test
+    void tokensComeBackAtTheRefillRate() {
+        Limit limit = new Limit(2, 4);
+        limiter.tryAcquire("caller", limit, NOW);
+        limiter.tryAcquire("caller", limit, NOW);
+
+        assertFalse(limiter.tryAcquire("caller", limit, NOW + SECOND / 4 - 1).allowed());
+        assertTrue(limiter.tryAcquire("caller", limit, NOW + SECOND / 4).allowed());
+        assertFalse(limiter.tryAcquire("caller", limit, NOW + SECOND / 4).allowed());
+    }
+
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        Limit limit = new Limit(1, 1);
+
+        assertTrue(limiter.tryAcquire("alice", limit, NOW).allowed());
+        assertFalse(limiter.tryAcquire("alice", limit, NOW).allowed());
+        assertTrue(limiter.tryAcquire("bob", limit, NOW).allowed());
+    }
+
+    @Test
+    void contendedKeyGrantsExactlyTheCapacity() throws Exception {
+        Limit limit = new Limit(100, 1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> granted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                granted.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < 1_000; i++) {
+                        if (limiter.tryAcquire("caller", limit, NOW).allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : granted) {
+                total += future.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(100, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void manyKeysFitInTheFixedTable() {
+        TokenBucketLimiter sized = new TokenBucketLimiter(200_000, 64);
+        Limit limit = new Limit(10, 1);
+
+        for (int i = 0; i < 150_000; i++) {
+            assertTrue(sized.tryAcquire("caller-" + i, limit, NOW).allowed());
+        }
+
+        // 2 x 200k slots over 64 stripes, each rounded down to a power of two
+        assertEquals(64 * 8192, sized.capacity());
+        assertTrue(sized.size() <= sized.capacity());
+        // Only keys whose whole probe window is active share, so a handful at most
+        assertTrue(sized.sharedBucketCount() < 150, "shared: " + sized.sharedBucketCount());
+    }
+
+    @Test
+    void idleBucketsAreReusedWithoutSharing() {
+        TokenBucketLimiter small = new TokenBucketLimiter(1, 1);
+        Limit limit = new Limit(1, 1);
+
+        // Each key arrives once its predecessors are full again, so every slot is up for reuse
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(small.tryAcquire("caller-" + i, limit, NOW + i * 2 * SECOND).allowed());
+        }
+
+        assertEquals(0, small.sharedBucketCount());
+        assertTrue(small.size() <= small.capacity());
+    }
+
+    @Test
+    void fullWindowSharesABucketAndOnlyLimitsHarder() {
+        TokenBucketLimiter small = new TokenBucketLimiter(1, 1);
+        Limit limit = new Limit(1, 1);
+
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (small.tryAcquire("caller-" + i, limit, NOW).allowed()) {
+                allowed++;
+            }
+        }
+
+        assertTrue(small.sharedBucketCount() > 0);
+        assertTrue(allowed <= small.capacity());
+    }
+
+    @Test
+    void sweepFreesFullBucketsOnly() {
+        // Far in the future, so still draining when the sweep reads the clock
+        limiter.tryAcquire("active", new Limit(1, 1), Long.MAX_VALUE / 2);
+        // Refilled within a nanosecond, so full again by then
+        Limit instant = new Limit(1, 1e9);
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire("idle-" + i, instant, 1);
+        }
+
+        assertEquals(51, limiter.size());
+        assertEquals(50, limiter.sweep());
+        assertEquals(1, limiter.size());
+        assertFalse(limiter.tryAcquire("active", new Limit(1, 1), Long.MAX_VALUE / 2).allowed());
+    }
+
+    @Test
+    void limitIsValidated() {
+        assertThrows(IllegalArgumentException.class, () -> new Limit(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Limit(1, 0));
+        assertEquals(3, new Limit(5, 2).windowSeconds());
+        assertEquals(1, new Limit(5, 100).windowSeconds());
+    }
+}
@@ -0,0 +1,86 @@
+# Bytes on the wire and CPU per request, with and without response compression (uses `hey` and the docker compose stack)
+# For each encoding the same GET is replayed through the gateway; the script reads the client-side body size from hey,
+# the bytes each container sent (/proc/net/dev) and the CPU time each JVM used (/proc/1/stat) before and after the run.
+# Usage examples:
+#   ./scripts/bench-compression.ps1 -Label h2c-gzip -Token <ACCESS_TOKEN>
+#   ./scripts/bench-compression.ps1 -Label http11-identity -Token <ACCESS_TOKEN> -Encoding identity
+#   ./scripts/bench-compression.ps1 -Label after -Url 'http://localhost:8888/department-service/departments' -Requests 5000
+
+param(
+  [Parameter(Mandatory = $true)][string]$Label,
+  [string]$Url = 'http://localhost:8888/employee-service/employees?page=0&size=100',
+  [string]$Token = '',
+  [string[]]$Encoding = @('identity', 'gzip'),
+  [int]$Requests = 10000,
+  [int]$Concurrency = 50,
+  [int]$Warmup = 1000,
+  [string[]]$Container = @('gateway-service', 'employee-service'),
+  [string]$OutFile = './target/bench/compression.csv'
+)
+
+function Ensure-ToolsInstalled {
+  foreach ($tool in @('hey', 'docker')) {
+    if (-not (Get-Command $tool -ErrorAction SilentlyContinue)) {
+      Write-Error "$tool is not installed (hey: go install github.com/rakyll/hey@latest)"
+      exit 1
+    }
+  }
+}
+
+# Total CPU time (user + system) of the container's main process, in milliseconds
+function Get-CpuMillis([string]$name) {
+  $stat = (docker exec $name cat /proc/1/stat) -replace '^.*\) ', ''
+  $fields = $stat -split ' '
+  # utime and stime are fields 14 and 15 of /proc/<pid>/stat, in clock ticks (100 Hz)
+  return ([long]$fields[11] + [long]$fields[12]) * 10
+}
+
+# Bytes sent by the container on all its interfaces except loopback
+function Get-TxBytes([string]$name) {
+  $total = [long]0
+  foreach ($line in (docker exec $name cat /proc/net/dev | Select-Object -Skip 2)) {
+    $parts = ($line.Trim() -split '[:\s]+')
+    if ($parts[0] -ne 'lo') { $total += [long]$parts[9] }
+  }
+  return $total
+}
+
+Ensure-ToolsInstalled
+
+$dir = Split-Path -Parent $OutFile
+if (-not (Test-Path $dir)) { New-Item -ItemType Directory -Path $dir | Out-Null }
+if (-not (Test-Path $OutFile)) {
+  'label,encoding,url,requests,concurrency,requests_per_sec,p50_secs,body_bytes_per_request,container,tx_bytes_per_request,cpu_ms_per_request' | Out-File -FilePath $OutFile -Encoding utf8
+}
+
+foreach ($enc in $Encoding) {
+  # An explicit Accept-Encoding stops hey's HTTP client from negotiating and inflating on its own,
+  # so Size/request is what actually crossed the wire
+  $heyArgs = @('-H', "Accept-Encoding: $enc")
+  if (-not [string]::IsNullOrWhiteSpace($Token)) {
+    $heyArgs += @('-H', "Authorization: Bearer $Token")
+  }
+
+  Write-Host "[INFO] Warming up with $Warmup requests ($enc) against $Url" -ForegroundColor Cyan
+  hey -n $Warmup -c $Concurrency @heyArgs $Url | Out-Null
+
+  $before = @{}
+  foreach ($c in $Container) { $before[$c] = @{ cpu = Get-CpuMillis $c; tx = Get-TxBytes $c } }
+
+  Write-Host "[INFO] Measuring $Requests requests at concurrency $Concurrency ($Label, $enc)" -ForegroundColor Cyan
+  $output = hey -n $Requests -c $Concurrency @heyArgs $Url | Out-String
+
+  $rps = [regex]::Match($output, 'Requests/sec:\s+([\d\.]+)').Groups[1].Value
+  $p50 = [regex]::Match($output, '50%+ in ([\d\.]+) secs').Groups[1].Value
+  $size = [regex]::Match($output, 'Size/request:\s+(\d+) bytes').Groups[1].Value
+
+  foreach ($c in $Container) {
+    $cpu = [math]::Round(((Get-CpuMillis $c) - $before[$c].cpu) / $Requests, 3)
+    $tx = [math]::Round(((Get-TxBytes $c) - $before[$c].tx) / $Requests, 0)
+    "$Label,$enc,$Url,$Requests,$Concurrency,$rps,$p50,$size,$c,$tx,$cpu" | Out-File -FilePath $OutFile -Append -Encoding utf8
+    Write-Host "[INFO] $Label/$enc $c -> $tx bytes sent/request, $cpu ms CPU/request" -ForegroundColor Green
+  }
+  Write-Host "[INFO] $Label/$enc -> $rps req/s (p50 $p50 s), $size body bytes/request at the client" -ForegroundColor Green
+}
+
+Write-Host "[INFO] Results appended to $OutFile" -ForegroundColor Green
@@ -0,0 +1,56 @@
+# HTTP throughput benchmark against the gateway (uses `hey`)
+# Run it once per build you want to compare, each with its own -Label; results are appended to a CSV.
+# Usage examples:
+#   ./scripts/bench-gateway.ps1 -Label before -Token <ACCESS_TOKEN>
+#   ./scripts/bench-gateway.ps1 -Label after -Token <ACCESS_TOKEN> -Requests 50000 -Concurrency 100
+#   ./scripts/bench-gateway.ps1 -Label after -Url http://localhost:8888/employee-service/employees?page=0
+
+param(
+  [Parameter(Mandatory = $true)][string]$Label,
+  [string]$Url = 'http://localhost:8888/department-service/departments',
+  [string]$Token = '',
+  [int]$Requests = 20000,
+  [int]$Concurrency = 50,
+  [int]$Warmup = 2000,
+  [string[]]$Header = @(),
+  [string]$OutFile = './target/bench/gateway.csv'
+)
+
+function Ensure-HeyInstalled {
+  $hey = Get-Command hey -ErrorAction SilentlyContinue
+  if (-not $hey) {
+    Write-Error "hey is not installed. Install from https://github.com/rakyll/hey (go install github.com/rakyll/hey@latest)"
+    exit 1
+  }
+}
+
+Ensure-HeyInstalled
+
+$heyArgs = @()
+if (-not [string]::IsNullOrWhiteSpace($Token)) {
+  $heyArgs += @('-H', "Authorization: Bearer $Token")
+}
+foreach ($h in $Header) {
+  $heyArgs += @('-H', $h)
+}
+
+Write-Host "[INFO] Warming up with $Warmup requests against $Url" -ForegroundColor Cyan
+hey -n $Warmup -c $Concurrency @heyArgs $Url | Out-Null
+
+Write-Host "[INFO] Measuring $Requests requests at concurrency $Concurrency ($Label)" -ForegroundColor Cyan
+$output = hey -n $Requests -c $Concurrency @heyArgs $Url | Out-String
+Write-Host $output
+
+$rps = [regex]::Match($output, 'Requests/sec:\s+([\d\.]+)').Groups[1].Value
+$p50 = [regex]::Match($output, '50%+ in ([\d\.]+) secs').Groups[1].Value
+$p99 = [regex]::Match($output, '99%+ in ([\d\.]+) secs').Groups[1].Value
+$non2xx = ([regex]::Matches($output, '\[(?!2)\d{3}\]\s+(\d+) responses') | ForEach-Object { [int]$_.Groups[1].Value } | Measure-Object -Sum).Sum
+
+$dir = Split-Path -Parent $OutFile
+if (-not (Test-Path $dir)) { New-Item -ItemType Directory -Path $dir | Out-Null }
+if (-not (Test-Path $OutFile)) {
+  'label,url,requests,concurrency,requests_per_sec,p50_secs,p99_secs,non_2xx' | Out-File -FilePath $OutFile -Encoding utf8
+}
+"$Label,$Url,$Requests,$Concurrency,$rps,$p50,$p99,$non2xx" | Out-File -FilePath $OutFile -Append -Encoding utf8
+
+Write-Host "[INFO] $Label -> $rps req/s (p50 $p50 s, p99 $p99 s, non-2xx $non2xx); appended to $OutFile" -ForegroundColor Green
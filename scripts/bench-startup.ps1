@@ -0,0 +1,89 @@
+# Startup time and memory of each service container, plain jar vs fast start (uses the docker compose stack)
+# Each container is stopped and started -Runs times. The script records the wall time until the HTTP port answers,
+# the start time Spring Boot reports in its log, and the resident memory of the JVM once started.
+# Build the images of the variant first, then run the script with a label for it:
+#   docker compose build; docker compose up -d
+#   ./scripts/bench-startup.ps1 -Label jar
+#   $env:FAST_START = 'true'; docker compose build; docker compose up -d
+#   ./scripts/bench-startup.ps1 -Label fast-start
+# Usage examples:
+#   ./scripts/bench-startup.ps1 -Label fast-start -Runs 10 -Service gateway-service
+
+param(
+  [Parameter(Mandatory = $true)][string]$Label,
+  [string[]]$Service = @('discovery-service', 'department-service', 'employee-service', 'gateway-service'),
+  [int]$Runs = 5,
+  [int]$TimeoutSeconds = 180,
+  [string]$OutFile = './target/bench/startup.csv'
+)
+
+$Ports = @{
+  'discovery-service'  = 8761
+  'department-service' = 8040
+  'employee-service'   = 8041
+  'gateway-service'    = 8888
+}
+
+function Ensure-ToolsInstalled {
+  if (-not (Get-Command docker -ErrorAction SilentlyContinue)) {
+    Write-Error "docker is not installed"
+    exit 1
+  }
+}
+
+# Any HTTP answer counts, even 401/404: the server is accepting requests
+function Test-Answering([int]$port) {
+  try {
+    Invoke-WebRequest -Uri "http://localhost:$port/" -TimeoutSec 1 -SkipHttpErrorCheck -UseBasicParsing | Out-Null
+    return $true
+  } catch {
+    return $false
+  }
+}
+
+# Resident memory of the container's main process (the JVM), in MB
+function Get-RssMb([string]$name) {
+  $line = docker exec $name cat /proc/1/status | Select-String '^VmRSS:'
+  return [math]::Round([long](($line -split '\s+')[1]) / 1024, 1)
+}
+
+Ensure-ToolsInstalled
+
+$dir = Split-Path -Parent $OutFile
+if (-not (Test-Path $dir)) { New-Item -ItemType Directory -Path $dir | Out-Null }
+if (-not (Test-Path $OutFile)) {
+  'label,service,run,ready_secs,spring_started_secs,jvm_uptime_secs,rss_mb' | Out-File -FilePath $OutFile -Encoding utf8
+}
+
+foreach ($svc in $Service) {
+  $port = $Ports[$svc]
+  $ready = @()
+  for ($run = 1; $run -le $Runs; $run++) {
+    docker compose stop $svc | Out-Null
+    $since = (Get-Date).ToUniversalTime().ToString('o')
+    $watch = [Diagnostics.Stopwatch]::StartNew()
+    docker compose start $svc | Out-Null
+
+    while (-not (Test-Answering $port)) {
+      if ($watch.Elapsed.TotalSeconds -gt $TimeoutSeconds) {
+        Write-Error "$svc did not answer on port $port within $TimeoutSeconds s"
+        exit 1
+      }
+      Start-Sleep -Milliseconds 50
+    }
+    $readySecs = [math]::Round($watch.Elapsed.TotalSeconds, 3)
+    $ready += $readySecs
+
+    # "Started XyzApplication in 1.234 seconds (process running for 1.567)"
+    $log = docker logs --since $since $svc 2>&1 | Out-String
+    $started = [regex]::Match($log, 'Started \S+ in ([\d\.]+) seconds \(process running for ([\d\.]+)\)')
+    $rss = Get-RssMb $svc
+
+    "$Label,$svc,$run,$readySecs,$($started.Groups[1].Value),$($started.Groups[2].Value),$rss" | Out-File -FilePath $OutFile -Append -Encoding utf8
+    Write-Host "[INFO] $Label $svc run $run -> answering after $readySecs s (Spring: $($started.Groups[1].Value) s), $rss MB RSS" -ForegroundColor Cyan
+  }
+  $median = ($ready | Sort-Object)[[int][math]::Floor($ready.Count / 2)]
+  Write-Host "[INFO] $Label $svc -> median $median s to answer over $Runs runs" -ForegroundColor Green
+}
+
+Write-Host "[INFO] Results appended to $OutFile" -ForegroundColor Green